@@ -0,0 +1,150 @@
+package net.jmp.demo.redis;
+
+/*
+ * (#)BenchmarkSupport.java 0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import com.esotericsoftware.kryo.Kryo;
+
+import com.google.gson.Gson;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import java.util.Set;
+
+import org.redisson.api.RedissonClient;
+
+import org.redisson.client.codec.Codec;
+
+import org.redisson.codec.Kryo5Codec;
+
+import net.jmp.demo.redis.config.Config;
+
+/**
+ * The benchmark support class. It gives the
+ * benchmarks access to the application
+ * configuration and to a Redisson client
+ * that is created the same way the
+ * application creates its client.
+ */
+public final class BenchmarkSupport {
+    /** The default configuration file name. */
+    private static final String DEFAULT_APP_CONFIG_FILE = "config/config.json";
+
+    /**
+     * A hidden constructor.
+     */
+    private BenchmarkSupport() {
+        throw new IllegalStateException("BenchmarkSupport contains only static methods");
+    }
+
+    /**
+     * Read and return the application configuration.
+     *
+     * @return  net.jmp.demo.redis.config.Config
+     */
+    public static Config getAppConfig() {
+        final String configFileName = System.getProperty("app.configurationFile", DEFAULT_APP_CONFIG_FILE);
+
+        try {
+            return new Gson().fromJson(Files.readString(Paths.get(configFileName)), Config.class);
+        } catch (final IOException ioe) {
+            throw new UncheckedIOException("Unable to read the configuration from: " + configFileName, ioe);
+        }
+    }
+
+    /**
+     * Return a new instance of the codec that
+     * the application uses for its values.
+     *
+     * @return  org.redisson.client.codec.Codec
+     */
+    public static Codec getDefaultCodec() {
+        return new CustomKryo5Codec();
+    }
+
+    /**
+     * Return a codec that registers the same classes
+     * as the default codec but encodes and decodes
+     * through Redisson's Kryo5Codec streams. It
+     * writes the same bytes, so it is the baseline
+     * that the default codec is measured against.
+     *
+     * @return  org.redisson.client.codec.Codec
+     */
+    public static Codec getStreamCodec() {
+        return new Kryo5Codec() {
+            @Override
+            protected Kryo createKryo(final ClassLoader classLoader) {
+                final Kryo kryo = super.createKryo(classLoader);
+
+                kryo.setRegistrationRequired(true);
+
+                KryoRegistrations.register(kryo, Set.of());
+
+                return kryo;
+            }
+        };
+    }
+
+    /**
+     * Connect to the Redis server named
+     * in the application configuration.
+     *
+     * @param   config  net.jmp.demo.redis.config.Config
+     * @return          org.redisson.api.RedissonClient
+     */
+    public static RedissonClient connect(final Config config) {
+        assert config != null;
+
+        final var connector = new Connector(
+                config.getRedis().getHostName(),
+                config.getRedis().getPort(),
+                config.getRedis().getProtocol(),
+                false,
+                null,
+                config.getRedis().getKryoReferenceTypes()
+        );
+
+        return connector.connect();
+    }
+
+    /**
+     * Disconnect from Redis.
+     *
+     * @param   client  org.redisson.api.RedissonClient
+     */
+    public static void disconnect(final RedissonClient client) {
+        Connector.disconnect(client);
+    }
+}
@@ -0,0 +1,150 @@
+package net.jmp.demo.redis.impl;
+
+/*
+ * (#)BoundedCacheBenchmark.java    0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import org.redisson.api.RedissonClient;
+
+import org.redisson.client.codec.StringCodec;
+
+import net.jmp.demo.redis.BenchmarkSupport;
+
+import net.jmp.demo.redis.config.BoundedCache;
+import net.jmp.demo.redis.config.Config;
+
+/**
+ * The benchmarks that measure the cost of bounding a
+ * map cache. Puts and gets spread over a key space
+ * larger than the cache, so once it is full nearly
+ * every put evicts an entry. A maximum size of zero
+ * is the unbounded baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class BoundedCacheBenchmark {
+    /** The maximum number of entries; zero for no limit. */
+    @Param({"0", "1000", "10000"})
+    private int maxSize;
+
+    /** The eviction mode. */
+    @Param({"LRU", "LFU"})
+    private String evictionMode;
+
+    /** The number of distinct keys put and read. */
+    @Param({"20000"})
+    private int keySpace;
+
+    /** The Redisson client. */
+    private RedissonClient client;
+
+    /** The bounded cache under test. */
+    private BoundedMapCache<String, String> boundedCache;
+
+    /**
+     * Connect to Redis and fill the cache once per trial.
+     */
+    @Setup(Level.Trial)
+    public void connect() {
+        final Config config = BenchmarkSupport.getAppConfig();
+        final BoundedCache boundedCacheConfig = new BoundedCache();
+
+        boundedCacheConfig.setName("bounded-cache-benchmark");
+        boundedCacheConfig.setMaxSize(this.maxSize);
+        boundedCacheConfig.setEvictionMode(this.evictionMode);
+
+        this.client = BenchmarkSupport.connect(config);
+        this.client.getMapCache(boundedCacheConfig.getName()).delete();
+        this.boundedCache = new BoundedMapCache<>(this.client, boundedCacheConfig, StringCodec.INSTANCE);
+
+        for (int i = 0; i < this.keySpace; i++) {
+            this.boundedCache.put(key(i), value(i));
+        }
+    }
+
+    /**
+     * Delete the cache and disconnect
+     * from Redis at the end of the trial.
+     */
+    @TearDown(Level.Trial)
+    public void disconnect() {
+        this.boundedCache.destroy();
+
+        BenchmarkSupport.disconnect(this.client);
+    }
+
+    /**
+     * Benchmark a put of a random key.
+     */
+    @Benchmark
+    public void put() {
+        final int i = ThreadLocalRandom.current().nextInt(this.keySpace);
+
+        this.boundedCache.put(key(i), value(i));
+    }
+
+    /**
+     * Benchmark a get of a random key.
+     *
+     * @return  java.lang.String
+     */
+    @Benchmark
+    public String get() {
+        return this.boundedCache.get(key(ThreadLocalRandom.current().nextInt(this.keySpace)));
+    }
+
+    /**
+     * Return the key of an index.
+     *
+     * @param   i   int
+     * @return      java.lang.String
+     */
+    private static String key(final int i) {
+        return "entry:" + i;
+    }
+
+    /**
+     * Return the value of an index.
+     *
+     * @param   i   int
+     * @return      java.lang.String
+     */
+    private static String value(final int i) {
+        return "value " + i;
+    }
+}
@@ -0,0 +1,417 @@
+package net.jmp.demo.redis.impl;
+
+/*
+ * (#)CodecBenchmark.java   0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+
+import com.google.gson.reflect.TypeToken;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+
+import java.lang.reflect.Type;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import org.redisson.client.codec.BaseCodec;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.codec.StringCodec;
+
+import org.redisson.client.protocol.Decoder;
+import org.redisson.client.protocol.Encoder;
+
+import org.redisson.codec.JacksonCodec;
+import org.redisson.codec.JsonCodec;
+import org.redisson.codec.LZ4Codec;
+
+import net.jmp.demo.redis.BenchmarkSupport;
+import net.jmp.demo.redis.CompressingCodec;
+
+import net.jmp.demo.redis.config.Compression;
+import net.jmp.demo.redis.config.Config;
+
+import net.jmp.demo.redis.objects.Recording;
+
+/**
+ * The benchmarks that compare the codecs the
+ * application uses on lists of configurations
+ * and recordings of increasing size, with and
+ * without compression: Redisson's LZ4 codec, which
+ * compresses every value, and the compressing
+ * codec, which compresses values from the default
+ * threshold with LZ4 or zstd. They need no Redis
+ * server. The encoded size counter reports the
+ * bytes that each value occupies in Redis; run
+ * with -prof gc for the bytes allocated per
+ * operation, for example:
+ *   gradle jmh -PjmhArgs="CodecBenchmark -prof gc"
+ * The string codec encodes JSON rendered once at
+ * setup, so it is the floor that the other codecs
+ * are measured against rather than a serializer.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CodecBenchmark {
+    /** The codec. */
+    @Param({"kryo", "jackson", "gson", "string"})
+    private String codecName;
+
+    /** The compression. */
+    @Param({"none", "lz4", "threshold-lz4", "threshold-zstd"})
+    private String compression;
+
+    /** The kind of object in the list. */
+    @Param({"config", "recording"})
+    private String shape;
+
+    /** The number of objects in the list. */
+    @Param({"1", "10", "100", "1000"})
+    private int size;
+
+    /** The codec under test. */
+    private Codec codec;
+
+    /** The value to encode. */
+    private Object value;
+
+    /** The encoded value to decode. */
+    private ByteBuf encoded;
+
+    /**
+     * The encoded size counter, reported once per iteration.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Size {
+        /** The encoded bytes per value. */
+        public long encodedBytes;
+
+        /**
+         * Record the encoded size at the end of an iteration.
+         *
+         * @param   benchmark   net.jmp.demo.redis.impl.CodecBenchmark
+         */
+        @TearDown(Level.Iteration)
+        public void measure(final CodecBenchmark benchmark) {
+            this.encodedBytes = benchmark.encoded.writerIndex();
+        }
+    }
+
+    /**
+     * Build the value and the codec and encode
+     * the value once for the decode benchmark.
+     *
+     * @throws  java.io.IOException When the value cannot be encoded
+     */
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        final List<?> list = "config".equals(this.shape) ? configs(this.size) : recordings(this.size);
+        final Type type = "config".equals(this.shape)
+                ? new TypeToken<List<Config>>() {}.getType()
+                : new TypeToken<List<Recording>>() {}.getType();
+
+        final Codec inner = switch (this.codecName) {
+            case "kryo" -> BenchmarkSupport.getDefaultCodec();
+            case "jackson" -> new JsonCodecAdapter("config".equals(this.shape)
+                    ? new JacksonCodec<List<Config>>(new TypeReference<>() {})
+                    : new JacksonCodec<List<Recording>>(new TypeReference<>() {}));
+            case "gson" -> new GsonCodec(type);
+            case "string" -> StringCodec.INSTANCE;
+            default -> throw new IllegalArgumentException("Unknown codec: " + this.codecName);
+        };
+
+        this.value = "string".equals(this.codecName) ? new Gson().toJson(list, type) : list;
+
+        this.codec = switch (this.compression) {
+            case "none" -> inner;
+            case "lz4" -> new LZ4Codec(inner);
+            case "threshold-lz4", "threshold-zstd" -> new CompressingCodec(inner, compression(this.compression.substring("threshold-".length())));
+            default -> throw new IllegalArgumentException("Unknown compression: " + this.compression);
+        };
+
+        this.encoded = this.codec.getValueEncoder().encode(this.value);
+    }
+
+    /**
+     * Release the encoded value at the end of the trial.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.encoded.release();
+    }
+
+    /**
+     * Benchmark encoding the value.
+     *
+     * @param   size    net.jmp.demo.redis.impl.CodecBenchmark.Size
+     * @return          int
+     * @throws          java.io.IOException When the value cannot be encoded
+     */
+    @Benchmark
+    public int encode(final Size size) throws IOException {
+        final ByteBuf buffer = this.codec.getValueEncoder().encode(this.value);
+
+        try {
+            return buffer.readableBytes();
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Benchmark decoding the value.
+     *
+     * @param   size    net.jmp.demo.redis.impl.CodecBenchmark.Size
+     * @return          java.lang.Object
+     * @throws          java.io.IOException When the value cannot be decoded
+     */
+    @Benchmark
+    public Object decode(final Size size) throws IOException {
+        this.encoded.readerIndex(0);
+
+        return this.codec.getValueDecoder().decode(this.encoded, null);
+    }
+
+    /**
+     * Return the compression configuration of
+     * the compressing codec for an algorithm.
+     *
+     * @param   algorithm   java.lang.String
+     * @return              net.jmp.demo.redis.config.Compression
+     */
+    private static Compression compression(final String algorithm) {
+        final Compression compression = new Compression();
+
+        compression.setEnabled(true);
+        compression.setAlgorithm(algorithm);
+
+        return compression;
+    }
+
+    /**
+     * Return a list of configurations read from the
+     * application configuration file. Each differs
+     * in its key prefix so that the copies do not
+     * compress better than distinct values would.
+     *
+     * @param   size    int
+     * @return          java.util.List&lt;net.jmp.demo.redis.config.Config&gt;
+     */
+    private static List<Config> configs(final int size) {
+        final List<Config> configs = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            final Config config = BenchmarkSupport.getAppConfig();
+
+            config.getKeyIds().setPrefix("tenant-" + i + ":");
+            config.getRedis().setHostName("redis-" + i + ".example.net");
+
+            configs.add(config);
+        }
+
+        return configs;
+    }
+
+    /**
+     * Return a list of distinct recordings.
+     *
+     * @param   size    int
+     * @return          java.util.List&lt;net.jmp.demo.redis.objects.Recording&gt;
+     */
+    private static List<Recording> recordings(final int size) {
+        final List<Recording> recordings = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            final Recording recording = new Recording("recording-" + i);
+
+            recording.setTitle("Title number " + i);
+            recording.setLabel("Label " + (i % 17));
+            recording.setArtists(List.of("Artist " + i, "Artist " + (i + 1), "Artist " + (i + 2)));
+            recording.setTimeInMinutes(30 + i % 50);
+            recording.setWhenRecorded(new Date(1_000_000_000_000L + i * 86_400_000L));
+
+            recordings.add(recording);
+        }
+
+        return recordings;
+    }
+
+    /**
+     * A codec that adapts the JSON codecs that JSON
+     * buckets take, such as JacksonCodec, which are
+     * not codecs in their own right.
+     */
+    static final class JsonCodecAdapter extends BaseCodec {
+        /** The JSON codec. */
+        private final JsonCodec<?> jsonCodec;
+
+        /**
+         * The constructor.
+         *
+         * @param   jsonCodec   org.redisson.codec.JsonCodec&lt;?&gt;
+         */
+        JsonCodecAdapter(final JsonCodec<?> jsonCodec) {
+            super();
+
+            this.jsonCodec = jsonCodec;
+        }
+
+        /**
+         * Return the value decoder.
+         *
+         * @return  org.redisson.client.protocol.Decoder&lt;java.lang.Object&gt;
+         */
+        @Override
+        public Decoder<Object> getValueDecoder() {
+            return this.jsonCodec.getValueDecoder();
+        }
+
+        /**
+         * Return the value encoder.
+         *
+         * @return  org.redisson.client.protocol.Encoder
+         */
+        @Override
+        public Encoder getValueEncoder() {
+            return this.jsonCodec.getValueEncoder();
+        }
+    }
+
+    /**
+     * A codec that writes values as JSON with Gson,
+     * the library that reads the configuration file.
+     */
+    static final class GsonCodec extends BaseCodec {
+        /** The Gson instance. */
+        private final Gson gson = new Gson();
+
+        /** The type of the values. */
+        private final Type type;
+
+        /** The encoder. */
+        private final Encoder encoder = this::encode;
+
+        /** The decoder. */
+        private final Decoder<Object> decoder = this::decode;
+
+        /**
+         * The constructor.
+         *
+         * @param   type    java.lang.reflect.Type
+         */
+        GsonCodec(final Type type) {
+            super();
+
+            this.type = type;
+        }
+
+        /**
+         * Return the value decoder.
+         *
+         * @return  org.redisson.client.protocol.Decoder&lt;java.lang.Object&gt;
+         */
+        @Override
+        public Decoder<Object> getValueDecoder() {
+            return this.decoder;
+        }
+
+        /**
+         * Return the value encoder.
+         *
+         * @return  org.redisson.client.protocol.Encoder
+         */
+        @Override
+        public Encoder getValueEncoder() {
+            return this.encoder;
+        }
+
+        /**
+         * Encode a value as UTF-8 JSON.
+         *
+         * @param   value   java.lang.Object
+         * @return          io.netty.buffer.ByteBuf
+         * @throws          java.io.IOException When the value cannot be written
+         */
+        private ByteBuf encode(final Object value) throws IOException {
+            final ByteBuf buffer = ByteBufAllocator.DEFAULT.buffer();
+
+            try (final Writer writer = new OutputStreamWriter(new ByteBufOutputStream(buffer), StandardCharsets.UTF_8)) {
+                this.gson.toJson(value, this.type, writer);
+            } catch (final IOException | JsonIOException e) {
+                buffer.release();
+
+                throw new IOException(e);
+            }
+
+            return buffer;
+        }
+
+        /**
+         * Decode a value from UTF-8 JSON.
+         *
+         * @param   buffer  io.netty.buffer.ByteBuf
+         * @param   state   org.redisson.client.handler.State
+         * @return          java.lang.Object
+         * @throws          java.io.IOException When the value cannot be read
+         */
+        private Object decode(final ByteBuf buffer, final org.redisson.client.handler.State state) throws IOException {
+            try (final Reader reader = new InputStreamReader(new ByteBufInputStream(buffer), StandardCharsets.UTF_8)) {
+                return this.gson.fromJson(reader, this.type);
+            } catch (final JsonIOException | JsonSyntaxException e) {
+                throw new IOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package net.jmp.demo.redis.impl;
+
+/*
+ * (#)FieldExpiryBenchmark.java 0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import org.redisson.api.RedissonClient;
+
+import org.redisson.client.codec.StringCodec;
+
+import net.jmp.demo.redis.BenchmarkSupport;
+
+import net.jmp.demo.redis.config.Config;
+import net.jmp.demo.redis.config.FieldExpiry;
+
+/**
+ * The benchmarks that compare native hash field
+ * expiry with the map cache emulation. The puts and
+ * gets measure latency; the memory counter reports
+ * the Redis bytes used per field, including the
+ * emulation's sorted sets, at the end of each
+ * iteration. The native mode needs Redis 7.4.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class FieldExpiryBenchmark {
+    /** The expiry mode. */
+    @Param({"native", "emulated"})
+    private String mode;
+
+    /** The number of distinct fields put and read. */
+    @Param({"10000"})
+    private int fieldCount;
+
+    /** The Redisson client. */
+    private RedissonClient client;
+
+    /** The map under test. */
+    private FieldExpiryMap<String> fieldExpiryMap;
+
+    /**
+     * The memory counter, reported once per iteration.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Memory {
+        /** The Redis bytes used per field. */
+        public long bytesPerField;
+
+        /**
+         * Read the memory used at the end of an iteration.
+         *
+         * @param   benchmark   net.jmp.demo.redis.impl.FieldExpiryBenchmark
+         */
+        @TearDown(Level.Iteration)
+        public void measure(final FieldExpiryBenchmark benchmark) {
+            this.bytesPerField = benchmark.fieldExpiryMap.sizeInMemory() / Math.max(1, benchmark.fieldExpiryMap.size());
+        }
+    }
+
+    /**
+     * Connect to Redis and fill the map once per trial.
+     */
+    @Setup(Level.Trial)
+    public void connect() {
+        final Config config = BenchmarkSupport.getAppConfig();
+        final FieldExpiry fieldExpiryConfig = new FieldExpiry();
+
+        fieldExpiryConfig.setName("field-expiry-benchmark");
+        fieldExpiryConfig.setMode(this.mode);
+
+        this.client = BenchmarkSupport.connect(config);
+        this.fieldExpiryMap = new FieldExpiryMap<>(this.client, fieldExpiryConfig, StringCodec.INSTANCE);
+        this.fieldExpiryMap.delete();
+
+        for (int i = 0; i < this.fieldCount; i++) {
+            this.fieldExpiryMap.put(field(i), value(i));
+        }
+    }
+
+    /**
+     * Delete the map and disconnect
+     * from Redis at the end of the trial.
+     */
+    @TearDown(Level.Trial)
+    public void disconnect() {
+        this.fieldExpiryMap.delete();
+
+        BenchmarkSupport.disconnect(this.client);
+    }
+
+    /**
+     * Benchmark a put of a random field with its time to live.
+     *
+     * @param   memory  net.jmp.demo.redis.impl.FieldExpiryBenchmark.Memory
+     */
+    @Benchmark
+    public void put(final Memory memory) {
+        final int i = ThreadLocalRandom.current().nextInt(this.fieldCount);
+
+        this.fieldExpiryMap.put(field(i), value(i));
+    }
+
+    /**
+     * Benchmark a get of a random field.
+     *
+     * @param   memory  net.jmp.demo.redis.impl.FieldExpiryBenchmark.Memory
+     * @return          java.lang.String
+     */
+    @Benchmark
+    public String get(final Memory memory) {
+        return this.fieldExpiryMap.get(field(ThreadLocalRandom.current().nextInt(this.fieldCount)));
+    }
+
+    /**
+     * Return the field of an index.
+     *
+     * @param   i   int
+     * @return      java.lang.String
+     */
+    private static String field(final int i) {
+        return "field:" + i;
+    }
+
+    /**
+     * Return the value of an index.
+     *
+     * @param   i   int
+     * @return      java.lang.String
+     */
+    private static String value(final int i) {
+        return "value " + i;
+    }
+}
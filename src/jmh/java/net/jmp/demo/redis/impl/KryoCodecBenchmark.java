@@ -0,0 +1,177 @@
+package net.jmp.demo.redis.impl;
+
+/*
+ * (#)KryoCodecBenchmark.java   0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import io.netty.buffer.ByteBuf;
+
+import java.io.IOException;
+
+import java.util.Date;
+import java.util.List;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import org.redisson.client.codec.Codec;
+
+import org.redisson.client.protocol.Decoder;
+import org.redisson.client.protocol.Encoder;
+
+import net.jmp.demo.redis.BenchmarkSupport;
+
+import net.jmp.demo.redis.objects.Recording;
+
+/**
+ * The benchmarks that compare the pooled Kryo
+ * contexts of the default codec with Redisson's
+ * Kryo5Codec streams, on the same registrations
+ * and so the same bytes. Run them with -prof gc;
+ * gc.alloc.rate.norm is the garbage per operation:
+ *   gradle jmh -PjmhArgs="KryoCodecBenchmark -prof gc"
+ * Encoding with the pooled contexts allocates
+ * nothing but the pooled buffer, which is reused,
+ * so its rate is zero for every value. Decoding
+ * allocates only the decoded value, so its rate is
+ * zero for the long, which is a cached Long, and
+ * the size of the string or recording otherwise.
+ * The stream codec allocates its streams and its
+ * pool's queue nodes on every operation as well.
+ * Netty's leak detection is turned off since it
+ * allocates a record for one buffer in every 128.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dio.netty.leakDetection.level=disabled")
+public class KryoCodecBenchmark {
+    /** The codec path. */
+    @Param({"pooled", "stream"})
+    private String path;
+
+    /** The value encoded and decoded. */
+    @Param({"long", "string", "recording"})
+    private String valueName;
+
+    /** The encoder. */
+    private Encoder encoder;
+
+    /** The decoder. */
+    private Decoder<Object> decoder;
+
+    /** The value to encode. */
+    private Object value;
+
+    /** The encoded value to decode. */
+    private ByteBuf encoded;
+
+    /**
+     * Build the value and the codec and encode
+     * the value once for the decode benchmark.
+     *
+     * @throws  java.io.IOException When the value cannot be encoded
+     */
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        final Codec codec = "pooled".equals(this.path)
+                ? BenchmarkSupport.getDefaultCodec()
+                : BenchmarkSupport.getStreamCodec();
+
+        this.encoder = codec.getValueEncoder();
+        this.decoder = codec.getValueDecoder();
+
+        this.value = switch (this.valueName) {
+            case "long" -> 42L;
+            case "string" -> "value ".repeat(20);
+            case "recording" -> recording();
+            default -> throw new IllegalArgumentException("Unknown value: " + this.valueName);
+        };
+
+        this.encoded = this.encoder.encode(this.value);
+    }
+
+    /**
+     * Release the encoded value at the end of the trial.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.encoded.release();
+    }
+
+    /**
+     * Benchmark encoding the value.
+     *
+     * @return  int
+     * @throws  java.io.IOException When the value cannot be encoded
+     */
+    @Benchmark
+    public int encode() throws IOException {
+        final ByteBuf buffer = this.encoder.encode(this.value);
+
+        try {
+            return buffer.readableBytes();
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Benchmark decoding the value.
+     *
+     * @return  java.lang.Object
+     * @throws  java.io.IOException When the value cannot be decoded
+     */
+    @Benchmark
+    public Object decode() throws IOException {
+        this.encoded.readerIndex(0);
+
+        return this.decoder.decode(this.encoded, null);
+    }
+
+    /**
+     * Return a recording.
+     *
+     * @return  net.jmp.demo.redis.objects.Recording
+     */
+    private static Recording recording() {
+        final Recording recording = new Recording("recording-1");
+
+        recording.setTitle("A title");
+        recording.setLabel("A label");
+        recording.setArtists(List.of("An artist", "Another artist"));
+        recording.setTimeInMinutes(42);
+        recording.setWhenRecorded(new Date(1_000_000_000_000L));
+
+        return recording;
+    }
+}
@@ -0,0 +1,206 @@
+package net.jmp.demo.redis.impl;
+
+/*
+ * (#)PipeliningBenchmark.java  0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import org.redisson.api.RedissonClient;
+
+import net.jmp.demo.redis.BenchmarkSupport;
+
+import net.jmp.demo.redis.config.Batch;
+import net.jmp.demo.redis.config.Config;
+import net.jmp.demo.redis.config.Pipeline;
+
+/**
+ * The benchmarks for the pipelined batch load and
+ * remove paths. Requires a running Redis server as
+ * named in the application configuration. Throughput
+ * is reported in operations per second and the sample
+ * time mode reports the p50, p99 and p999 latencies
+ * of a complete load or remove. Each parameter has
+ * a single default, that of the application, so a
+ * plain run is one trial per benchmark; sweep an
+ * axis with -p, for example -p windowSize=1,4,16.
+ * To compare the batch execution modes, with and
+ * without skipped results, sweep executionMode and
+ * skipResult; add -prof gc to compare the client
+ * allocation of each.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class PipeliningBenchmark {
+    /** The number of items to load or remove. */
+    @Param({"100789"})
+    private int itemCount;
+
+    /** The batch size. */
+    @Param({"5000"})
+    private int batchSize;
+
+    /** The minimum size of each value; zero for the natural size. */
+    @Param({"0"})
+    private int valueSize;
+
+    /** The number of batches in flight at once. */
+    @Param({"1"})
+    private int windowSize;
+
+    /** The number of concurrent producers. */
+    @Param({"1"})
+    private int producers;
+
+    /** The load mode: batch or function. */
+    @Param({"batch"})
+    private String loadMode;
+
+    /** The storage mode: keys or hash-buckets. */
+    @Param({"keys"})
+    private String storageMode;
+
+    /** True to use the reactive client. */
+    @Param({"false"})
+    private boolean reactive;
+
+    /** The batch execution mode. */
+    @Param({"IN_MEMORY"})
+    private String executionMode;
+
+    /** True to skip the replies. */
+    @Param({"false"})
+    private boolean skipResult;
+
+    /** The Redisson client. */
+    private RedissonClient client;
+
+    /** The pipelining demo under test. */
+    private Pipelining pipelining;
+
+    /** The name of the current key set. */
+    private String setName;
+
+    /**
+     * Connect to Redis once per trial and register
+     * the function library when the load mode is
+     * 'function'.
+     */
+    @Setup(Level.Trial)
+    public void connect() {
+        final Config config = BenchmarkSupport.getAppConfig();
+
+        this.client = BenchmarkSupport.connect(config);
+        final Pipeline pipeline = new Pipeline();
+        final Batch batchOptions = new Batch();
+
+        batchOptions.setExecutionMode(this.executionMode);
+        batchOptions.setSkipResult(this.skipResult);
+
+        pipeline.setBatchSize(this.batchSize);
+        pipeline.setValueSize(this.valueSize);
+        pipeline.setWindowSize(this.windowSize);
+        pipeline.setProducers(this.producers);
+        pipeline.setLoadMode(this.loadMode);
+        pipeline.setReactive(this.reactive);
+        pipeline.getStorage().setMode(this.storageMode);
+        pipeline.setBatchOptions(batchOptions);
+
+        this.pipelining = new Pipelining(config, this.client, pipeline);
+        this.pipelining.registerFunctions();
+    }
+
+    /**
+     * Disconnect from Redis at the end of the trial.
+     */
+    @TearDown(Level.Trial)
+    public void disconnect() {
+        BenchmarkSupport.disconnect(this.client);
+    }
+
+    /**
+     * Create a new key set for each invocation.
+     */
+    @Setup(Level.Invocation)
+    public void createKeySet() {
+        this.setName = this.pipelining.createKeySet();
+    }
+
+    /**
+     * Remove any remaining data and delete
+     * the key set after each invocation.
+     */
+    @TearDown(Level.Invocation)
+    public void deleteKeySet() {
+        this.pipelining.runBatchRemove(this.setName);
+        this.pipelining.deleteKeySet(this.setName);
+    }
+
+    /**
+     * Benchmark the batch load. The loaded
+     * data is removed outside the measurement.
+     */
+    @Benchmark
+    public void batchLoad() {
+        this.pipelining.runBatchLoad(this.setName, this.itemCount);
+    }
+
+    /**
+     * The state for the remove benchmark. The data
+     * is loaded outside the measurement.
+     */
+    @State(Scope.Thread)
+    public static class Loaded {
+        /**
+         * Load the key set before each invocation.
+         *
+         * @param   benchmark   net.jmp.demo.redis.impl.PipeliningBenchmark
+         */
+        @Setup(Level.Invocation)
+        public void load(final PipeliningBenchmark benchmark) {
+            benchmark.pipelining.runBatchLoad(benchmark.setName, benchmark.itemCount);
+        }
+    }
+
+    /**
+     * Benchmark the batch remove.
+     *
+     * @param   loaded  net.jmp.demo.redis.impl.PipeliningBenchmark.Loaded
+     */
+    @Benchmark
+    public void batchRemove(final Loaded loaded) {
+        this.pipelining.runBatchRemove(this.setName);
+    }
+}
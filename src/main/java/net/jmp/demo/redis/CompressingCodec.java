@@ -0,0 +1,602 @@
+package net.jmp.demo.redis;
+
+/*
+ * (#)CompressingCodec.java 0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdException;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+
+import java.io.IOException;
+
+import java.nio.ByteBuffer;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+
+import org.redisson.client.codec.BaseCodec;
+import org.redisson.client.codec.Codec;
+
+import org.redisson.client.handler.State;
+
+import org.redisson.client.protocol.Decoder;
+import org.redisson.client.protocol.Encoder;
+
+import net.jmp.demo.redis.config.Compression;
+
+/**
+ * A codec that wraps another codec and compresses
+ * the values that it encodes to at least the
+ * threshold size with LZ4 or zstd. A compressed
+ * value starts with a header byte, 0xF5 for LZ4
+ * and 0xF6 for zstd, followed by the raw length
+ * as an int; any other value is stored as the
+ * inner codec wrote it, so existing values stay
+ * readable. Neither header byte can start UTF-8
+ * text, JSON or a value of the Kryo codec with its
+ * registered identifiers. A value of some other
+ * inner codec that happens to start with one is
+ * still read correctly: it is only decompressed
+ * when its declared length is larger than the
+ * value, as compressing always made it smaller,
+ * and below the largest Redis string, and when
+ * decompressing yields exactly that length. Else
+ * it goes to the inner codec as it is. Map keys
+ * are not compressed.
+ *
+ * <p>The ratio of raw to stored bytes is kept per
+ * key prefix. Values are written under a prefix
+ * by the codec that forPrefix returns; the codec
+ * itself counts under the empty prefix. Both share
+ * the statistics, which the application logs by
+ * prefix when it finishes.
+ */
+public final class CompressingCodec extends BaseCodec {
+    /** The header of an LZ4 compressed value. */
+    static final byte LZ4 = (byte) 0xF5;
+
+    /** The header of a zstd compressed value. */
+    static final byte ZSTD = (byte) 0xF6;
+
+    /** The length of the header of a compressed value. */
+    private static final int COMPRESSED_HEADER_LENGTH = 1 + Integer.BYTES;
+
+    /** The largest raw length a compressed value can declare: that of the largest Redis string. */
+    private static final int MAX_RAW_LENGTH = 512 * 1024 * 1024;
+
+    /** The most that an LZ4 block can expand by. */
+    private static final int LZ4_MAX_RATIO = 255;
+
+    /** The LZ4 compressor. */
+    private static final LZ4Compressor LZ4_COMPRESSOR = LZ4Factory.fastestInstance().fastCompressor();
+
+    /** The LZ4 decompressor. */
+    private static final LZ4SafeDecompressor LZ4_DECOMPRESSOR = LZ4Factory.fastestInstance().safeDecompressor();
+
+    /** The inner codec. */
+    private final Codec innerCodec;
+
+    /** The header of the compression algorithm. */
+    private final byte algorithm;
+
+    /** The encoded size below which values are stored raw. */
+    private final int threshold;
+
+    /** The zstd compression level. */
+    private final int level;
+
+    /** The key prefix that this codec counts under. */
+    private final String prefix;
+
+    /** The statistics by key prefix, shared by the codecs for each prefix. */
+    private final ConcurrentMap<String, Statistics> statistics;
+
+    /** The statistics of the key prefix. */
+    private final Statistics prefixStatistics;
+
+    /** The encoder. */
+    private final Encoder encoder = this::encode;
+
+    /** The decoder. */
+    private final Decoder<Object> decoder = this::decode;
+
+    /**
+     * The constructor.
+     *
+     * @param   innerCodec  org.redisson.client.codec.Codec
+     * @param   compression net.jmp.demo.redis.config.Compression
+     */
+    public CompressingCodec(final Codec innerCodec, final Compression compression) {
+        this(innerCodec, toAlgorithm(compression.getAlgorithm()), compression.getThreshold(), compression.getLevel(), "", new ConcurrentHashMap<>());
+    }
+
+    /**
+     * The constructor that Redisson uses to copy
+     * the codec for another class loader.
+     *
+     * @param   classLoader java.lang.ClassLoader
+     * @param   codec       net.jmp.demo.redis.CompressingCodec
+     * @throws              java.lang.ReflectiveOperationException When the inner codec cannot be copied
+     */
+    public CompressingCodec(final ClassLoader classLoader, final CompressingCodec codec) throws ReflectiveOperationException {
+        this(copy(classLoader, codec.innerCodec), codec.algorithm, codec.threshold, codec.level, codec.prefix, codec.statistics);
+    }
+
+    /**
+     * A constructor that shares the statistics.
+     *
+     * @param   innerCodec  org.redisson.client.codec.Codec
+     * @param   algorithm   byte
+     * @param   threshold   int
+     * @param   level       int
+     * @param   prefix      java.lang.String
+     * @param   statistics  java.util.concurrent.ConcurrentMap&lt;java.lang.String, net.jmp.demo.redis.CompressingCodec.Statistics&gt;
+     */
+    private CompressingCodec(final Codec innerCodec,
+                             final byte algorithm,
+                             final int threshold,
+                             final int level,
+                             final String prefix,
+                             final ConcurrentMap<String, Statistics> statistics) {
+        super();
+
+        assert innerCodec != null;
+        assert threshold >= 0;
+        assert prefix != null;
+        assert statistics != null;
+
+        this.innerCodec = innerCodec;
+        this.algorithm = algorithm;
+        this.threshold = threshold;
+        this.level = level;
+        this.prefix = prefix;
+        this.statistics = statistics;
+        this.prefixStatistics = statistics.computeIfAbsent(prefix, key -> new Statistics());
+    }
+
+    /**
+     * Return a codec that compresses the same way
+     * and counts the values it encodes under the
+     * key prefix.
+     *
+     * @param   prefix  java.lang.String
+     * @return          net.jmp.demo.redis.CompressingCodec
+     */
+    public CompressingCodec forPrefix(final String prefix) {
+        assert prefix != null;
+
+        return new CompressingCodec(this.innerCodec, this.algorithm, this.threshold, this.level, prefix, this.statistics);
+    }
+
+    /**
+     * Return the statistics by key prefix.
+     *
+     * @return  java.util.Map&lt;java.lang.String, net.jmp.demo.redis.CompressingCodec.Statistics&gt;
+     */
+    public Map<String, Statistics> getStatistics() {
+        return new TreeMap<>(this.statistics);
+    }
+
+    /**
+     * Return the value decoder.
+     *
+     * @return  org.redisson.client.protocol.Decoder&lt;java.lang.Object&gt;
+     */
+    @Override
+    public Decoder<Object> getValueDecoder() {
+        return this.decoder;
+    }
+
+    /**
+     * Return the value encoder.
+     *
+     * @return  org.redisson.client.protocol.Encoder
+     */
+    @Override
+    public Encoder getValueEncoder() {
+        return this.encoder;
+    }
+
+    /**
+     * Return the map key decoder of the inner codec.
+     *
+     * @return  org.redisson.client.protocol.Decoder&lt;java.lang.Object&gt;
+     */
+    @Override
+    public Decoder<Object> getMapKeyDecoder() {
+        return this.innerCodec.getMapKeyDecoder();
+    }
+
+    /**
+     * Return the map key encoder of the inner codec.
+     *
+     * @return  org.redisson.client.protocol.Encoder
+     */
+    @Override
+    public Encoder getMapKeyEncoder() {
+        return this.innerCodec.getMapKeyEncoder();
+    }
+
+    /**
+     * Return the class loader of the inner codec.
+     *
+     * @return  java.lang.ClassLoader
+     */
+    @Override
+    public ClassLoader getClassLoader() {
+        return this.innerCodec.getClassLoader();
+    }
+
+    /**
+     * Encode a value with the inner codec and
+     * compress it when it reaches the threshold
+     * and compressing makes it smaller. Else
+     * the inner codec's value is returned.
+     *
+     * @param   value   java.lang.Object
+     * @return          io.netty.buffer.ByteBuf
+     * @throws          java.io.IOException When the value cannot be encoded
+     */
+    private ByteBuf encode(final Object value) throws IOException {
+        final ByteBuf raw = this.innerCodec.getValueEncoder().encode(value);
+        final int length = raw.readableBytes();
+
+        final ByteBuf compressed;
+
+        try {
+            compressed = length >= this.threshold ? this.compress(raw, length) : null;
+        } catch (final RuntimeException re) {
+            raw.release();
+
+            throw re;
+        }
+
+        if (compressed == null) {
+            this.prefixStatistics.record(length, length, false);
+
+            return raw;
+        }
+
+        raw.release();
+
+        this.prefixStatistics.record(length, compressed.readableBytes(), true);
+
+        return compressed;
+    }
+
+    /**
+     * Compress a raw value. Return null if the
+     * compressed value would not be smaller.
+     *
+     * @param   raw     io.netty.buffer.ByteBuf
+     * @param   length  int
+     * @return          io.netty.buffer.ByteBuf
+     */
+    private ByteBuf compress(final ByteBuf raw, final int length) {
+        final int bound = this.algorithm == LZ4
+                ? LZ4_COMPRESSOR.maxCompressedLength(length)
+                : (int) Zstd.compressBound(length);
+        final ByteBuf source = direct(raw);
+        final ByteBuf compressed = ByteBufAllocator.DEFAULT.directBuffer(COMPRESSED_HEADER_LENGTH + bound);
+
+        try {
+            final ByteBuffer src = source.nioBuffer(source.readerIndex(), length);
+            final ByteBuffer dest = compressed.nioBuffer(COMPRESSED_HEADER_LENGTH, bound);
+
+            final int compressedLength;
+
+            if (this.algorithm == LZ4) {
+                compressedLength = LZ4_COMPRESSOR.compress(src, 0, length, dest, 0, bound);
+            } else {
+                final long result = Zstd.compressDirectByteBuffer(dest, 0, bound, src, 0, length, this.level);
+
+                if (Zstd.isError(result)) {
+                    throw new IllegalStateException("Unable to compress a value: " + Zstd.getErrorName(result));
+                }
+
+                compressedLength = (int) result;
+            }
+
+            if (COMPRESSED_HEADER_LENGTH + compressedLength >= length) {
+                compressed.release();
+
+                return null;
+            }
+
+            compressed.writeByte(this.algorithm);
+            compressed.writeInt(length);
+            compressed.writerIndex(COMPRESSED_HEADER_LENGTH + compressedLength);
+
+            return compressed;
+        } catch (final RuntimeException re) {
+            compressed.release();
+
+            throw re;
+        } finally {
+            if (source != raw) {
+                source.release();
+            }
+        }
+    }
+
+    /**
+     * Decode a value, decompressing it first if it
+     * was compressed, with the inner codec.
+     *
+     * @param   buffer  io.netty.buffer.ByteBuf
+     * @param   state   org.redisson.client.handler.State
+     * @return          java.lang.Object
+     * @throws          java.io.IOException When the value cannot be decoded
+     */
+    private Object decode(final ByteBuf buffer, final State state) throws IOException {
+        final Decoder<Object> innerDecoder = this.innerCodec.getValueDecoder();
+        final int readable = buffer.readableBytes();
+
+        if (readable > COMPRESSED_HEADER_LENGTH) {
+            final byte header = buffer.getByte(buffer.readerIndex());
+
+            if (header == LZ4 || header == ZSTD) {
+                final int length = buffer.getInt(buffer.readerIndex() + 1);
+
+                // A value was only compressed when that made it smaller
+
+                if (length > readable && length <= MAX_RAW_LENGTH) {
+                    final ByteBuf raw = this.decompress(buffer, header, length);
+
+                    if (raw != null) {
+                        try {
+                            buffer.skipBytes(readable);
+
+                            return innerDecoder.decode(raw, state);
+                        } finally {
+                            raw.release();
+                        }
+                    }
+                }
+            }
+        }
+
+        return innerDecoder.decode(buffer, state);      // Below the threshold, written before compression was enabled or not compressed
+    }
+
+    /**
+     * Decompress a value that starts with a compressed
+     * header, leaving its reader index alone. Return
+     * null if it does not decompress to the length.
+     * The raw buffer is only allocated for a length
+     * that the compressed bytes can hold: within the
+     * LZ4 ratio, or the zstd frame's content size.
+     *
+     * @param   buffer  io.netty.buffer.ByteBuf
+     * @param   header  byte
+     * @param   length  int
+     * @return          io.netty.buffer.ByteBuf
+     */
+    private ByteBuf decompress(final ByteBuf buffer, final byte header, final int length) {
+        final ByteBuf compressed = buffer.slice(buffer.readerIndex() + COMPRESSED_HEADER_LENGTH, buffer.readableBytes() - COMPRESSED_HEADER_LENGTH);
+        final ByteBuf source = direct(compressed);
+
+        ByteBuf raw = null;
+
+        boolean decompressed = false;
+
+        try {
+            final ByteBuffer src = source.nioBuffer(source.readerIndex(), source.readableBytes());
+
+            final boolean plausible = header == LZ4
+                    ? length <= (long) src.remaining() * LZ4_MAX_RATIO
+                    : Zstd.getDirectByteBufferFrameContentSize(src, 0, src.remaining()) == length;
+
+            if (plausible) {
+                raw = ByteBufAllocator.DEFAULT.directBuffer(length);
+
+                final ByteBuffer dest = raw.nioBuffer(0, length);
+
+                final long rawLength;
+
+                if (header == LZ4) {
+                    rawLength = LZ4_DECOMPRESSOR.decompress(src, 0, src.remaining(), dest, 0, length);
+                } else {
+                    rawLength = Zstd.decompressDirectByteBuffer(dest, 0, length, src, 0, src.remaining());
+                }
+
+                if (rawLength == length) {
+                    raw.writerIndex(length);
+
+                    decompressed = true;
+                }
+            }
+        } catch (final LZ4Exception | ZstdException e) {
+            // Not a compressed value after all
+        } finally {
+            if (raw != null && !decompressed) {
+                raw.release();
+            }
+
+            if (source != compressed) {
+                source.release();
+            }
+        }
+
+        return decompressed ? raw : null;
+    }
+
+    /**
+     * Return the buffer if it is direct, else a
+     * direct copy of its readable bytes that the
+     * caller must release. The zstd library works
+     * only on direct buffers.
+     *
+     * @param   buffer  io.netty.buffer.ByteBuf
+     * @return          io.netty.buffer.ByteBuf
+     */
+    private static ByteBuf direct(final ByteBuf buffer) {
+        if (buffer.isDirect() && buffer.nioBufferCount() == 1) {
+            return buffer;
+        }
+
+        final ByteBuf copy = ByteBufAllocator.DEFAULT.directBuffer(buffer.readableBytes());
+
+        copy.writeBytes(buffer, buffer.readerIndex(), buffer.readableBytes());
+
+        return copy;
+    }
+
+    /**
+     * Return the header of a compression algorithm.
+     *
+     * @param   algorithm   java.lang.String
+     * @return              byte
+     */
+    private static byte toAlgorithm(final String algorithm) {
+        return switch (algorithm) {
+            case "lz4" -> LZ4;
+            case "zstd" -> ZSTD;
+            default -> throw new IllegalArgumentException("Unknown compression algorithm: " + algorithm);
+        };
+    }
+
+    /**
+     * The compression statistics of a key prefix.
+     */
+    public static final class Statistics {
+        /** The number of values encoded. */
+        private final LongAdder values = new LongAdder();
+
+        /** The number of values stored compressed. */
+        private final LongAdder compressed = new LongAdder();
+
+        /** The bytes the inner codec encoded. */
+        private final LongAdder rawBytes = new LongAdder();
+
+        /** The bytes stored, with the headers. */
+        private final LongAdder storedBytes = new LongAdder();
+
+        /**
+         * The constructor.
+         */
+        Statistics() {
+            super();
+        }
+
+        /**
+         * Record an encoded value.
+         *
+         * @param   raw         int
+         * @param   stored      int
+         * @param   compressed  boolean
+         */
+        void record(final int raw, final int stored, final boolean compressed) {
+            this.values.increment();
+            this.rawBytes.add(raw);
+            this.storedBytes.add(stored);
+
+            if (compressed) {
+                this.compressed.increment();
+            }
+        }
+
+        /**
+         * Return the number of values encoded.
+         *
+         * @return  long
+         */
+        public long getValues() {
+            return this.values.sum();
+        }
+
+        /**
+         * Return the number of values stored compressed.
+         *
+         * @return  long
+         */
+        public long getCompressed() {
+            return this.compressed.sum();
+        }
+
+        /**
+         * Return the bytes the inner codec encoded.
+         *
+         * @return  long
+         */
+        public long getRawBytes() {
+            return this.rawBytes.sum();
+        }
+
+        /**
+         * Return the bytes stored.
+         *
+         * @return  long
+         */
+        public long getStoredBytes() {
+            return this.storedBytes.sum();
+        }
+
+        /**
+         * Return the ratio of the bytes the inner codec
+         * encoded to the bytes stored; one if none.
+         *
+         * @return  double
+         */
+        public double getRatio() {
+            final long stored = this.getStoredBytes();
+
+            return stored == 0 ? 1.0 : (double) this.getRawBytes() / stored;
+        }
+
+        /**
+         * The to-string method.
+         *
+         * @return  java.lang.String
+         */
+        @Override
+        public String toString() {
+            return "Statistics{" +
+                    "values=" + this.getValues() +
+                    ", compressed=" + this.getCompressed() +
+                    ", rawBytes=" + this.getRawBytes() +
+                    ", storedBytes=" + this.getStoredBytes() +
+                    ", ratio=" + String.format("%.2f", this.getRatio()) +
+                    '}';
+        }
+    }
+}
@@ -1,12 +1,13 @@
 package net.jmp.demo.redis;
 
 /*
+ * (#)Connector.java    0.12.0  10/17/2026
  * (#)Connector.java    0.8.0   06/14/2024
  * (#)Connector.java    0.3.0   05/11/2024
  * (#)Connector.java    0.2.0   05/02/2024
  *
  * @author   Jonathan Parker
- * @version  0.8.0
+ * @version  0.12.0
  * @since    0.2.0
  *
  * MIT License
@@ -32,18 +33,25 @@ package net.jmp.demo.redis;
  * SOFTWARE.
  */
 
+import java.util.List;
+
 import org.redisson.Redisson;
 
 import org.redisson.api.RedissonClient;
 
 import org.redisson.client.RedisConnectionException;
 
+import org.redisson.client.codec.Codec;
+
 import org.redisson.config.Config;
+import org.redisson.config.Protocol;
 
 import org.slf4j.LoggerFactory;
 
 import org.slf4j.ext.XLogger;
 
+import net.jmp.demo.redis.config.Compression;
+
 /**
  * The connector class. This class connects
  * to Redis and returns a client as well as
@@ -62,14 +70,35 @@ final class Connector {
     /** The Redis protocol. */
     private final String protocol;
 
+    /** True to speak RESP3 so that client tracking is available. */
+    private final boolean resp3;
+
+    /** The value compression; null for none. */
+    private final Compression compression;
+
+    /** The names of the classes whose Kryo references are tracked. */
+    private final List<String> kryoReferenceTypes;
+
     /**
-     * The constructor.
+     * The constructor. With RESP3 the server pushes key
+     * invalidations to the client for the buckets it
+     * tracks; the compression, when enabled, applies to
+     * the values that the client writes; and the Kryo
+     * codec tracks references only for the named classes.
      *
-     * @param   hostName    java.lang.String
-     * @param   port        int
-     * @param   protocol    java.lang.String
+     * @param   hostName            java.lang.String
+     * @param   port                int
+     * @param   protocol            java.lang.String
+     * @param   resp3               boolean
+     * @param   compression         net.jmp.demo.redis.config.Compression
+     * @param   kryoReferenceTypes  java.util.List&lt;java.lang.String&gt;
      */
-    Connector(final String hostName, final int port, final String protocol) {
+    Connector(final String hostName,
+              final int port,
+              final String protocol,
+              final boolean resp3,
+              final Compression compression,
+              final List<String> kryoReferenceTypes) {
         super();
 
         assert hostName != null;
@@ -79,6 +108,9 @@ final class Connector {
         this.hostName = hostName;
         this.port = port;
         this.protocol = protocol;
+        this.resp3 = resp3;
+        this.compression = compression;
+        this.kryoReferenceTypes = kryoReferenceTypes != null ? List.copyOf(kryoReferenceTypes) : List.of();
     }
 
     /**
@@ -92,7 +124,11 @@ final class Connector {
         final var config = new Config();
 
         config.useSingleServer().setAddress(this.protocol + this.hostName + ":" + this.port);
-        config.setCodec(new CustomKryo5Codec());
+        config.setCodec(this.createCodec());
+
+        if (this.resp3) {
+            config.setProtocol(Protocol.RESP3);     // Client tracking needs Redis 6 or later
+        }
 
         RedissonClient client;
 
@@ -109,6 +145,21 @@ final class Connector {
         return client;
     }
 
+    /**
+     * Create the client codec: the Kryo codec,
+     * wrapped in the compressing codec when the
+     * compression is enabled.
+     *
+     * @return  org.redisson.client.codec.Codec
+     */
+    private Codec createCodec() {
+        final Codec codec = new CustomKryo5Codec(KryoRegistrations.toReferenceTypes(this.kryoReferenceTypes));
+
+        return this.compression != null && this.compression.isEnabled()
+                ? new CompressingCodec(codec, this.compression)
+                : codec;
+    }
+
     /**
      * Disconnect from Redis.
      *
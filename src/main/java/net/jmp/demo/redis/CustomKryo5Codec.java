@@ -1,11 +1,12 @@
 package net.jmp.demo.redis;
 
 /*
+ * (#)CustomKryo5Codec.java 0.12.0  10/17/2026
  * (#)CustomKryo5Codec.java 0.8.0   06/14/2024
  * (#)CustomKryo5Codec.java 0.3.0   05/11/2024
  *
  * @author   Jonathan Parker
- * @version  0.8.0
+ * @version  0.12.0
  * @since    0.3.0
  *
  * MIT License
@@ -33,13 +34,95 @@ package net.jmp.demo.redis;
 
 import com.esotericsoftware.kryo.Kryo;
 
+import io.netty.buffer.ByteBuf;
+
+import java.util.Set;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.redisson.client.handler.State;
+
+import org.redisson.client.protocol.Decoder;
+import org.redisson.client.protocol.Encoder;
+
 import org.redisson.codec.Kryo5Codec;
 
 /**
- * A class that extends the Kryo5 codec in
- * order to set the references to true.
+ * A class that extends the Kryo5 codec in order
+ * to register the classes it writes and to track
+ * references only for the types that need them.
+ * Registered classes are written as a small
+ * identifier instead of their name and a class
+ * that is not registered is rejected. The table
+ * of registrations is in KryoRegistrations.
+ *
+ * <p>Values are encoded and decoded with contexts
+ * that each hold a Kryo instance and its reused
+ * input and output, so that no temporary objects
+ * are created per value. The contexts are pooled
+ * rather than kept per thread because values are
+ * often encoded on virtual threads, which would
+ * each create a context and then discard it.
  */
-final class CustomKryo5Codec extends Kryo5Codec {
+public final class CustomKryo5Codec extends Kryo5Codec {
+    /** The most contexts that are kept for reuse. */
+    private static final int MAX_POOLED_CONTEXTS = 4 * Runtime.getRuntime().availableProcessors();
+
+    /** The types whose references are tracked. */
+    private final Set<Class<?>> referenceTypes;
+
+    /** The class loader of the Kryo instances; null for the default. */
+    private final ClassLoader classLoader;
+
+    /** The contexts that are free for reuse. */
+    private final BlockingQueue<KryoContext> contexts = new ArrayBlockingQueue<>(MAX_POOLED_CONTEXTS);
+
+    /** The encoder. */
+    private final Encoder encoder = this::encode;
+
+    /** The decoder. */
+    private final Decoder<Object> decoder = this::decode;
+
+    /**
+     * The default constructor. No references are
+     * tracked since none of the registered classes
+     * share objects or form cycles.
+     */
+    CustomKryo5Codec() {
+        this(Set.of());
+    }
+
+    /**
+     * A constructor that tracks references for
+     * the specified types, which must be types
+     * that are registered.
+     *
+     * @param   referenceTypes  java.util.Set&lt;java.lang.Class&lt;?&gt;&gt;
+     */
+    CustomKryo5Codec(final Set<Class<?>> referenceTypes) {
+        super();
+
+        assert referenceTypes != null;
+
+        this.referenceTypes = Set.copyOf(referenceTypes);
+        this.classLoader = null;
+    }
+
+    /**
+     * The constructor that Redisson uses to copy
+     * the codec for another class loader.
+     *
+     * @param   classLoader java.lang.ClassLoader
+     * @param   codec       net.jmp.demo.redis.CustomKryo5Codec
+     */
+    public CustomKryo5Codec(final ClassLoader classLoader, final CustomKryo5Codec codec) {
+        super(classLoader, codec);
+
+        this.referenceTypes = codec.referenceTypes;
+        this.classLoader = classLoader;
+    }
+
     /**
      * Create and return an instance of Kryo.
      *
@@ -52,8 +135,73 @@ final class CustomKryo5Codec extends Kryo5Codec {
 
         final Kryo kryo = super.createKryo(classLoader);
 
-        kryo.setReferences(true);
+        kryo.setRegistrationRequired(true);
+
+        KryoRegistrations.register(kryo, this.referenceTypes);
 
         return kryo;
     }
+
+    /**
+     * Return the value decoder.
+     *
+     * @return  org.redisson.client.protocol.Decoder&lt;java.lang.Object&gt;
+     */
+    @Override
+    public Decoder<Object> getValueDecoder() {
+        return this.decoder;
+    }
+
+    /**
+     * Return the value encoder.
+     *
+     * @return  org.redisson.client.protocol.Encoder
+     */
+    @Override
+    public Encoder getValueEncoder() {
+        return this.encoder;
+    }
+
+    /**
+     * Encode a value into a pooled direct buffer.
+     *
+     * @param   value   java.lang.Object
+     * @return          io.netty.buffer.ByteBuf
+     */
+    private ByteBuf encode(final Object value) {
+        final KryoContext context = this.obtain();
+        final ByteBuf buffer = context.encode(value);   // A context that fails is not reused
+
+        this.contexts.offer(context);
+
+        return buffer;
+    }
+
+    /**
+     * Decode a value from a buffer.
+     *
+     * @param   buffer  io.netty.buffer.ByteBuf
+     * @param   state   org.redisson.client.handler.State
+     * @return          java.lang.Object
+     */
+    private Object decode(final ByteBuf buffer, final State state) {
+        final KryoContext context = this.obtain();
+        final Object value = context.decode(buffer);    // A context that fails is not reused
+
+        this.contexts.offer(context);
+
+        return value;
+    }
+
+    /**
+     * Return a free context, creating
+     * one if none is free.
+     *
+     * @return  net.jmp.demo.redis.KryoContext
+     */
+    private KryoContext obtain() {
+        final KryoContext context = this.contexts.poll();
+
+        return context != null ? context : new KryoContext(this.createKryo(this.classLoader));
+    }
 }
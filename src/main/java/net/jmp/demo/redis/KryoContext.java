@@ -0,0 +1,200 @@
+package net.jmp.demo.redis;
+
+/*
+ * (#)KryoContext.java  0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import com.esotericsoftware.kryo.Kryo;
+
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * A Kryo instance with the input, output and
+ * streams that it reads and writes values with,
+ * all reused from one value to the next. Values
+ * are written into pooled direct buffers and read
+ * from the buffers Redisson passes, through the
+ * fixed staging arrays of the input and output,
+ * so encoding and decoding create no temporary
+ * objects. A context must be used by one thread
+ * at a time.
+ */
+final class KryoContext {
+    /** The size of the staging arrays. */
+    private static final int STAGING_SIZE = 4096;
+
+    /** The smallest initial capacity of an encoded buffer. */
+    private static final int MIN_INITIAL_CAPACITY = 64;
+
+    /** The Kryo instance. */
+    private final Kryo kryo;
+
+    /** The output, which flushes into the sink. */
+    private final Output output = new Output(STAGING_SIZE, -1);
+
+    /** The input, which fills from the source. */
+    private final Input input = new Input(STAGING_SIZE);
+
+    /** The stream that writes into the buffer being encoded. */
+    private final ByteBufSink sink = new ByteBufSink();
+
+    /** The stream that reads from the buffer being decoded. */
+    private final ByteBufSource source = new ByteBufSource();
+
+    /** The size of the last value encoded, used to size the next buffer. */
+    private int lastSize = MIN_INITIAL_CAPACITY;
+
+    /**
+     * The constructor.
+     *
+     * @param   kryo    com.esotericsoftware.kryo.Kryo
+     */
+    KryoContext(final Kryo kryo) {
+        super();
+
+        assert kryo != null;
+
+        this.kryo = kryo;
+    }
+
+    /**
+     * Encode a value into a new pooled direct
+     * buffer that the caller must release.
+     *
+     * @param   value   java.lang.Object
+     * @return          io.netty.buffer.ByteBuf
+     */
+    ByteBuf encode(final Object value) {
+        final ByteBuf buffer = ByteBufAllocator.DEFAULT.directBuffer(this.lastSize);
+
+        try {
+            this.sink.buffer = buffer;
+            this.output.setOutputStream(this.sink);
+            this.kryo.writeClassAndObject(this.output, value);
+            this.output.flush();
+        } catch (final RuntimeException re) {
+            buffer.release();
+
+            throw re;
+        } finally {
+            this.sink.buffer = null;
+        }
+
+        this.lastSize = Math.max(MIN_INITIAL_CAPACITY, buffer.readableBytes());
+
+        return buffer;
+    }
+
+    /**
+     * Decode a value from a buffer, reading all of it.
+     *
+     * @param   buffer  io.netty.buffer.ByteBuf
+     * @return          java.lang.Object
+     */
+    Object decode(final ByteBuf buffer) {
+        try {
+            this.source.buffer = buffer;
+            this.input.setInputStream(this.source);
+
+            return this.kryo.readClassAndObject(this.input);
+        } finally {
+            this.source.buffer = null;
+        }
+    }
+
+    /**
+     * An output stream that writes into a buffer.
+     */
+    static final class ByteBufSink extends OutputStream {
+        /** The buffer being written. */
+        private ByteBuf buffer;
+
+        /**
+         * The constructor.
+         */
+        ByteBufSink() {
+            super();
+        }
+
+        @Override
+        public void write(final int b) {
+            this.buffer.writeByte(b);
+        }
+
+        @Override
+        public void write(final byte[] bytes, final int offset, final int length) {
+            this.buffer.writeBytes(bytes, offset, length);
+        }
+    }
+
+    /**
+     * An input stream that reads from a buffer.
+     */
+    static final class ByteBufSource extends InputStream {
+        /** The buffer being read. */
+        private ByteBuf buffer;
+
+        /**
+         * The constructor.
+         */
+        ByteBufSource() {
+            super();
+        }
+
+        @Override
+        public int read() {
+            return this.buffer.isReadable() ? this.buffer.readUnsignedByte() : -1;
+        }
+
+        @Override
+        public int read(final byte[] bytes, final int offset, final int length) {
+            final int count = Math.min(length, this.buffer.readableBytes());
+
+            if (count == 0) {
+                return length == 0 ? 0 : -1;
+            }
+
+            this.buffer.readBytes(bytes, offset, count);
+
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return this.buffer.readableBytes();
+        }
+    }
+}
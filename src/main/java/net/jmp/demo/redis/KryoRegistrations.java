@@ -0,0 +1,345 @@
+package net.jmp.demo.redis;
+
+/*
+ * (#)KryoRegistrations.java    0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.Serializer;
+
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+
+import com.esotericsoftware.kryo.util.MapReferenceResolver;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import java.util.*;
+
+import net.jmp.demo.redis.config.*;
+
+import net.jmp.demo.redis.objects.Recording;
+import net.jmp.demo.redis.objects.RefreshableValue;
+
+import org.redisson.RedissonReference;
+
+/**
+ * The table of classes that the Kryo codec registers
+ * and the identifiers that they are written with. An
+ * identifier is written as a variable-length integer
+ * two greater than itself, so identifiers below 126
+ * take a single byte; Kryo's own registrations take
+ * 0 to 9. The identifiers are part of the stored data
+ * and must never be reused or renumbered; new classes
+ * take new identifiers.
+ */
+final class KryoRegistrations {
+    /** The largest identifier that is written in one byte. */
+    static final int MAX_ONE_BYTE_ID = 125;
+
+    /** The JDK and Redisson classes by identifier. */
+    private static final Map<Integer, Class<?>> LIBRARY_CLASSES = Map.ofEntries(
+            Map.entry(10, ArrayList.class),
+            Map.entry(11, LinkedList.class),
+            Map.entry(12, HashMap.class),
+            Map.entry(13, LinkedHashMap.class),
+            Map.entry(14, TreeMap.class),
+            Map.entry(15, HashSet.class),
+            Map.entry(16, LinkedHashSet.class),
+            Map.entry(17, TreeSet.class),
+            Map.entry(18, Date.class),
+            Map.entry(19, UUID.class),
+            Map.entry(20, BigDecimal.class),
+            Map.entry(21, BigInteger.class),
+            Map.entry(22, Instant.class),
+            Map.entry(23, Duration.class),
+            Map.entry(24, LocalDate.class),
+            Map.entry(25, LocalDateTime.class),
+            Map.entry(26, byte[].class),
+            Map.entry(27, Object[].class),
+            Map.entry(28, String[].class),
+            Map.entry(29, RedissonReference.class)
+    );
+
+    /** The immutable collection classes by identifier; 30 to 39. */
+    private static final Map<Integer, Class<?>> IMMUTABLE_CLASSES = Map.of(
+            30, List.of().getClass(),
+            31, List.of(0).getClass(),
+            32, Set.of().getClass(),
+            33, Set.of(0).getClass(),
+            34, Map.of().getClass(),
+            35, Map.of(0, 0).getClass()
+    );
+
+    /** The application classes by identifier; 40 and above. */
+    private static final Map<Integer, Class<?>> APPLICATION_CLASSES = Map.ofEntries(
+            Map.entry(40, Config.class),
+            Map.entry(41, Redis.class),
+            Map.entry(42, ServerCLI.class),
+            Map.entry(43, net.jmp.demo.redis.config.ProcessUtility.class),
+            Map.entry(44, Recording.class),
+            Map.entry(45, Pipeline.class),
+            Map.entry(46, Batch.class),
+            Map.entry(47, Storage.class),
+            Map.entry(48, Adaptive.class),
+            Map.entry(49, Import.class),
+            Map.entry(50, KeyIds.class),
+            Map.entry(51, Cache.class),
+            Map.entry(52, NearCache.class),
+            Map.entry(53, KeyListing.class),
+            Map.entry(54, ClientCache.class),
+            Map.entry(55, CacheAside.class),
+            Map.entry(56, BoundedCache.class),
+            Map.entry(57, FieldExpiry.class),
+            Map.entry(58, StripedCounter.class),
+            Map.entry(59, EarlyRefresh.class),
+            Map.entry(60, BloomGuard.class),
+            Map.entry(61, RefreshableValue.class),
+            Map.entry(62, Compression.class)
+    );
+
+    /**
+     * A hidden constructor.
+     */
+    private KryoRegistrations() {
+        throw new IllegalStateException("KryoRegistrations contains only static methods");
+    }
+
+    /**
+     * Return the registered classes of the specified
+     * names, the types whose references are to be
+     * tracked.
+     *
+     * @param   names   java.util.Collection&lt;java.lang.String&gt;
+     * @return          java.util.Set&lt;java.lang.Class&lt;?&gt;&gt;
+     * @throws          java.lang.IllegalArgumentException When a name is not that of a registered class
+     */
+    static Set<Class<?>> toReferenceTypes(final Collection<String> names) {
+        assert names != null;
+
+        final Map<String, Class<?>> classesByName = new HashMap<>();
+
+        getClasses().values().forEach(type -> classesByName.put(type.getName(), type));
+
+        final Set<Class<?>> types = new HashSet<>();
+
+        for (final String name : names) {
+            final Class<?> type = classesByName.get(name);
+
+            if (type == null) {
+                throw new IllegalArgumentException("Not a registered class: " + name);
+            }
+
+            types.add(type);
+        }
+
+        return types;
+    }
+
+    /**
+     * Register every class in the table with the Kryo
+     * instance and track references only for the
+     * specified types.
+     *
+     * @param   kryo            com.esotericsoftware.kryo.Kryo
+     * @param   referenceTypes  java.util.Set&lt;java.lang.Class&lt;?&gt;&gt;
+     */
+    static void register(final Kryo kryo, final Set<Class<?>> referenceTypes) {
+        assert kryo != null;
+        assert referenceTypes != null;
+
+        LIBRARY_CLASSES.forEach((id, type) -> kryo.register(type, id));
+
+        kryo.register(IMMUTABLE_CLASSES.get(30), new ImmutableListSerializer(), 30);
+        kryo.register(IMMUTABLE_CLASSES.get(31), new ImmutableListSerializer(), 31);
+        kryo.register(IMMUTABLE_CLASSES.get(32), new ImmutableSetSerializer(), 32);
+        kryo.register(IMMUTABLE_CLASSES.get(33), new ImmutableSetSerializer(), 33);
+        kryo.register(IMMUTABLE_CLASSES.get(34), new ImmutableMapSerializer(), 34);
+        kryo.register(IMMUTABLE_CLASSES.get(35), new ImmutableMapSerializer(), 35);
+
+        APPLICATION_CLASSES.forEach((id, type) -> kryo.register(type, id));
+
+        kryo.setReferenceResolver(new SelectiveReferenceResolver(referenceTypes));
+    }
+
+    /**
+     * Return the identifiers of every registered class.
+     *
+     * @return  java.util.Map&lt;java.lang.Integer, java.lang.Class&lt;?&gt;&gt;
+     */
+    static Map<Integer, Class<?>> getClasses() {
+        final Map<Integer, Class<?>> classes = new TreeMap<>(LIBRARY_CLASSES);
+
+        classes.putAll(IMMUTABLE_CLASSES);
+        classes.putAll(APPLICATION_CLASSES);
+
+        return classes;
+    }
+
+    /**
+     * A reference resolver that tracks references only
+     * for the specified types. Every other object is
+     * written in full each time it occurs, with no
+     * reference identifier.
+     */
+    static final class SelectiveReferenceResolver extends MapReferenceResolver {
+        /** The types whose references are tracked. */
+        private final Set<Class<?>> types;
+
+        /**
+         * The constructor.
+         *
+         * @param   types   java.util.Set&lt;java.lang.Class&lt;?&gt;&gt;
+         */
+        SelectiveReferenceResolver(final Set<Class<?>> types) {
+            super();
+
+            this.types = Set.copyOf(types);
+        }
+
+        /**
+         * Return true if references to the type are tracked.
+         *
+         * @param   type    java.lang.Class
+         * @return          boolean
+         */
+        @Override
+        @SuppressWarnings("rawtypes")   // Kryo declares the parameter as a raw Class, which Class<?> cannot override
+        public boolean useReferences(final Class type) {
+            return this.types.contains(type);
+        }
+    }
+
+    /**
+     * A serializer for the lists made by List.of
+     * and List.copyOf, which cannot be added to.
+     */
+    static final class ImmutableListSerializer extends Serializer<List<Object>> {
+        /**
+         * The constructor.
+         */
+        ImmutableListSerializer() {
+            super(false, true);
+        }
+
+        @Override
+        public void write(final Kryo kryo, final Output output, final List<Object> list) {
+            output.writeVarInt(list.size(), true);
+
+            for (final Object element : list) {
+                kryo.writeClassAndObject(output, element);
+            }
+        }
+
+        @Override
+        public List<Object> read(final Kryo kryo, final Input input, final Class<? extends List<Object>> type) {
+            final Object[] elements = new Object[input.readVarInt(true)];
+
+            for (int i = 0; i < elements.length; i++) {
+                elements[i] = kryo.readClassAndObject(input);
+            }
+
+            return List.of(elements);
+        }
+    }
+
+    /**
+     * A serializer for the sets made by Set.of
+     * and Set.copyOf, which cannot be added to.
+     */
+    static final class ImmutableSetSerializer extends Serializer<Set<Object>> {
+        /**
+         * The constructor.
+         */
+        ImmutableSetSerializer() {
+            super(false, true);
+        }
+
+        @Override
+        public void write(final Kryo kryo, final Output output, final Set<Object> set) {
+            output.writeVarInt(set.size(), true);
+
+            for (final Object element : set) {
+                kryo.writeClassAndObject(output, element);
+            }
+        }
+
+        @Override
+        public Set<Object> read(final Kryo kryo, final Input input, final Class<? extends Set<Object>> type) {
+            final Object[] elements = new Object[input.readVarInt(true)];
+
+            for (int i = 0; i < elements.length; i++) {
+                elements[i] = kryo.readClassAndObject(input);
+            }
+
+            return Set.of(elements);
+        }
+    }
+
+    /**
+     * A serializer for the maps made by Map.of
+     * and Map.copyOf, which cannot be added to.
+     */
+    static final class ImmutableMapSerializer extends Serializer<Map<Object, Object>> {
+        /**
+         * The constructor.
+         */
+        ImmutableMapSerializer() {
+            super(false, true);
+        }
+
+        @Override
+        public void write(final Kryo kryo, final Output output, final Map<Object, Object> map) {
+            output.writeVarInt(map.size(), true);
+
+            for (final Map.Entry<Object, Object> entry : map.entrySet()) {
+                kryo.writeClassAndObject(output, entry.getKey());
+                kryo.writeClassAndObject(output, entry.getValue());
+            }
+        }
+
+        @Override
+        public Map<Object, Object> read(final Kryo kryo, final Input input, final Class<? extends Map<Object, Object>> type) {
+            final int size = input.readVarInt(true);
+            final Map<Object, Object> entries = new HashMap<>(size * 2);
+
+            for (int i = 0; i < size; i++) {
+                entries.put(kryo.readClassAndObject(input), kryo.readClassAndObject(input));
+            }
+
+            return Map.copyOf(entries);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package net.jmp.demo.redis;
 
 /*
+ * (#)Main.java 0.12.0  10/17/2026
  * (#)Main.java 0.10.0  07/26/2024
  * (#)Main.java 0.9.0   06/22/2024
  * (#)Main.java 0.8.0   06/14/2024
@@ -12,7 +13,7 @@ package net.jmp.demo.redis;
  * (#)Main.java 0.1.0   05/01/2024
  *
  * @author   Jonathan Parker
- * @version  0.10.0
+ * @version  0.12.0
  * @since    0.1.0
  *
  * MIT License
@@ -113,6 +114,8 @@ public final class Main {
                     );
 
                     demos.forEach(Demo::go);
+
+                    this.logCompression(client);
                 } catch (final IOException ioe) {
                     this.logger.catching(ioe);
                 } finally {
@@ -167,10 +170,15 @@ public final class Main {
 
         assert config != null;
 
+        final var clientCache = config.getCache() != null ? config.getCache().getClientCache() : null;
+        final var compression = config.getCache() != null ? config.getCache().getCompression() : null;
         final var connector = new Connector(
                 config.getRedis().getHostName(),
                 config.getRedis().getPort(),
-                config.getRedis().getProtocol()
+                config.getRedis().getProtocol(),
+                clientCache != null && clientCache.isEnabled(),
+                compression,
+                config.getRedis().getKryoReferenceTypes()
         );
 
         final var client = connector.connect();
@@ -254,6 +262,28 @@ public final class Main {
         this.logger.exit();
     }
 
+    /**
+     * Log the compression statistics of the
+     * client's codec by key prefix, if it is
+     * a compressing codec. Values written
+     * without a prefix count under '*'.
+     *
+     * @param   client  org.redisson.api.RedissonClient
+     */
+    private void logCompression(final RedissonClient client) {
+        this.logger.entry(client);
+
+        if (client.getConfig().getCodec() instanceof CompressingCodec codec && this.logger.isInfoEnabled()) {
+            codec.getStatistics().forEach((prefix, statistics) -> {
+                if (statistics.getValues() > 0) {
+                    this.logger.info("Compression of '{}*': {}", prefix, statistics);
+                }
+            });
+        }
+
+        this.logger.exit();
+    }
+
     /**
      * Return the architecture.
      *
@@ -0,0 +1,222 @@
+package net.jmp.demo.redis.config;
+
+/*
+ * (#)Adaptive.java 0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import com.google.gson.annotations.SerializedName;
+
+/**
+ * The adaptive batch sizing class of the pipelining section of the configuration.
+ */
+public final class Adaptive {
+    /** True to resize batches from their observed latency. */
+    @SerializedName("enabled")
+    private boolean enabled;
+
+    /** The smallest batch size. */
+    @SerializedName("min-batch-size")
+    private int minBatchSize = 500;
+
+    /** The largest batch size. */
+    @SerializedName("max-batch-size")
+    private int maxBatchSize = 20_000;
+
+    /** The target latency of a batch in milliseconds. */
+    @SerializedName("target-latency")
+    private long targetLatency = 50;
+
+    /** The number of items added to the batch size after a batch within the target. */
+    @SerializedName("increase")
+    private int increase = 500;
+
+    /** The factor the batch size is multiplied by after a slow or failed batch. */
+    @SerializedName("decrease-factor")
+    private double decreaseFactor = 0.5;
+
+    /**
+     * Return true if adaptive batch sizing is enabled.
+     *
+     * @return  boolean
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Set whether adaptive batch sizing is enabled.
+     *
+     * @param   enabled boolean
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Get the smallest batch size.
+     *
+     * @return  int
+     */
+    public int getMinBatchSize() {
+        return this.minBatchSize;
+    }
+
+    /**
+     * Set the smallest batch size.
+     *
+     * @param   minBatchSize    int
+     */
+    public void setMinBatchSize(final int minBatchSize) {
+        this.minBatchSize = minBatchSize;
+    }
+
+    /**
+     * Get the largest batch size.
+     *
+     * @return  int
+     */
+    public int getMaxBatchSize() {
+        return this.maxBatchSize;
+    }
+
+    /**
+     * Set the largest batch size.
+     *
+     * @param   maxBatchSize    int
+     */
+    public void setMaxBatchSize(final int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Get the target latency in milliseconds.
+     *
+     * @return  long
+     */
+    public long getTargetLatency() {
+        return this.targetLatency;
+    }
+
+    /**
+     * Set the target latency in milliseconds.
+     *
+     * @param   targetLatency   long
+     */
+    public void setTargetLatency(final long targetLatency) {
+        this.targetLatency = targetLatency;
+    }
+
+    /**
+     * Get the additive increase.
+     *
+     * @return  int
+     */
+    public int getIncrease() {
+        return this.increase;
+    }
+
+    /**
+     * Set the additive increase.
+     *
+     * @param   increase    int
+     */
+    public void setIncrease(final int increase) {
+        this.increase = increase;
+    }
+
+    /**
+     * Get the multiplicative decrease factor.
+     *
+     * @return  double
+     */
+    public double getDecreaseFactor() {
+        return this.decreaseFactor;
+    }
+
+    /**
+     * Set the multiplicative decrease factor.
+     *
+     * @param   decreaseFactor  double
+     */
+    public void setDecreaseFactor(final double decreaseFactor) {
+        this.decreaseFactor = decreaseFactor;
+    }
+
+    /**
+     * The equals method.
+     *
+     * @param   o   java.lang.Object
+     * @return      boolean
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final Adaptive adaptive = (Adaptive) o;
+
+        return this.enabled == adaptive.enabled && this.minBatchSize == adaptive.minBatchSize && this.maxBatchSize == adaptive.maxBatchSize && this.targetLatency == adaptive.targetLatency && this.increase == adaptive.increase && Double.compare(this.decreaseFactor, adaptive.decreaseFactor) == 0;
+    }
+
+    /**
+     * The hash-code method.
+     *
+     * @return  int
+     */
+    @Override
+    public int hashCode() {
+        int result = Boolean.hashCode(this.enabled);
+
+        result = 31 * result + this.minBatchSize;
+        result = 31 * result + this.maxBatchSize;
+        result = 31 * result + Long.hashCode(this.targetLatency);
+        result = 31 * result + this.increase;
+        result = 31 * result + Double.hashCode(this.decreaseFactor);
+
+        return result;
+    }
+
+    /**
+     * The to-string method.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return "Adaptive{" +
+                "enabled=" + this.enabled +
+                ", minBatchSize=" + this.minBatchSize +
+                ", maxBatchSize=" + this.maxBatchSize +
+                ", targetLatency=" + this.targetLatency +
+                ", increase=" + this.increase +
+                ", decreaseFactor=" + this.decreaseFactor +
+                '}';
+    }
+}
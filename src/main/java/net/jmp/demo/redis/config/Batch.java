@@ -0,0 +1,176 @@
+package net.jmp.demo.redis.config;
+
+/*
+ * (#)Batch.java    0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import com.google.gson.annotations.SerializedName;
+
+import java.util.Objects;
+
+/**
+ * The batch options class of the pipelining section of the configuration.
+ */
+public final class Batch {
+    /** True to tell the server not to send replies. */
+    @SerializedName("skip-result")
+    private boolean skipResult;
+
+    /** The execution mode: IN_MEMORY, IN_MEMORY_ATOMIC, REDIS_READ_ATOMIC or REDIS_WRITE_ATOMIC. */
+    @SerializedName("execution-mode")
+    private String executionMode = "IN_MEMORY";
+
+    /** The response timeout in milliseconds; zero for the client default. */
+    @SerializedName("response-timeout")
+    private long responseTimeout;
+
+    /** The number of retry attempts; negative for the client default. */
+    @SerializedName("retry-attempts")
+    private int retryAttempts = -1;
+
+    /**
+     * Return true if replies are skipped.
+     *
+     * @return  boolean
+     */
+    public boolean isSkipResult() {
+        return this.skipResult;
+    }
+
+    /**
+     * Set whether replies are skipped.
+     *
+     * @param   skipResult  boolean
+     */
+    public void setSkipResult(final boolean skipResult) {
+        this.skipResult = skipResult;
+    }
+
+    /**
+     * Get the execution mode.
+     *
+     * @return  java.lang.String
+     */
+    public String getExecutionMode() {
+        return this.executionMode;
+    }
+
+    /**
+     * Set the execution mode.
+     *
+     * @param   executionMode   java.lang.String
+     */
+    public void setExecutionMode(final String executionMode) {
+        this.executionMode = executionMode;
+    }
+
+    /**
+     * Get the response timeout in milliseconds.
+     *
+     * @return  long
+     */
+    public long getResponseTimeout() {
+        return this.responseTimeout;
+    }
+
+    /**
+     * Set the response timeout in milliseconds.
+     *
+     * @param   responseTimeout long
+     */
+    public void setResponseTimeout(final long responseTimeout) {
+        this.responseTimeout = responseTimeout;
+    }
+
+    /**
+     * Get the number of retry attempts.
+     *
+     * @return  int
+     */
+    public int getRetryAttempts() {
+        return this.retryAttempts;
+    }
+
+    /**
+     * Set the number of retry attempts.
+     *
+     * @param   retryAttempts   int
+     */
+    public void setRetryAttempts(final int retryAttempts) {
+        this.retryAttempts = retryAttempts;
+    }
+
+    /**
+     * The equals method.
+     *
+     * @param   o   java.lang.Object
+     * @return      boolean
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final Batch batch = (Batch) o;
+
+        return this.skipResult == batch.skipResult && this.responseTimeout == batch.responseTimeout && this.retryAttempts == batch.retryAttempts && Objects.equals(this.executionMode, batch.executionMode);
+    }
+
+    /**
+     * The hash-code method.
+     *
+     * @return  int
+     */
+    @Override
+    public int hashCode() {
+        int result = Boolean.hashCode(this.skipResult);
+
+        result = 31 * result + Objects.hashCode(this.executionMode);
+        result = 31 * result + Long.hashCode(this.responseTimeout);
+        result = 31 * result + this.retryAttempts;
+
+        return result;
+    }
+
+    /**
+     * The to-string method.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return "Batch{" +
+                "skipResult=" + this.skipResult +
+                ", executionMode='" + this.executionMode + '\'' +
+                ", responseTimeout=" + this.responseTimeout +
+                ", retryAttempts=" + this.retryAttempts +
+                '}';
+    }
+}
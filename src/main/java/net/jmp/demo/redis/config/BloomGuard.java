@@ -0,0 +1,224 @@
+package net.jmp.demo.redis.config;
+
+/*
+ * (#)BloomGuard.java   0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import com.google.gson.annotations.SerializedName;
+
+import java.util.Objects;
+
+/**
+ * The bloom guard class of the caching section of the configuration.
+ */
+public final class BloomGuard {
+    /** True to guard bucket reads with a Bloom filter. */
+    @SerializedName("enabled")
+    private boolean enabled;
+
+    /** The name of the Bloom filter. */
+    @SerializedName("name")
+    private String name = "bloom-guard";
+
+    /** The number of keys the filter is sized for. */
+    @SerializedName("expected-insertions")
+    private long expectedInsertions = 100_000;
+
+    /** The false-positive rate the filter is sized for. */
+    @SerializedName("false-probability")
+    private double falseProbability = 0.01;
+
+    /** The pattern of the guarded keys, scanned to rebuild the filter. */
+    @SerializedName("pattern")
+    private String pattern = "guarded:*";
+
+    /** The milliseconds between rebuilds of the filter; zero for none. */
+    @SerializedName("rebuild-interval")
+    private long rebuildInterval;
+
+    /**
+     * Return true if the bloom guard is enabled.
+     *
+     * @return  boolean
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Set whether the bloom guard is enabled.
+     *
+     * @param   enabled boolean
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Get the name of the Bloom filter.
+     *
+     * @return  java.lang.String
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Set the name of the Bloom filter.
+     *
+     * @param   name    java.lang.String
+     */
+    public void setName(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * Get the expected insertions.
+     *
+     * @return  long
+     */
+    public long getExpectedInsertions() {
+        return this.expectedInsertions;
+    }
+
+    /**
+     * Set the expected insertions.
+     *
+     * @param   expectedInsertions    long
+     */
+    public void setExpectedInsertions(final long expectedInsertions) {
+        this.expectedInsertions = expectedInsertions;
+    }
+
+    /**
+     * Get the false-positive probability.
+     *
+     * @return  double
+     */
+    public double getFalseProbability() {
+        return this.falseProbability;
+    }
+
+    /**
+     * Set the false-positive probability.
+     *
+     * @param   falseProbability    double
+     */
+    public void setFalseProbability(final double falseProbability) {
+        this.falseProbability = falseProbability;
+    }
+
+    /**
+     * Get the key pattern.
+     *
+     * @return  java.lang.String
+     */
+    public String getPattern() {
+        return this.pattern;
+    }
+
+    /**
+     * Set the key pattern.
+     *
+     * @param   pattern java.lang.String
+     */
+    public void setPattern(final String pattern) {
+        this.pattern = pattern;
+    }
+
+    /**
+     * Get the rebuild interval.
+     *
+     * @return  long
+     */
+    public long getRebuildInterval() {
+        return this.rebuildInterval;
+    }
+
+    /**
+     * Set the rebuild interval.
+     *
+     * @param   rebuildInterval    long
+     */
+    public void setRebuildInterval(final long rebuildInterval) {
+        this.rebuildInterval = rebuildInterval;
+    }
+
+    /**
+     * The equals method.
+     *
+     * @param   o   java.lang.Object
+     * @return      boolean
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final BloomGuard bloomGuard = (BloomGuard) o;
+
+        return this.enabled == bloomGuard.enabled && this.expectedInsertions == bloomGuard.expectedInsertions && this.rebuildInterval == bloomGuard.rebuildInterval && Double.compare(this.falseProbability, bloomGuard.falseProbability) == 0 && Objects.equals(this.name, bloomGuard.name) && Objects.equals(this.pattern, bloomGuard.pattern);
+    }
+
+    /**
+     * The hash-code method.
+     *
+     * @return  int
+     */
+    @Override
+    public int hashCode() {
+        int result = Boolean.hashCode(this.enabled);
+
+        result = 31 * result + Objects.hashCode(this.name);
+        result = 31 * result + Long.hashCode(this.expectedInsertions);
+        result = 31 * result + Double.hashCode(this.falseProbability);
+        result = 31 * result + Objects.hashCode(this.pattern);
+        result = 31 * result + Long.hashCode(this.rebuildInterval);
+
+        return result;
+    }
+
+    /**
+     * The to-string method.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return "BloomGuard{" +
+                "enabled=" + this.enabled +
+                ", name='" + this.name + '\'' +
+                ", expectedInsertions=" + this.expectedInsertions +
+                ", falseProbability=" + this.falseProbability +
+                ", pattern='" + this.pattern + '\'' +
+                ", rebuildInterval=" + this.rebuildInterval +
+                '}';
+    }
+}
@@ -0,0 +1,224 @@
+package net.jmp.demo.redis.config;
+
+/*
+ * (#)BoundedCache.java 0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import com.google.gson.annotations.SerializedName;
+
+import java.util.Objects;
+
+/**
+ * The bounded cache class of the caching section of the configuration.
+ */
+public final class BoundedCache {
+    /** True to demonstrate the bounded cache. */
+    @SerializedName("enabled")
+    private boolean enabled;
+
+    /** The name of the map cache. */
+    @SerializedName("name")
+    private String name = "bounded-cache";
+
+    /** The maximum number of entries; zero for no limit. */
+    @SerializedName("max-size")
+    private int maxSize = 1_000;
+
+    /** The eviction mode: LRU or LFU. */
+    @SerializedName("eviction-mode")
+    private String evictionMode = "LRU";
+
+    /** The time to live of an entry in milliseconds; zero for no limit. */
+    @SerializedName("time-to-live")
+    private long timeToLive = 60_000;
+
+    /** The maximum idle time of an entry in milliseconds; zero for no limit. */
+    @SerializedName("max-idle")
+    private long maxIdle;
+
+    /**
+     * Return true if the bounded cache is enabled.
+     *
+     * @return  boolean
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Set whether the bounded cache is enabled.
+     *
+     * @param   enabled boolean
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Get the name of the map cache.
+     *
+     * @return  java.lang.String
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Set the name of the map cache.
+     *
+     * @param   name    java.lang.String
+     */
+    public void setName(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * Get the maximum size.
+     *
+     * @return  int
+     */
+    public int getMaxSize() {
+        return this.maxSize;
+    }
+
+    /**
+     * Set the maximum size.
+     *
+     * @param   maxSize int
+     */
+    public void setMaxSize(final int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Get the eviction mode.
+     *
+     * @return  java.lang.String
+     */
+    public String getEvictionMode() {
+        return this.evictionMode;
+    }
+
+    /**
+     * Set the eviction mode.
+     *
+     * @param   evictionMode    java.lang.String
+     */
+    public void setEvictionMode(final String evictionMode) {
+        this.evictionMode = evictionMode;
+    }
+
+    /**
+     * Get the time to live.
+     *
+     * @return  long
+     */
+    public long getTimeToLive() {
+        return this.timeToLive;
+    }
+
+    /**
+     * Set the time to live.
+     *
+     * @param   timeToLive    long
+     */
+    public void setTimeToLive(final long timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * Get the maximum idle time.
+     *
+     * @return  long
+     */
+    public long getMaxIdle() {
+        return this.maxIdle;
+    }
+
+    /**
+     * Set the maximum idle time.
+     *
+     * @param   maxIdle long
+     */
+    public void setMaxIdle(final long maxIdle) {
+        this.maxIdle = maxIdle;
+    }
+
+    /**
+     * The equals method.
+     *
+     * @param   o   java.lang.Object
+     * @return      boolean
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final BoundedCache boundedCache = (BoundedCache) o;
+
+        return this.enabled == boundedCache.enabled && this.maxSize == boundedCache.maxSize && this.timeToLive == boundedCache.timeToLive && this.maxIdle == boundedCache.maxIdle && Objects.equals(this.name, boundedCache.name) && Objects.equals(this.evictionMode, boundedCache.evictionMode);
+    }
+
+    /**
+     * The hash-code method.
+     *
+     * @return  int
+     */
+    @Override
+    public int hashCode() {
+        int result = Boolean.hashCode(this.enabled);
+
+        result = 31 * result + Objects.hashCode(this.name);
+        result = 31 * result + this.maxSize;
+        result = 31 * result + Objects.hashCode(this.evictionMode);
+        result = 31 * result + Long.hashCode(this.timeToLive);
+        result = 31 * result + Long.hashCode(this.maxIdle);
+
+        return result;
+    }
+
+    /**
+     * The to-string method.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return "BoundedCache{" +
+                "enabled=" + this.enabled +
+                ", name='" + this.name + '\'' +
+                ", maxSize=" + this.maxSize +
+                ", evictionMode='" + this.evictionMode + '\'' +
+                ", timeToLive=" + this.timeToLive +
+                ", maxIdle=" + this.maxIdle +
+                '}';
+    }
+}
@@ -0,0 +1,320 @@
+package net.jmp.demo.redis.config;
+
+/*
+ * (#)Cache.java    0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import com.google.gson.annotations.SerializedName;
+
+import java.util.Objects;
+
+/**
+ * The caching section of the configuration.
+ */
+public final class Cache {
+    /** The near cache. */
+    @SerializedName("near-cache")
+    private NearCache nearCache = new NearCache();
+
+    /** The key listing. */
+    @SerializedName("key-listing")
+    private KeyListing keyListing = new KeyListing();
+
+    /** The client-side cache. */
+    @SerializedName("client-cache")
+    private ClientCache clientCache = new ClientCache();
+
+    /** The cache-aside loader. */
+    @SerializedName("cache-aside")
+    private CacheAside cacheAside = new CacheAside();
+
+    /** The bounded cache. */
+    @SerializedName("bounded-cache")
+    private BoundedCache boundedCache = new BoundedCache();
+
+    /** The per-field expiry map. */
+    @SerializedName("field-expiry")
+    private FieldExpiry fieldExpiry = new FieldExpiry();
+
+    /** The striped counter. */
+    @SerializedName("striped-counter")
+    private StripedCounter stripedCounter = new StripedCounter();
+
+    /** The early refresh cache. */
+    @SerializedName("early-refresh")
+    private EarlyRefresh earlyRefresh = new EarlyRefresh();
+
+    /** The Bloom filter guard. */
+    @SerializedName("bloom-guard")
+    private BloomGuard bloomGuard = new BloomGuard();
+
+    /** The value compression. */
+    @SerializedName("compression")
+    private Compression compression = new Compression();
+
+    /**
+     * Get the near cache.
+     *
+     * @return  net.jmp.demo.redis.config.NearCache
+     */
+    public NearCache getNearCache() {
+        return this.nearCache;
+    }
+
+    /**
+     * Set the near cache.
+     *
+     * @param   nearCache    net.jmp.demo.redis.config.NearCache
+     */
+    public void setNearCache(final NearCache nearCache) {
+        this.nearCache = nearCache;
+    }
+
+    /**
+     * Get the key listing.
+     *
+     * @return  net.jmp.demo.redis.config.KeyListing
+     */
+    public KeyListing getKeyListing() {
+        return this.keyListing;
+    }
+
+    /**
+     * Set the key listing.
+     *
+     * @param   keyListing    net.jmp.demo.redis.config.KeyListing
+     */
+    public void setKeyListing(final KeyListing keyListing) {
+        this.keyListing = keyListing;
+    }
+
+    /**
+     * Get the client-side cache.
+     *
+     * @return  net.jmp.demo.redis.config.ClientCache
+     */
+    public ClientCache getClientCache() {
+        return this.clientCache;
+    }
+
+    /**
+     * Set the client-side cache.
+     *
+     * @param   clientCache    net.jmp.demo.redis.config.ClientCache
+     */
+    public void setClientCache(final ClientCache clientCache) {
+        this.clientCache = clientCache;
+    }
+
+    /**
+     * Get the cache-aside loader.
+     *
+     * @return  net.jmp.demo.redis.config.CacheAside
+     */
+    public CacheAside getCacheAside() {
+        return this.cacheAside;
+    }
+
+    /**
+     * Set the cache-aside loader.
+     *
+     * @param   cacheAside    net.jmp.demo.redis.config.CacheAside
+     */
+    public void setCacheAside(final CacheAside cacheAside) {
+        this.cacheAside = cacheAside;
+    }
+
+    /**
+     * Get the bounded cache.
+     *
+     * @return  net.jmp.demo.redis.config.BoundedCache
+     */
+    public BoundedCache getBoundedCache() {
+        return this.boundedCache;
+    }
+
+    /**
+     * Set the bounded cache.
+     *
+     * @param   boundedCache    net.jmp.demo.redis.config.BoundedCache
+     */
+    public void setBoundedCache(final BoundedCache boundedCache) {
+        this.boundedCache = boundedCache;
+    }
+
+    /**
+     * Get the per-field expiry map.
+     *
+     * @return  net.jmp.demo.redis.config.FieldExpiry
+     */
+    public FieldExpiry getFieldExpiry() {
+        return this.fieldExpiry;
+    }
+
+    /**
+     * Set the per-field expiry map.
+     *
+     * @param   fieldExpiry    net.jmp.demo.redis.config.FieldExpiry
+     */
+    public void setFieldExpiry(final FieldExpiry fieldExpiry) {
+        this.fieldExpiry = fieldExpiry;
+    }
+
+    /**
+     * Get the striped counter.
+     *
+     * @return  net.jmp.demo.redis.config.StripedCounter
+     */
+    public StripedCounter getStripedCounter() {
+        return this.stripedCounter;
+    }
+
+    /**
+     * Set the striped counter.
+     *
+     * @param   stripedCounter    net.jmp.demo.redis.config.StripedCounter
+     */
+    public void setStripedCounter(final StripedCounter stripedCounter) {
+        this.stripedCounter = stripedCounter;
+    }
+
+    /**
+     * Get the early refresh cache.
+     *
+     * @return  net.jmp.demo.redis.config.EarlyRefresh
+     */
+    public EarlyRefresh getEarlyRefresh() {
+        return this.earlyRefresh;
+    }
+
+    /**
+     * Set the early refresh cache.
+     *
+     * @param   earlyRefresh    net.jmp.demo.redis.config.EarlyRefresh
+     */
+    public void setEarlyRefresh(final EarlyRefresh earlyRefresh) {
+        this.earlyRefresh = earlyRefresh;
+    }
+
+    /**
+     * Get the Bloom filter guard.
+     *
+     * @return  net.jmp.demo.redis.config.BloomGuard
+     */
+    public BloomGuard getBloomGuard() {
+        return this.bloomGuard;
+    }
+
+    /**
+     * Set the Bloom filter guard.
+     *
+     * @param   bloomGuard    net.jmp.demo.redis.config.BloomGuard
+     */
+    public void setBloomGuard(final BloomGuard bloomGuard) {
+        this.bloomGuard = bloomGuard;
+    }
+
+    /**
+     * Get the value compression.
+     *
+     * @return  net.jmp.demo.redis.config.Compression
+     */
+    public Compression getCompression() {
+        return this.compression;
+    }
+
+    /**
+     * Set the value compression.
+     *
+     * @param   compression    net.jmp.demo.redis.config.Compression
+     */
+    public void setCompression(final Compression compression) {
+        this.compression = compression;
+    }
+
+    /**
+     * The equals method.
+     *
+     * @param   o   java.lang.Object
+     * @return      boolean
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final Cache cache = (Cache) o;
+
+        return Objects.equals(this.nearCache, cache.nearCache) && Objects.equals(this.keyListing, cache.keyListing) && Objects.equals(this.clientCache, cache.clientCache) && Objects.equals(this.cacheAside, cache.cacheAside) && Objects.equals(this.boundedCache, cache.boundedCache) && Objects.equals(this.fieldExpiry, cache.fieldExpiry) && Objects.equals(this.stripedCounter, cache.stripedCounter) && Objects.equals(this.earlyRefresh, cache.earlyRefresh) && Objects.equals(this.bloomGuard, cache.bloomGuard) && Objects.equals(this.compression, cache.compression);
+    }
+
+    /**
+     * The hash-code method.
+     *
+     * @return  int
+     */
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(this.nearCache);
+
+        result = 31 * result + Objects.hashCode(this.keyListing);
+        result = 31 * result + Objects.hashCode(this.clientCache);
+        result = 31 * result + Objects.hashCode(this.cacheAside);
+        result = 31 * result + Objects.hashCode(this.boundedCache);
+        result = 31 * result + Objects.hashCode(this.fieldExpiry);
+        result = 31 * result + Objects.hashCode(this.stripedCounter);
+        result = 31 * result + Objects.hashCode(this.earlyRefresh);
+        result = 31 * result + Objects.hashCode(this.bloomGuard);
+        result = 31 * result + Objects.hashCode(this.compression);
+
+        return result;
+    }
+
+    /**
+     * The to-string method.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return "Cache{" +
+                "nearCache=" + this.nearCache +
+                ", keyListing=" + this.keyListing +
+                ", clientCache=" + this.clientCache +
+                ", cacheAside=" + this.cacheAside +
+                ", boundedCache=" + this.boundedCache +
+                ", fieldExpiry=" + this.fieldExpiry +
+                ", stripedCounter=" + this.stripedCounter +
+                ", earlyRefresh=" + this.earlyRefresh +
+                ", bloomGuard=" + this.bloomGuard +
+                ", compression=" + this.compression +
+                '}';
+    }
+}
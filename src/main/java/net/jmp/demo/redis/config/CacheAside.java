@@ -0,0 +1,200 @@
+package net.jmp.demo.redis.config;
+
+/*
+ * (#)CacheAside.java   0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import com.google.gson.annotations.SerializedName;
+
+import java.util.Objects;
+
+/**
+ * The cache-aside class of the caching section of the configuration.
+ */
+public final class CacheAside {
+    /** The time to live of a loaded value in milliseconds; zero for no limit. */
+    @SerializedName("time-to-live")
+    private long timeToLive = 60_000;
+
+    /** True to also coalesce loads across processes with a short-lived lock. */
+    @SerializedName("distributed")
+    private boolean distributed;
+
+    /** The prefix of the name of each key's load lock. */
+    @SerializedName("lock-prefix")
+    private String lockPrefix = "cache-aside-lock:";
+
+    /** The milliseconds to wait for another process's load before loading anyway. */
+    @SerializedName("lock-wait")
+    private long lockWait = 2_000;
+
+    /** The milliseconds after which a load lock is released even if its holder died. */
+    @SerializedName("lock-lease")
+    private long lockLease = 5_000;
+
+    /**
+     * Get the time to live.
+     *
+     * @return  long
+     */
+    public long getTimeToLive() {
+        return this.timeToLive;
+    }
+
+    /**
+     * Set the time to live.
+     *
+     * @param   timeToLive    long
+     */
+    public void setTimeToLive(final long timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * Return true if loads are coalesced across processes.
+     *
+     * @return  boolean
+     */
+    public boolean isDistributed() {
+        return this.distributed;
+    }
+
+    /**
+     * Set whether loads are coalesced across processes.
+     *
+     * @param   distributed    boolean
+     */
+    public void setDistributed(final boolean distributed) {
+        this.distributed = distributed;
+    }
+
+    /**
+     * Get the lock prefix.
+     *
+     * @return  java.lang.String
+     */
+    public String getLockPrefix() {
+        return this.lockPrefix;
+    }
+
+    /**
+     * Set the lock prefix.
+     *
+     * @param   lockPrefix    java.lang.String
+     */
+    public void setLockPrefix(final String lockPrefix) {
+        this.lockPrefix = lockPrefix;
+    }
+
+    /**
+     * Get the lock wait.
+     *
+     * @return  long
+     */
+    public long getLockWait() {
+        return this.lockWait;
+    }
+
+    /**
+     * Set the lock wait.
+     *
+     * @param   lockWait    long
+     */
+    public void setLockWait(final long lockWait) {
+        this.lockWait = lockWait;
+    }
+
+    /**
+     * Get the lock lease.
+     *
+     * @return  long
+     */
+    public long getLockLease() {
+        return this.lockLease;
+    }
+
+    /**
+     * Set the lock lease.
+     *
+     * @param   lockLease    long
+     */
+    public void setLockLease(final long lockLease) {
+        this.lockLease = lockLease;
+    }
+
+    /**
+     * The equals method.
+     *
+     * @param   o   java.lang.Object
+     * @return      boolean
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final CacheAside cacheAside = (CacheAside) o;
+
+        return this.timeToLive == cacheAside.timeToLive && this.distributed == cacheAside.distributed && this.lockWait == cacheAside.lockWait && this.lockLease == cacheAside.lockLease && Objects.equals(this.lockPrefix, cacheAside.lockPrefix);
+    }
+
+    /**
+     * The hash-code method.
+     *
+     * @return  int
+     */
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(this.timeToLive);
+
+        result = 31 * result + Boolean.hashCode(this.distributed);
+        result = 31 * result + Objects.hashCode(this.lockPrefix);
+        result = 31 * result + Long.hashCode(this.lockWait);
+        result = 31 * result + Long.hashCode(this.lockLease);
+
+        return result;
+    }
+
+    /**
+     * The to-string method.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return "CacheAside{" +
+                "timeToLive=" + this.timeToLive +
+                ", distributed=" + this.distributed +
+                ", lockPrefix='" + this.lockPrefix + '\'' +
+                ", lockWait=" + this.lockWait +
+                ", lockLease=" + this.lockLease +
+                '}';
+    }
+}
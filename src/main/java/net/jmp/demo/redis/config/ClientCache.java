@@ -0,0 +1,150 @@
+package net.jmp.demo.redis.config;
+
+/*
+ * (#)ClientCache.java  0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import com.google.gson.annotations.SerializedName;
+
+/**
+ * The client cache class of the caching section of the configuration.
+ */
+public final class ClientCache {
+    /** True to connect with RESP3 and read buckets through a client-side cache. */
+    @SerializedName("enabled")
+    private boolean enabled;
+
+    /** The maximum number of buckets in the local store. */
+    @SerializedName("max-size")
+    private int maxSize = 1_000;
+
+    /** The milliseconds the demonstration waits for an invalidation to arrive. */
+    @SerializedName("invalidation-wait")
+    private long invalidationWait = 100;
+
+    /**
+     * Return true if the client cache is enabled.
+     *
+     * @return  boolean
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Set whether the client cache is enabled.
+     *
+     * @param   enabled boolean
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Get the maximum size.
+     *
+     * @return  int
+     */
+    public int getMaxSize() {
+        return this.maxSize;
+    }
+
+    /**
+     * Set the maximum size.
+     *
+     * @param   maxSize int
+     */
+    public void setMaxSize(final int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Get the invalidation wait.
+     *
+     * @return  long
+     */
+    public long getInvalidationWait() {
+        return this.invalidationWait;
+    }
+
+    /**
+     * Set the invalidation wait.
+     *
+     * @param   invalidationWait    long
+     */
+    public void setInvalidationWait(final long invalidationWait) {
+        this.invalidationWait = invalidationWait;
+    }
+
+    /**
+     * The equals method.
+     *
+     * @param   o   java.lang.Object
+     * @return      boolean
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final ClientCache clientCache = (ClientCache) o;
+
+        return this.enabled == clientCache.enabled && this.maxSize == clientCache.maxSize && this.invalidationWait == clientCache.invalidationWait;
+    }
+
+    /**
+     * The hash-code method.
+     *
+     * @return  int
+     */
+    @Override
+    public int hashCode() {
+        int result = Boolean.hashCode(this.enabled);
+
+        result = 31 * result + this.maxSize;
+        result = 31 * result + Long.hashCode(this.invalidationWait);
+
+        return result;
+    }
+
+    /**
+     * The to-string method.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return "ClientCache{" +
+                "enabled=" + this.enabled +
+                ", maxSize=" + this.maxSize +
+                ", invalidationWait=" + this.invalidationWait +
+                '}';
+    }
+}
@@ -0,0 +1,176 @@
+package net.jmp.demo.redis.config;
+
+/*
+ * (#)Compression.java  0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import com.google.gson.annotations.SerializedName;
+
+import java.util.Objects;
+
+/**
+ * The compression class of the caching section of the configuration.
+ */
+public final class Compression {
+    /** True to compress the values the client writes. */
+    @SerializedName("enabled")
+    private boolean enabled;
+
+    /** The compression algorithm; lz4 or zstd. */
+    @SerializedName("algorithm")
+    private String algorithm = "lz4";
+
+    /** The encoded size in bytes below which values are stored raw. */
+    @SerializedName("threshold")
+    private int threshold = 1024;
+
+    /** The zstd compression level. */
+    @SerializedName("level")
+    private int level = 3;
+
+    /**
+     * Return true if compression is enabled.
+     *
+     * @return  boolean
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Set whether compression is enabled.
+     *
+     * @param   enabled boolean
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Get the compression algorithm.
+     *
+     * @return  java.lang.String
+     */
+    public String getAlgorithm() {
+        return this.algorithm;
+    }
+
+    /**
+     * Set the compression algorithm.
+     *
+     * @param   algorithm    java.lang.String
+     */
+    public void setAlgorithm(final String algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    /**
+     * Get the compression threshold.
+     *
+     * @return  int
+     */
+    public int getThreshold() {
+        return this.threshold;
+    }
+
+    /**
+     * Set the compression threshold.
+     *
+     * @param   threshold    int
+     */
+    public void setThreshold(final int threshold) {
+        this.threshold = threshold;
+    }
+
+    /**
+     * Get the zstd compression level.
+     *
+     * @return  int
+     */
+    public int getLevel() {
+        return this.level;
+    }
+
+    /**
+     * Set the zstd compression level.
+     *
+     * @param   level   int
+     */
+    public void setLevel(final int level) {
+        this.level = level;
+    }
+
+    /**
+     * The equals method.
+     *
+     * @param   o   java.lang.Object
+     * @return      boolean
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final Compression compression = (Compression) o;
+
+        return this.enabled == compression.enabled && this.threshold == compression.threshold && this.level == compression.level && Objects.equals(this.algorithm, compression.algorithm);
+    }
+
+    /**
+     * The hash-code method.
+     *
+     * @return  int
+     */
+    @Override
+    public int hashCode() {
+        int result = Boolean.hashCode(this.enabled);
+
+        result = 31 * result + Objects.hashCode(this.algorithm);
+        result = 31 * result + this.threshold;
+        result = 31 * result + this.level;
+
+        return result;
+    }
+
+    /**
+     * The to-string method.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return "Compression{" +
+                "enabled=" + this.enabled +
+                ", algorithm='" + this.algorithm + '\'' +
+                ", threshold=" + this.threshold +
+                ", level=" + this.level +
+                '}';
+    }
+}
@@ -1,12 +1,13 @@
 package net.jmp.demo.redis.config;
 
 /*
+ * (#)Config.java   0.12.0  10/17/2026
  * (#)Config.java   0.9.0   06/22/2024
  * (#)Config.java   0.5.0   05/18/2024
  * (#)Config.java   0.1.0   05/01/2024
  *
  * @author    Jonathan Parker
- * @version   0.9.0
+ * @version   0.12.0
  * @since     0.1.0
  *
  * MIT License
@@ -48,6 +49,18 @@ public final class Config {
     @SerializedName("process-utility")
     private ProcessUtility processUtility;
 
+    /** The pipelining component. */
+    @SerializedName("pipelining")
+    private Pipeline pipeline = new Pipeline();
+
+    /** The key identifiers component. */
+    @SerializedName("key-ids")
+    private KeyIds keyIds = new KeyIds();
+
+    /** The caching component. */
+    @SerializedName("caching")
+    private Cache cache = new Cache();
+
     /**
      * Get the Redis component
      *
@@ -84,6 +97,59 @@ public final class Config {
         return this.processUtility;
     }
 
+    /**
+     * Get the pipelining component.
+     *
+     * @return  net.jmp.demo.redis.config.Pipeline
+     */
+    public Pipeline getPipeline() {
+        return this.pipeline;
+    }
+
+    /**
+     * Set the pipelining component.
+     *
+     * @param   pipeline    net.jmp.demo.redis.config.Pipeline
+     */
+    public void setPipeline(final Pipeline pipeline) {
+        this.pipeline = pipeline;
+    }
+
+    /**
+     * Get the key identifiers component.
+     *
+     * @return  net.jmp.demo.redis.config.KeyIds
+     */
+    public KeyIds getKeyIds() {
+        return this.keyIds;
+    }
+
+    /**
+     * Set the key identifiers component.
+     *
+     * @param   keyIds  net.jmp.demo.redis.config.KeyIds
+     */
+    public void setKeyIds(final KeyIds keyIds) {
+        this.keyIds = keyIds;
+    }
+
+    /**
+     * Get the caching component.
+     *
+     * @return  net.jmp.demo.redis.config.Cache
+     */
+    public Cache getCache() {
+        return this.cache;
+    }
+
+    /**
+     * Set the caching component.
+     *
+     * @param   cache   net.jmp.demo.redis.config.Cache
+     */
+    public void setCache(final Cache cache) {
+        this.cache = cache;
+    }
 
     /**
      * The equals method.
@@ -99,7 +165,7 @@ public final class Config {
 
         final Config config = (Config) o;
 
-        return Objects.equals(this.redis, config.redis) && Objects.equals(this.processUtility, config.processUtility);
+        return Objects.equals(this.redis, config.redis) && Objects.equals(this.processUtility, config.processUtility) && Objects.equals(this.pipeline, config.pipeline) && Objects.equals(this.keyIds, config.keyIds) && Objects.equals(this.cache, config.cache);
     }
 
     /**
@@ -112,6 +178,9 @@ public final class Config {
         int result = Objects.hashCode(this.redis);
 
         result = 31 * result + Objects.hashCode(this.processUtility);
+        result = 31 * result + Objects.hashCode(this.pipeline);
+        result = 31 * result + Objects.hashCode(this.keyIds);
+        result = 31 * result + Objects.hashCode(this.cache);
 
         return result;
     }
@@ -126,6 +195,9 @@ public final class Config {
         return "Config{" +
                 "processUtility=" + this.processUtility +
                 ", redis=" + this.redis +
+                ", pipeline=" + this.pipeline +
+                ", keyIds=" + this.keyIds +
+                ", cache=" + this.cache +
                 '}';
     }
 }
@@ -0,0 +1,174 @@
+package net.jmp.demo.redis.config;
+
+/*
+ * (#)EarlyRefresh.java 0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import com.google.gson.annotations.SerializedName;
+
+/**
+ * The early refresh class of the caching section of the configuration.
+ */
+public final class EarlyRefresh {
+    /** True to demonstrate probabilistic early refresh. */
+    @SerializedName("enabled")
+    private boolean enabled;
+
+    /** The logical time to live of a value in milliseconds. */
+    @SerializedName("time-to-live")
+    private long timeToLive = 10_000;
+
+    /** The eagerness of early refreshes; above one refreshes earlier. */
+    @SerializedName("beta")
+    private double beta = 1.0;
+
+    /** The milliseconds a value is kept past its expiry to be served while it is refreshed. */
+    @SerializedName("stale-grace")
+    private long staleGrace = 5_000;
+
+    /**
+     * Return true if early refresh is enabled.
+     *
+     * @return  boolean
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Set whether early refresh is enabled.
+     *
+     * @param   enabled boolean
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Get the time to live.
+     *
+     * @return  long
+     */
+    public long getTimeToLive() {
+        return this.timeToLive;
+    }
+
+    /**
+     * Set the time to live.
+     *
+     * @param   timeToLive    long
+     */
+    public void setTimeToLive(final long timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * Get the beta.
+     *
+     * @return  double
+     */
+    public double getBeta() {
+        return this.beta;
+    }
+
+    /**
+     * Set the beta.
+     *
+     * @param   beta    double
+     */
+    public void setBeta(final double beta) {
+        this.beta = beta;
+    }
+
+    /**
+     * Get the stale grace.
+     *
+     * @return  long
+     */
+    public long getStaleGrace() {
+        return this.staleGrace;
+    }
+
+    /**
+     * Set the stale grace.
+     *
+     * @param   staleGrace    long
+     */
+    public void setStaleGrace(final long staleGrace) {
+        this.staleGrace = staleGrace;
+    }
+
+    /**
+     * The equals method.
+     *
+     * @param   o   java.lang.Object
+     * @return      boolean
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final EarlyRefresh earlyRefresh = (EarlyRefresh) o;
+
+        return this.enabled == earlyRefresh.enabled && this.timeToLive == earlyRefresh.timeToLive && this.staleGrace == earlyRefresh.staleGrace && Double.compare(this.beta, earlyRefresh.beta) == 0;
+    }
+
+    /**
+     * The hash-code method.
+     *
+     * @return  int
+     */
+    @Override
+    public int hashCode() {
+        int result = Boolean.hashCode(this.enabled);
+
+        result = 31 * result + Long.hashCode(this.timeToLive);
+        result = 31 * result + Double.hashCode(this.beta);
+        result = 31 * result + Long.hashCode(this.staleGrace);
+
+        return result;
+    }
+
+    /**
+     * The to-string method.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return "EarlyRefresh{" +
+                "enabled=" + this.enabled +
+                ", timeToLive=" + this.timeToLive +
+                ", beta=" + this.beta +
+                ", staleGrace=" + this.staleGrace +
+                '}';
+    }
+}
@@ -0,0 +1,176 @@
+package net.jmp.demo.redis.config;
+
+/*
+ * (#)FieldExpiry.java  0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import com.google.gson.annotations.SerializedName;
+
+import java.util.Objects;
+
+/**
+ * The field expiry class of the caching section of the configuration.
+ */
+public final class FieldExpiry {
+    /** True to demonstrate per-field expiry. */
+    @SerializedName("enabled")
+    private boolean enabled;
+
+    /** The name of the map. */
+    @SerializedName("name")
+    private String name = "field-expiry";
+
+    /** The expiry mode: auto, native or emulated. */
+    @SerializedName("mode")
+    private String mode = "auto";
+
+    /** The time to live of a field in milliseconds. */
+    @SerializedName("time-to-live")
+    private long timeToLive = 60_000;
+
+    /**
+     * Return true if field expiry is enabled.
+     *
+     * @return  boolean
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Set whether field expiry is enabled.
+     *
+     * @param   enabled boolean
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Get the name of the map.
+     *
+     * @return  java.lang.String
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Set the name of the map.
+     *
+     * @param   name    java.lang.String
+     */
+    public void setName(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * Get the expiry mode.
+     *
+     * @return  java.lang.String
+     */
+    public String getMode() {
+        return this.mode;
+    }
+
+    /**
+     * Set the expiry mode.
+     *
+     * @param   mode    java.lang.String
+     */
+    public void setMode(final String mode) {
+        this.mode = mode;
+    }
+
+    /**
+     * Get the time to live.
+     *
+     * @return  long
+     */
+    public long getTimeToLive() {
+        return this.timeToLive;
+    }
+
+    /**
+     * Set the time to live.
+     *
+     * @param   timeToLive    long
+     */
+    public void setTimeToLive(final long timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * The equals method.
+     *
+     * @param   o   java.lang.Object
+     * @return      boolean
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final FieldExpiry fieldExpiry = (FieldExpiry) o;
+
+        return this.enabled == fieldExpiry.enabled && this.timeToLive == fieldExpiry.timeToLive && Objects.equals(this.name, fieldExpiry.name) && Objects.equals(this.mode, fieldExpiry.mode);
+    }
+
+    /**
+     * The hash-code method.
+     *
+     * @return  int
+     */
+    @Override
+    public int hashCode() {
+        int result = Boolean.hashCode(this.enabled);
+
+        result = 31 * result + Objects.hashCode(this.name);
+        result = 31 * result + Objects.hashCode(this.mode);
+        result = 31 * result + Long.hashCode(this.timeToLive);
+
+        return result;
+    }
+
+    /**
+     * The to-string method.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return "FieldExpiry{" +
+                "enabled=" + this.enabled +
+                ", name='" + this.name + '\'' +
+                ", mode='" + this.mode + '\'' +
+                ", timeToLive=" + this.timeToLive +
+                '}';
+    }
+}
@@ -0,0 +1,272 @@
+package net.jmp.demo.redis.config;
+
+/*
+ * (#)Import.java   0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import com.google.gson.annotations.SerializedName;
+
+import java.util.Objects;
+
+/**
+ * The import class of the pipelining section of the configuration.
+ */
+public final class Import {
+    /** The file to import; empty to load generated items. */
+    @SerializedName("file")
+    private String file = "";
+
+    /** The format: ndjson, csv or tsv. */
+    @SerializedName("format")
+    private String format = "ndjson";
+
+    /** The field or column holding the key. */
+    @SerializedName("key-field")
+    private String keyField = "id";
+
+    /** The field or column holding the value. */
+    @SerializedName("value-field")
+    private String valueField = "value";
+
+    /** True if the first CSV or TSV record names the columns. */
+    @SerializedName("header")
+    private boolean header = true;
+
+    /** The number of records between progress reports and checkpoints. */
+    @SerializedName("progress-interval")
+    private int progressInterval = 100_000;
+
+    /** True to resume from the last checkpoint. */
+    @SerializedName("resume")
+    private boolean resume = true;
+
+    /** The name of the map of checkpoint offsets. */
+    @SerializedName("checkpoint-map")
+    private String checkpointMap = "import-checkpoints";
+
+    /**
+     * Get the file.
+     *
+     * @return  java.lang.String
+     */
+    public String getFile() {
+        return this.file;
+    }
+
+    /**
+     * Set the file.
+     *
+     * @param   file    java.lang.String
+     */
+    public void setFile(final String file) {
+        this.file = file;
+    }
+
+    /**
+     * Get the format.
+     *
+     * @return  java.lang.String
+     */
+    public String getFormat() {
+        return this.format;
+    }
+
+    /**
+     * Set the format.
+     *
+     * @param   format  java.lang.String
+     */
+    public void setFormat(final String format) {
+        this.format = format;
+    }
+
+    /**
+     * Get the key field.
+     *
+     * @return  java.lang.String
+     */
+    public String getKeyField() {
+        return this.keyField;
+    }
+
+    /**
+     * Set the key field.
+     *
+     * @param   keyField    java.lang.String
+     */
+    public void setKeyField(final String keyField) {
+        this.keyField = keyField;
+    }
+
+    /**
+     * Get the value field.
+     *
+     * @return  java.lang.String
+     */
+    public String getValueField() {
+        return this.valueField;
+    }
+
+    /**
+     * Set the value field.
+     *
+     * @param   valueField  java.lang.String
+     */
+    public void setValueField(final String valueField) {
+        this.valueField = valueField;
+    }
+
+    /**
+     * Return true if the first record is a header.
+     *
+     * @return  boolean
+     */
+    public boolean isHeader() {
+        return this.header;
+    }
+
+    /**
+     * Set whether the first record is a header.
+     *
+     * @param   header  boolean
+     */
+    public void setHeader(final boolean header) {
+        this.header = header;
+    }
+
+    /**
+     * Get the progress interval.
+     *
+     * @return  int
+     */
+    public int getProgressInterval() {
+        return this.progressInterval;
+    }
+
+    /**
+     * Set the progress interval.
+     *
+     * @param   progressInterval    int
+     */
+    public void setProgressInterval(final int progressInterval) {
+        this.progressInterval = progressInterval;
+    }
+
+    /**
+     * Return true if the import resumes from the last checkpoint.
+     *
+     * @return  boolean
+     */
+    public boolean isResume() {
+        return this.resume;
+    }
+
+    /**
+     * Set whether the import resumes from the last checkpoint.
+     *
+     * @param   resume  boolean
+     */
+    public void setResume(final boolean resume) {
+        this.resume = resume;
+    }
+
+    /**
+     * Get the name of the map of checkpoint offsets.
+     *
+     * @return  java.lang.String
+     */
+    public String getCheckpointMap() {
+        return this.checkpointMap;
+    }
+
+    /**
+     * Set the name of the map of checkpoint offsets.
+     *
+     * @param   checkpointMap   java.lang.String
+     */
+    public void setCheckpointMap(final String checkpointMap) {
+        this.checkpointMap = checkpointMap;
+    }
+
+    /**
+     * The equals method.
+     *
+     * @param   o   java.lang.Object
+     * @return      boolean
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final Import anImport = (Import) o;
+
+        return this.header == anImport.header && this.progressInterval == anImport.progressInterval && this.resume == anImport.resume && Objects.equals(this.file, anImport.file) && Objects.equals(this.format, anImport.format) && Objects.equals(this.keyField, anImport.keyField) && Objects.equals(this.valueField, anImport.valueField) && Objects.equals(this.checkpointMap, anImport.checkpointMap);
+    }
+
+    /**
+     * The hash-code method.
+     *
+     * @return  int
+     */
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(this.file);
+
+        result = 31 * result + Objects.hashCode(this.format);
+        result = 31 * result + Objects.hashCode(this.keyField);
+        result = 31 * result + Objects.hashCode(this.valueField);
+        result = 31 * result + Boolean.hashCode(this.header);
+        result = 31 * result + this.progressInterval;
+        result = 31 * result + Boolean.hashCode(this.resume);
+        result = 31 * result + Objects.hashCode(this.checkpointMap);
+
+        return result;
+    }
+
+    /**
+     * The to-string method.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return "Import{" +
+                "file='" + this.file + '\'' +
+                ", format='" + this.format + '\'' +
+                ", keyField='" + this.keyField + '\'' +
+                ", valueField='" + this.valueField + '\'' +
+                ", header=" + this.header +
+                ", progressInterval=" + this.progressInterval +
+                ", resume=" + this.resume +
+                ", checkpointMap='" + this.checkpointMap + '\'' +
+                '}';
+    }
+}
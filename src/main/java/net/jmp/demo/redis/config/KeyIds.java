@@ -0,0 +1,200 @@
+package net.jmp.demo.redis.config;
+
+/*
+ * (#)KeyIds.java   0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import com.google.gson.annotations.SerializedName;
+
+import java.util.Objects;
+
+/**
+ * The key identifiers class of the configuration.
+ */
+public final class KeyIds {
+    /** The strategy: uuid or block. */
+    @SerializedName("strategy")
+    private String strategy = "uuid";
+
+    /** The name of the counter that block identifiers are leased from. */
+    @SerializedName("counter")
+    private String counter = "key-id-counter";
+
+    /** The number of identifiers in each leased block. */
+    @SerializedName("block-size")
+    private int blockSize = 10_000;
+
+    /** The encoding of block identifiers: base62 or decimal. */
+    @SerializedName("encoding")
+    private String encoding = "base62";
+
+    /** The prefix of every block identifier. */
+    @SerializedName("prefix")
+    private String prefix = "";
+
+    /**
+     * Get the strategy.
+     *
+     * @return  java.lang.String
+     */
+    public String getStrategy() {
+        return this.strategy;
+    }
+
+    /**
+     * Set the strategy.
+     *
+     * @param   strategy    java.lang.String
+     */
+    public void setStrategy(final String strategy) {
+        this.strategy = strategy;
+    }
+
+    /**
+     * Get the counter name.
+     *
+     * @return  java.lang.String
+     */
+    public String getCounter() {
+        return this.counter;
+    }
+
+    /**
+     * Set the counter name.
+     *
+     * @param   counter java.lang.String
+     */
+    public void setCounter(final String counter) {
+        this.counter = counter;
+    }
+
+    /**
+     * Get the block size.
+     *
+     * @return  int
+     */
+    public int getBlockSize() {
+        return this.blockSize;
+    }
+
+    /**
+     * Set the block size.
+     *
+     * @param   blockSize   int
+     */
+    public void setBlockSize(final int blockSize) {
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * Get the encoding.
+     *
+     * @return  java.lang.String
+     */
+    public String getEncoding() {
+        return this.encoding;
+    }
+
+    /**
+     * Set the encoding.
+     *
+     * @param   encoding    java.lang.String
+     */
+    public void setEncoding(final String encoding) {
+        this.encoding = encoding;
+    }
+
+    /**
+     * Get the prefix.
+     *
+     * @return  java.lang.String
+     */
+    public String getPrefix() {
+        return this.prefix;
+    }
+
+    /**
+     * Set the prefix.
+     *
+     * @param   prefix  java.lang.String
+     */
+    public void setPrefix(final String prefix) {
+        this.prefix = prefix;
+    }
+
+    /**
+     * The equals method.
+     *
+     * @param   o   java.lang.Object
+     * @return      boolean
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final KeyIds keyIds = (KeyIds) o;
+
+        return this.blockSize == keyIds.blockSize && Objects.equals(this.strategy, keyIds.strategy) && Objects.equals(this.counter, keyIds.counter) && Objects.equals(this.encoding, keyIds.encoding) && Objects.equals(this.prefix, keyIds.prefix);
+    }
+
+    /**
+     * The hash-code method.
+     *
+     * @return  int
+     */
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(this.strategy);
+
+        result = 31 * result + Objects.hashCode(this.counter);
+        result = 31 * result + this.blockSize;
+        result = 31 * result + Objects.hashCode(this.encoding);
+        result = 31 * result + Objects.hashCode(this.prefix);
+
+        return result;
+    }
+
+    /**
+     * The to-string method.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return "KeyIds{" +
+                "strategy='" + this.strategy + '\'' +
+                ", counter='" + this.counter + '\'' +
+                ", blockSize=" + this.blockSize +
+                ", encoding='" + this.encoding + '\'' +
+                ", prefix='" + this.prefix + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,226 @@
+package net.jmp.demo.redis.config;
+
+/*
+ * (#)KeyListing.java   0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import com.google.gson.annotations.SerializedName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The key listing class of the caching section of the configuration.
+ */
+public final class KeyListing {
+    /** The SCAN match pattern. */
+    @SerializedName("pattern")
+    private String pattern = "*";
+
+    /** The SCAN count hint and the number of keys in each MGET. */
+    @SerializedName("count")
+    private int count = 1_000;
+
+    /** The number of MGET calls allowed in flight at once. */
+    @SerializedName("window-size")
+    private int windowSize = 4;
+
+    /** The prefix of keys that are not listed. */
+    @SerializedName("exclude-prefix")
+    private String excludePrefix = "redisson_live_object";
+
+    /** The prefixes of keys whose values are plain UTF-8 strings. */
+    @SerializedName("string-prefixes")
+    private List<String> stringPrefixes = new ArrayList<>();
+
+    /** The keys that hold JSON documents of the configuration. */
+    @SerializedName("json-keys")
+    private List<String> jsonKeys = new ArrayList<>(List.of("my-config"));
+
+    /**
+     * Get the match pattern.
+     *
+     * @return  java.lang.String
+     */
+    public String getPattern() {
+        return this.pattern;
+    }
+
+    /**
+     * Set the match pattern.
+     *
+     * @param   pattern java.lang.String
+     */
+    public void setPattern(final String pattern) {
+        this.pattern = pattern;
+    }
+
+    /**
+     * Get the count.
+     *
+     * @return  int
+     */
+    public int getCount() {
+        return this.count;
+    }
+
+    /**
+     * Set the count.
+     *
+     * @param   count   int
+     */
+    public void setCount(final int count) {
+        this.count = count;
+    }
+
+    /**
+     * Get the window size.
+     *
+     * @return  int
+     */
+    public int getWindowSize() {
+        return this.windowSize;
+    }
+
+    /**
+     * Set the window size.
+     *
+     * @param   windowSize    int
+     */
+    public void setWindowSize(final int windowSize) {
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Get the prefix of excluded keys.
+     *
+     * @return  java.lang.String
+     */
+    public String getExcludePrefix() {
+        return this.excludePrefix;
+    }
+
+    /**
+     * Set the prefix of excluded keys.
+     *
+     * @param   excludePrefix    java.lang.String
+     */
+    public void setExcludePrefix(final String excludePrefix) {
+        this.excludePrefix = excludePrefix;
+    }
+
+    /**
+     * Get the prefixes of string keys.
+     *
+     * @return  java.util.List&lt;java.lang.String&gt;
+     */
+    public List<String> getStringPrefixes() {
+        return this.stringPrefixes;
+    }
+
+    /**
+     * Set the prefixes of string keys.
+     *
+     * @param   stringPrefixes  java.util.List&lt;java.lang.String&gt;
+     */
+    public void setStringPrefixes(final List<String> stringPrefixes) {
+        this.stringPrefixes = stringPrefixes;
+    }
+
+    /**
+     * Get the JSON document keys.
+     *
+     * @return  java.util.List&lt;java.lang.String&gt;
+     */
+    public List<String> getJsonKeys() {
+        return this.jsonKeys;
+    }
+
+    /**
+     * Set the JSON document keys.
+     *
+     * @param   jsonKeys    java.util.List&lt;java.lang.String&gt;
+     */
+    public void setJsonKeys(final List<String> jsonKeys) {
+        this.jsonKeys = jsonKeys;
+    }
+
+    /**
+     * The equals method.
+     *
+     * @param   o   java.lang.Object
+     * @return      boolean
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final KeyListing keyListing = (KeyListing) o;
+
+        return this.count == keyListing.count && this.windowSize == keyListing.windowSize && Objects.equals(this.pattern, keyListing.pattern) && Objects.equals(this.excludePrefix, keyListing.excludePrefix) && Objects.equals(this.stringPrefixes, keyListing.stringPrefixes) && Objects.equals(this.jsonKeys, keyListing.jsonKeys);
+    }
+
+    /**
+     * The hash-code method.
+     *
+     * @return  int
+     */
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(this.pattern);
+
+        result = 31 * result + this.count;
+        result = 31 * result + this.windowSize;
+        result = 31 * result + Objects.hashCode(this.excludePrefix);
+        result = 31 * result + Objects.hashCode(this.stringPrefixes);
+        result = 31 * result + Objects.hashCode(this.jsonKeys);
+
+        return result;
+    }
+
+    /**
+     * The to-string method.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return "KeyListing{" +
+                "pattern='" + this.pattern + '\'' +
+                ", count=" + this.count +
+                ", windowSize=" + this.windowSize +
+                ", excludePrefix='" + this.excludePrefix + '\'' +
+                ", stringPrefixes=" + this.stringPrefixes +
+                ", jsonKeys=" + this.jsonKeys +
+                '}';
+    }
+}
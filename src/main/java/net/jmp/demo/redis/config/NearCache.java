@@ -0,0 +1,272 @@
+package net.jmp.demo.redis.config;
+
+/*
+ * (#)NearCache.java    0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import com.google.gson.annotations.SerializedName;
+
+import java.util.Objects;
+
+/**
+ * The near cache class of the caching section of the configuration.
+ */
+public final class NearCache {
+    /** True to read through a near cache. */
+    @SerializedName("enabled")
+    private boolean enabled;
+
+    /** The name of the cached map. */
+    @SerializedName("name")
+    private String name = "near-cache";
+
+    /** The maximum number of entries in the local cache; zero for no limit. */
+    @SerializedName("cache-size")
+    private int cacheSize = 1_000;
+
+    /** The eviction policy: NONE, LRU, LFU, SOFT or WEAK. */
+    @SerializedName("eviction-policy")
+    private String evictionPolicy = "LRU";
+
+    /** The time to live of a local entry in milliseconds; zero for no limit. */
+    @SerializedName("time-to-live")
+    private long timeToLive = 60_000;
+
+    /** The maximum idle time of a local entry in milliseconds; zero for no limit. */
+    @SerializedName("max-idle")
+    private long maxIdle;
+
+    /** The sync strategy: NONE, INVALIDATE or UPDATE. */
+    @SerializedName("sync-strategy")
+    private String syncStrategy = "INVALIDATE";
+
+    /** The reconnection strategy: NONE, CLEAR or LOAD. */
+    @SerializedName("reconnection-strategy")
+    private String reconnectionStrategy = "CLEAR";
+
+    /**
+     * Return true if the near cache is enabled.
+     *
+     * @return  boolean
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Set whether the near cache is enabled.
+     *
+     * @param   enabled boolean
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Get the name of the cached map.
+     *
+     * @return  java.lang.String
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Set the name of the cached map.
+     *
+     * @param   name    java.lang.String
+     */
+    public void setName(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * Get the local cache size.
+     *
+     * @return  int
+     */
+    public int getCacheSize() {
+        return this.cacheSize;
+    }
+
+    /**
+     * Set the local cache size.
+     *
+     * @param   cacheSize    int
+     */
+    public void setCacheSize(final int cacheSize) {
+        this.cacheSize = cacheSize;
+    }
+
+    /**
+     * Get the eviction policy.
+     *
+     * @return  java.lang.String
+     */
+    public String getEvictionPolicy() {
+        return this.evictionPolicy;
+    }
+
+    /**
+     * Set the eviction policy.
+     *
+     * @param   evictionPolicy    java.lang.String
+     */
+    public void setEvictionPolicy(final String evictionPolicy) {
+        this.evictionPolicy = evictionPolicy;
+    }
+
+    /**
+     * Get the time to live in milliseconds.
+     *
+     * @return  long
+     */
+    public long getTimeToLive() {
+        return this.timeToLive;
+    }
+
+    /**
+     * Set the time to live in milliseconds.
+     *
+     * @param   timeToLive    long
+     */
+    public void setTimeToLive(final long timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * Get the maximum idle time in milliseconds.
+     *
+     * @return  long
+     */
+    public long getMaxIdle() {
+        return this.maxIdle;
+    }
+
+    /**
+     * Set the maximum idle time in milliseconds.
+     *
+     * @param   maxIdle long
+     */
+    public void setMaxIdle(final long maxIdle) {
+        this.maxIdle = maxIdle;
+    }
+
+    /**
+     * Get the sync strategy.
+     *
+     * @return  java.lang.String
+     */
+    public String getSyncStrategy() {
+        return this.syncStrategy;
+    }
+
+    /**
+     * Set the sync strategy.
+     *
+     * @param   syncStrategy    java.lang.String
+     */
+    public void setSyncStrategy(final String syncStrategy) {
+        this.syncStrategy = syncStrategy;
+    }
+
+    /**
+     * Get the reconnection strategy.
+     *
+     * @return  java.lang.String
+     */
+    public String getReconnectionStrategy() {
+        return this.reconnectionStrategy;
+    }
+
+    /**
+     * Set the reconnection strategy.
+     *
+     * @param   reconnectionStrategy    java.lang.String
+     */
+    public void setReconnectionStrategy(final String reconnectionStrategy) {
+        this.reconnectionStrategy = reconnectionStrategy;
+    }
+
+    /**
+     * The equals method.
+     *
+     * @param   o   java.lang.Object
+     * @return      boolean
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final NearCache nearCache = (NearCache) o;
+
+        return this.enabled == nearCache.enabled && this.cacheSize == nearCache.cacheSize && this.timeToLive == nearCache.timeToLive && this.maxIdle == nearCache.maxIdle && Objects.equals(this.name, nearCache.name) && Objects.equals(this.evictionPolicy, nearCache.evictionPolicy) && Objects.equals(this.syncStrategy, nearCache.syncStrategy) && Objects.equals(this.reconnectionStrategy, nearCache.reconnectionStrategy);
+    }
+
+    /**
+     * The hash-code method.
+     *
+     * @return  int
+     */
+    @Override
+    public int hashCode() {
+        int result = Boolean.hashCode(this.enabled);
+
+        result = 31 * result + Objects.hashCode(this.name);
+        result = 31 * result + this.cacheSize;
+        result = 31 * result + Objects.hashCode(this.evictionPolicy);
+        result = 31 * result + Long.hashCode(this.timeToLive);
+        result = 31 * result + Long.hashCode(this.maxIdle);
+        result = 31 * result + Objects.hashCode(this.syncStrategy);
+        result = 31 * result + Objects.hashCode(this.reconnectionStrategy);
+
+        return result;
+    }
+
+    /**
+     * The to-string method.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return "NearCache{" +
+                "enabled=" + this.enabled +
+                ", name='" + this.name + '\'' +
+                ", cacheSize=" + this.cacheSize +
+                ", evictionPolicy='" + this.evictionPolicy + '\'' +
+                ", timeToLive=" + this.timeToLive +
+                ", maxIdle=" + this.maxIdle +
+                ", syncStrategy='" + this.syncStrategy + '\'' +
+                ", reconnectionStrategy='" + this.reconnectionStrategy + '\'' +
+                '}';
+    }
+}
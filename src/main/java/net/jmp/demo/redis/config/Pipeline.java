@@ -0,0 +1,368 @@
+package net.jmp.demo.redis.config;
+
+/*
+ * (#)Pipeline.java 0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import com.google.gson.annotations.SerializedName;
+
+import java.util.Objects;
+
+/**
+ * The pipelining class of the configuration.
+ */
+public final class Pipeline {
+    /** The batch size for load and remove operations. */
+    @SerializedName("batch-size")
+    private int batchSize = 5_000;
+
+    /** The minimum size of each loaded value; zero for the natural size. */
+    @SerializedName("value-size")
+    private int valueSize;
+
+    /** The number of batches allowed in flight at once. */
+    @SerializedName("window-size")
+    private int windowSize = 1;
+
+    /** The number of concurrent producers. */
+    @SerializedName("producers")
+    private int producers = 1;
+
+    /** The load mode: batch or function. */
+    @SerializedName("load-mode")
+    private String loadMode = "batch";
+
+    /** True to load and remove with the reactive client. */
+    @SerializedName("reactive")
+    private boolean reactive;
+
+    /** The batch options. */
+    @SerializedName("batch-options")
+    private Batch batchOptions = new Batch();
+
+    /** The value storage. */
+    @SerializedName("storage")
+    private Storage storage = new Storage();
+
+    /** The adaptive batch sizing. */
+    @SerializedName("adaptive")
+    private Adaptive adaptive = new Adaptive();
+
+    /** The number of shards the key set is spread across. */
+    @SerializedName("key-set-shards")
+    private int keySetShards = 1;
+
+    /** The interval between telemetry reports in milliseconds; zero for none. */
+    @SerializedName("telemetry-interval")
+    private long telemetryInterval;
+
+    /** The file import. */
+    @SerializedName("import")
+    private Import dataImport = new Import();
+
+    /**
+     * Get the batch size.
+     *
+     * @return  int
+     */
+    public int getBatchSize() {
+        return this.batchSize;
+    }
+
+    /**
+     * Set the batch size.
+     *
+     * @param   batchSize   int
+     */
+    public void setBatchSize(final int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Get the value size.
+     *
+     * @return  int
+     */
+    public int getValueSize() {
+        return this.valueSize;
+    }
+
+    /**
+     * Set the value size.
+     *
+     * @param   valueSize   int
+     */
+    public void setValueSize(final int valueSize) {
+        this.valueSize = valueSize;
+    }
+
+    /**
+     * Get the window size.
+     *
+     * @return  int
+     */
+    public int getWindowSize() {
+        return this.windowSize;
+    }
+
+    /**
+     * Set the window size.
+     *
+     * @param   windowSize  int
+     */
+    public void setWindowSize(final int windowSize) {
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Get the number of producers.
+     *
+     * @return  int
+     */
+    public int getProducers() {
+        return this.producers;
+    }
+
+    /**
+     * Set the number of producers.
+     *
+     * @param   producers   int
+     */
+    public void setProducers(final int producers) {
+        this.producers = producers;
+    }
+
+    /**
+     * Get the load mode.
+     *
+     * @return  java.lang.String
+     */
+    public String getLoadMode() {
+        return this.loadMode;
+    }
+
+    /**
+     * Set the load mode.
+     *
+     * @param   loadMode    java.lang.String
+     */
+    public void setLoadMode(final String loadMode) {
+        this.loadMode = loadMode;
+    }
+
+    /**
+     * Return true if loads and removes use the reactive client.
+     *
+     * @return  boolean
+     */
+    public boolean isReactive() {
+        return this.reactive;
+    }
+
+    /**
+     * Set whether loads and removes use the reactive client.
+     *
+     * @param   reactive    boolean
+     */
+    public void setReactive(final boolean reactive) {
+        this.reactive = reactive;
+    }
+
+    /**
+     * Get the batch options.
+     *
+     * @return  net.jmp.demo.redis.config.Batch
+     */
+    public Batch getBatchOptions() {
+        return this.batchOptions;
+    }
+
+    /**
+     * Set the batch options.
+     *
+     * @param   batchOptions    net.jmp.demo.redis.config.Batch
+     */
+    public void setBatchOptions(final Batch batchOptions) {
+        this.batchOptions = batchOptions;
+    }
+
+    /**
+     * Get the value storage.
+     *
+     * @return  net.jmp.demo.redis.config.Storage
+     */
+    public Storage getStorage() {
+        return this.storage;
+    }
+
+    /**
+     * Set the value storage.
+     *
+     * @param   storage net.jmp.demo.redis.config.Storage
+     */
+    public void setStorage(final Storage storage) {
+        this.storage = storage;
+    }
+
+    /**
+     * Get the adaptive batch sizing.
+     *
+     * @return  net.jmp.demo.redis.config.Adaptive
+     */
+    public Adaptive getAdaptive() {
+        return this.adaptive;
+    }
+
+    /**
+     * Set the adaptive batch sizing.
+     *
+     * @param   adaptive    net.jmp.demo.redis.config.Adaptive
+     */
+    public void setAdaptive(final Adaptive adaptive) {
+        this.adaptive = adaptive;
+    }
+
+    /**
+     * Get the number of key set shards.
+     *
+     * @return  int
+     */
+    public int getKeySetShards() {
+        return this.keySetShards;
+    }
+
+    /**
+     * Set the number of key set shards.
+     *
+     * @param   keySetShards    int
+     */
+    public void setKeySetShards(final int keySetShards) {
+        this.keySetShards = keySetShards;
+    }
+
+    /**
+     * Get the telemetry report interval in milliseconds.
+     *
+     * @return  long
+     */
+    public long getTelemetryInterval() {
+        return this.telemetryInterval;
+    }
+
+    /**
+     * Set the telemetry report interval in milliseconds.
+     *
+     * @param   telemetryInterval   long
+     */
+    public void setTelemetryInterval(final long telemetryInterval) {
+        this.telemetryInterval = telemetryInterval;
+    }
+
+    /**
+     * Get the file import.
+     *
+     * @return  net.jmp.demo.redis.config.Import
+     */
+    public Import getImport() {
+        return this.dataImport;
+    }
+
+    /**
+     * Set the file import.
+     *
+     * @param   dataImport  net.jmp.demo.redis.config.Import
+     */
+    public void setImport(final Import dataImport) {
+        this.dataImport = dataImport;
+    }
+
+    /**
+     * The equals method.
+     *
+     * @param   o   java.lang.Object
+     * @return      boolean
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final Pipeline pipeline = (Pipeline) o;
+
+        return this.batchSize == pipeline.batchSize && this.valueSize == pipeline.valueSize && this.windowSize == pipeline.windowSize && this.producers == pipeline.producers && Objects.equals(this.loadMode, pipeline.loadMode) && this.reactive == pipeline.reactive && Objects.equals(this.batchOptions, pipeline.batchOptions) && Objects.equals(this.storage, pipeline.storage) && Objects.equals(this.adaptive, pipeline.adaptive) && this.keySetShards == pipeline.keySetShards && this.telemetryInterval == pipeline.telemetryInterval && Objects.equals(this.dataImport, pipeline.dataImport);
+    }
+
+    /**
+     * The hash-code method.
+     *
+     * @return  int
+     */
+    @Override
+    public int hashCode() {
+        int result = this.batchSize;
+
+        result = 31 * result + this.valueSize;
+        result = 31 * result + this.windowSize;
+        result = 31 * result + this.producers;
+        result = 31 * result + Objects.hashCode(this.loadMode);
+        result = 31 * result + Boolean.hashCode(this.reactive);
+        result = 31 * result + Objects.hashCode(this.batchOptions);
+        result = 31 * result + Objects.hashCode(this.storage);
+        result = 31 * result + Objects.hashCode(this.adaptive);
+        result = 31 * result + this.keySetShards;
+        result = 31 * result + Long.hashCode(this.telemetryInterval);
+        result = 31 * result + Objects.hashCode(this.dataImport);
+
+        return result;
+    }
+
+    /**
+     * The to-string method.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return "Pipeline{" +
+                "batchSize=" + this.batchSize +
+                ", valueSize=" + this.valueSize +
+                ", windowSize=" + this.windowSize +
+                ", producers=" + this.producers +
+                ", loadMode='" + this.loadMode + '\'' +
+                ", reactive=" + this.reactive +
+                ", batchOptions=" + this.batchOptions +
+                ", storage=" + this.storage +
+                ", adaptive=" + this.adaptive +
+                ", keySetShards=" + this.keySetShards +
+                ", telemetryInterval=" + this.telemetryInterval +
+                ", dataImport=" + this.dataImport +
+                '}';
+    }
+}
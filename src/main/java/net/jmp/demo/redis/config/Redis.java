@@ -1,13 +1,14 @@
 package net.jmp.demo.redis.config;
 
 /*
+ * (#)Redis.java    0.12.0  10/17/2026
  * (#)Config.java   0.5.0   05/18/2024
  * (#)Config.java   0.3.0   05/04/2024
  * (#)Config.java   0.2.0   05/02/2024
  * (#)Config.java   0.1.0   05/01/2024
  *
  * @author    Jonathan Parker
- * @version   0.5.0
+ * @version   0.12.0
  * @since     0.1.0
  *
  * MIT License
@@ -35,6 +36,7 @@ package net.jmp.demo.redis.config;
 
 import com.google.gson.annotations.SerializedName;
 
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -57,6 +59,10 @@ public final class Redis {
     @SerializedName("server-cli")
     private ServerCLI serverCLI;
 
+    /** The names of the classes whose Kryo references are tracked. */
+    @SerializedName("kryo-reference-types")
+    private List<String> kryoReferenceTypes = List.of();
+
     /**
      * Get the host name.
      *
@@ -129,6 +135,26 @@ public final class Redis {
         this.serverCLI = serverCLI;
     }
 
+    /**
+     * Get the names of the classes whose
+     * Kryo references are tracked.
+     *
+     * @return  java.util.List&lt;java.lang.String&gt;
+     */
+    public List<String> getKryoReferenceTypes() {
+        return this.kryoReferenceTypes;
+    }
+
+    /**
+     * Set the names of the classes whose
+     * Kryo references are tracked.
+     *
+     * @param   kryoReferenceTypes  java.util.List&lt;java.lang.String&gt;
+     */
+    public void setKryoReferenceTypes(final List<String> kryoReferenceTypes) {
+        this.kryoReferenceTypes = kryoReferenceTypes;
+    }
+
     /**
      * The equals method.
      *
@@ -143,7 +169,7 @@ public final class Redis {
 
         final Redis redis = (Redis) o;
 
-        return this.port == redis.port && Objects.equals(this.hostName, redis.hostName) && Objects.equals(this.protocol, redis.protocol) && Objects.equals(this.serverCLI, redis.serverCLI);
+        return this.port == redis.port && Objects.equals(this.hostName, redis.hostName) && Objects.equals(this.protocol, redis.protocol) && Objects.equals(this.serverCLI, redis.serverCLI) && Objects.equals(this.kryoReferenceTypes, redis.kryoReferenceTypes);
     }
 
     /**
@@ -158,6 +184,7 @@ public final class Redis {
         result = 31 * result + this.port;
         result = 31 * result + Objects.hashCode(this.protocol);
         result = 31 * result + Objects.hashCode(this.serverCLI);
+        result = 31 * result + Objects.hashCode(this.kryoReferenceTypes);
 
         return result;
     }
@@ -174,6 +201,7 @@ public final class Redis {
                 ", port=" + this.port +
                 ", protocol=" + this.protocol +
                 ", serverCLI=" + this.serverCLI +
+                ", kryoReferenceTypes=" + this.kryoReferenceTypes +
                 '}';
     }
 }
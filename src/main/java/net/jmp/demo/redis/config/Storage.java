@@ -0,0 +1,152 @@
+package net.jmp.demo.redis.config;
+
+/*
+ * (#)Storage.java  0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import com.google.gson.annotations.SerializedName;
+
+import java.util.Objects;
+
+/**
+ * The storage class of the pipelining section of the configuration.
+ */
+public final class Storage {
+    /** The mode: keys for one key per value or hash-buckets. */
+    @SerializedName("mode")
+    private String mode = "keys";
+
+    /** The number of hash buckets. */
+    @SerializedName("buckets")
+    private int buckets = 1_024;
+
+    /** The name prefix of the hash buckets. */
+    @SerializedName("prefix")
+    private String prefix = "value-bucket";
+
+    /**
+     * Get the mode.
+     *
+     * @return  java.lang.String
+     */
+    public String getMode() {
+        return this.mode;
+    }
+
+    /**
+     * Set the mode.
+     *
+     * @param   mode    java.lang.String
+     */
+    public void setMode(final String mode) {
+        this.mode = mode;
+    }
+
+    /**
+     * Get the number of hash buckets.
+     *
+     * @return  int
+     */
+    public int getBuckets() {
+        return this.buckets;
+    }
+
+    /**
+     * Set the number of hash buckets.
+     *
+     * @param   buckets int
+     */
+    public void setBuckets(final int buckets) {
+        this.buckets = buckets;
+    }
+
+    /**
+     * Get the name prefix of the hash buckets.
+     *
+     * @return  java.lang.String
+     */
+    public String getPrefix() {
+        return this.prefix;
+    }
+
+    /**
+     * Set the name prefix of the hash buckets.
+     *
+     * @param   prefix  java.lang.String
+     */
+    public void setPrefix(final String prefix) {
+        this.prefix = prefix;
+    }
+
+    /**
+     * The equals method.
+     *
+     * @param   o   java.lang.Object
+     * @return      boolean
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final Storage storage = (Storage) o;
+
+        return this.buckets == storage.buckets && Objects.equals(this.mode, storage.mode) && Objects.equals(this.prefix, storage.prefix);
+    }
+
+    /**
+     * The hash-code method.
+     *
+     * @return  int
+     */
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(this.mode);
+
+        result = 31 * result + this.buckets;
+        result = 31 * result + Objects.hashCode(this.prefix);
+
+        return result;
+    }
+
+    /**
+     * The to-string method.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return "Storage{" +
+                "mode='" + this.mode + '\'' +
+                ", buckets=" + this.buckets +
+                ", prefix='" + this.prefix + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,224 @@
+package net.jmp.demo.redis.config;
+
+/*
+ * (#)StripedCounter.java   0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import com.google.gson.annotations.SerializedName;
+
+import java.util.Objects;
+
+/**
+ * The striped counter class of the caching section of the configuration.
+ */
+public final class StripedCounter {
+    /** True to demonstrate the striped counter. */
+    @SerializedName("enabled")
+    private boolean enabled;
+
+    /** The name of the counter. */
+    @SerializedName("name")
+    private String name = "striped-counter";
+
+    /** The number of atomic longs the counter is spread across. */
+    @SerializedName("shards")
+    private int shards = 1;
+
+    /** The milliseconds between flushes of the local increments. */
+    @SerializedName("flush-interval")
+    private long flushInterval = 100;
+
+    /** The size of the local total that triggers an early flush. */
+    @SerializedName("flush-threshold")
+    private long flushThreshold = 10_000;
+
+    /** The milliseconds a read of the Redis total may be reused. */
+    @SerializedName("max-staleness")
+    private long maxStaleness = 100;
+
+    /**
+     * Return true if the striped counter is enabled.
+     *
+     * @return  boolean
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Set whether the striped counter is enabled.
+     *
+     * @param   enabled boolean
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Get the name of the counter.
+     *
+     * @return  java.lang.String
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Set the name of the counter.
+     *
+     * @param   name    java.lang.String
+     */
+    public void setName(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * Get the number of shards.
+     *
+     * @return  int
+     */
+    public int getShards() {
+        return this.shards;
+    }
+
+    /**
+     * Set the number of shards.
+     *
+     * @param   shards  int
+     */
+    public void setShards(final int shards) {
+        this.shards = shards;
+    }
+
+    /**
+     * Get the flush interval.
+     *
+     * @return  long
+     */
+    public long getFlushInterval() {
+        return this.flushInterval;
+    }
+
+    /**
+     * Set the flush interval.
+     *
+     * @param   flushInterval    long
+     */
+    public void setFlushInterval(final long flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    /**
+     * Get the flush threshold.
+     *
+     * @return  long
+     */
+    public long getFlushThreshold() {
+        return this.flushThreshold;
+    }
+
+    /**
+     * Set the flush threshold.
+     *
+     * @param   flushThreshold    long
+     */
+    public void setFlushThreshold(final long flushThreshold) {
+        this.flushThreshold = flushThreshold;
+    }
+
+    /**
+     * Get the maximum staleness.
+     *
+     * @return  long
+     */
+    public long getMaxStaleness() {
+        return this.maxStaleness;
+    }
+
+    /**
+     * Set the maximum staleness.
+     *
+     * @param   maxStaleness    long
+     */
+    public void setMaxStaleness(final long maxStaleness) {
+        this.maxStaleness = maxStaleness;
+    }
+
+    /**
+     * The equals method.
+     *
+     * @param   o   java.lang.Object
+     * @return      boolean
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final StripedCounter stripedCounter = (StripedCounter) o;
+
+        return this.enabled == stripedCounter.enabled && this.shards == stripedCounter.shards && this.flushInterval == stripedCounter.flushInterval && this.flushThreshold == stripedCounter.flushThreshold && this.maxStaleness == stripedCounter.maxStaleness && Objects.equals(this.name, stripedCounter.name);
+    }
+
+    /**
+     * The hash-code method.
+     *
+     * @return  int
+     */
+    @Override
+    public int hashCode() {
+        int result = Boolean.hashCode(this.enabled);
+
+        result = 31 * result + Objects.hashCode(this.name);
+        result = 31 * result + this.shards;
+        result = 31 * result + Long.hashCode(this.flushInterval);
+        result = 31 * result + Long.hashCode(this.flushThreshold);
+        result = 31 * result + Long.hashCode(this.maxStaleness);
+
+        return result;
+    }
+
+    /**
+     * The to-string method.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return "StripedCounter{" +
+                "enabled=" + this.enabled +
+                ", name='" + this.name + '\'' +
+                ", shards=" + this.shards +
+                ", flushInterval=" + this.flushInterval +
+                ", flushThreshold=" + this.flushThreshold +
+                ", maxStaleness=" + this.maxStaleness +
+                '}';
+    }
+}
@@ -0,0 +1,214 @@
+package net.jmp.demo.redis.impl;
+
+/*
+ * (#)AdaptiveBatchSizer.java   0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.concurrent.TimeUnit;
+
+import net.jmp.demo.redis.config.Adaptive;
+
+import org.slf4j.LoggerFactory;
+
+import org.slf4j.ext.XLogger;
+
+/**
+ * A feedback controller for the batch size. It uses
+ * additive-increase, multiplicative-decrease: after
+ * each batch that completes within the target latency
+ * the size grows by a fixed step, and after a batch that
+ * is slower than the target or fails the size is cut by
+ * the decrease factor. Only one decrease is made
+ * per round trip: a slow batch that was sent before
+ * the last decrease belongs to the same episode of
+ * congestion and does not cut the size again, so a
+ * full window of slow batches halves it once rather
+ * than once per batch. The size stays within the
+ * configured bounds. When adaptive sizing is disabled
+ * the size is fixed at the configured batch size.
+ * Observations arrive on Netty threads, so the state
+ * is guarded by the instance monitor.
+ */
+final class AdaptiveBatchSizer {
+    /** The logger. */
+    private final XLogger logger = new XLogger(LoggerFactory.getLogger(this.getClass().getName()));
+
+    /** The name of the sized operation, used in the metric. */
+    private final String operation;
+
+    /** True when the batch size adapts. */
+    private final boolean enabled;
+
+    /** The smallest batch size. */
+    private final int minSize;
+
+    /** The largest batch size. */
+    private final int maxSize;
+
+    /** The target latency in nanoseconds. */
+    private final long targetLatency;
+
+    /** The additive increase. */
+    private final int increase;
+
+    /** The multiplicative decrease factor. */
+    private final double decreaseFactor;
+
+    /** The current batch size. */
+    private int size;
+
+    /** The number of decisions made. */
+    private long decisions;
+
+    /** The nano time of the last decrease. */
+    private long lastDecreaseTime = System.nanoTime();
+
+    /**
+     * The constructor.
+     *
+     * @param   operation   java.lang.String
+     * @param   batchSize   int
+     * @param   adaptive    net.jmp.demo.redis.config.Adaptive
+     */
+    AdaptiveBatchSizer(final String operation, final int batchSize, final Adaptive adaptive) {
+        super();
+
+        assert operation != null;
+        assert batchSize > 0;
+        assert adaptive != null;
+
+        this.operation = operation;
+        this.enabled = adaptive.isEnabled();
+
+        if (this.enabled) {
+            assert adaptive.getMinBatchSize() > 0;
+            assert adaptive.getMaxBatchSize() >= adaptive.getMinBatchSize();
+            assert adaptive.getTargetLatency() > 0;
+            assert adaptive.getIncrease() >= 0;
+            assert adaptive.getDecreaseFactor() > 0 && adaptive.getDecreaseFactor() < 1;
+
+            this.minSize = adaptive.getMinBatchSize();
+            this.maxSize = adaptive.getMaxBatchSize();
+            this.size = Math.clamp(batchSize, this.minSize, this.maxSize);
+        } else {
+            this.minSize = batchSize;
+            this.maxSize = batchSize;
+            this.size = batchSize;
+        }
+
+        this.targetLatency = TimeUnit.MILLISECONDS.toNanos(adaptive.getTargetLatency());
+        this.increase = adaptive.getIncrease();
+        this.decreaseFactor = adaptive.getDecreaseFactor();
+    }
+
+    /**
+     * Return the size of the next batch.
+     *
+     * @return  int
+     */
+    synchronized int nextBatchSize() {
+        return this.size;
+    }
+
+    /**
+     * Record the outcome of a batch and resize. The
+     * latency is in nanoseconds. The reply size is the
+     * number of responses, or -1 when it is unknown,
+     * as it is when the results are skipped. The
+     * sent time is the nano time the batch was sent.
+     *
+     * @param   items       int
+     * @param   commands    int
+     * @param   sentTime    long
+     * @param   latency     long
+     * @param   replies     int
+     * @param   exception   java.lang.Throwable
+     */
+    synchronized void record(final int items,
+                             final int commands,
+                             final long sentTime,
+                             final long latency,
+                             final int replies,
+                             final Throwable exception) {
+        if (!this.enabled) {
+            return;
+        }
+
+        final int previous = this.size;
+        final String reason;
+
+        if (exception != null || latency > this.targetLatency) {
+            if (sentTime - this.lastDecreaseTime < 0) {
+                reason = "already-decreased";       // Sent before the last decrease; same congestion
+            } else {
+                reason = exception != null ? "error" : "slow";
+                this.size = this.decrease(previous);
+                this.lastDecreaseTime = System.nanoTime();
+            }
+        } else if (replies >= 0 && replies < commands) {
+            reason = "short-reply";                 // Not every command answered; do not grow
+        } else {
+            reason = "fast";
+            this.size = Math.min(this.maxSize, previous + this.increase);
+        }
+
+        this.decisions++;
+
+        if (this.logger.isDebugEnabled()) {
+            this.logger.debug("metric=batch-size operation={} decision={} items={} replies={} latency-ms={} reason={} size={} next-size={}",
+                    this.operation,
+                    this.decisions,
+                    items,
+                    replies,
+                    TimeUnit.NANOSECONDS.toMillis(latency),
+                    reason,
+                    previous,
+                    this.size);
+        }
+    }
+
+    /**
+     * Return the batch size reduced by the decrease factor.
+     *
+     * @param   current int
+     * @return          int
+     */
+    private int decrease(final int current) {
+        return Math.max(this.minSize, (int) (current * this.decreaseFactor));
+    }
+
+    /**
+     * Return true if the batch size adapts.
+     *
+     * @return  boolean
+     */
+    boolean isEnabled() {
+        return this.enabled;
+    }
+}
@@ -0,0 +1,83 @@
+package net.jmp.demo.redis.impl;
+
+/*
+ * (#)BatchOptionsFactory.java  0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.concurrent.TimeUnit;
+
+import org.redisson.api.BatchOptions;
+
+import net.jmp.demo.redis.config.Batch;
+
+/**
+ * The batch options factory class. It only contains static methods.
+ */
+final class BatchOptionsFactory {
+    /**
+     * A hidden constructor.
+     */
+    private BatchOptionsFactory() {
+        throw new IllegalStateException("BatchOptionsFactory contains only static methods");
+    }
+
+    /**
+     * Create the Redisson batch options from the
+     * batch options configuration. A null
+     * configuration yields the defaults.
+     *
+     * @param   batch   net.jmp.demo.redis.config.Batch
+     * @return          org.redisson.api.BatchOptions
+     */
+    static BatchOptions create(final Batch batch) {
+        final BatchOptions options = BatchOptions.defaults();
+
+        if (batch != null) {
+            if (batch.getExecutionMode() != null) {
+                options.executionMode(BatchOptions.ExecutionMode.valueOf(batch.getExecutionMode()));
+            }
+
+            if (batch.getResponseTimeout() > 0) {
+                options.responseTimeout(batch.getResponseTimeout(), TimeUnit.MILLISECONDS);
+            }
+
+            if (batch.getRetryAttempts() >= 0) {
+                options.retryAttempts(batch.getRetryAttempts());
+            }
+
+            // Replies are neither sent nor decoded so command results are null
+
+            if (batch.isSkipResult()) {
+                options.skipResult();
+            }
+        }
+
+        return options;
+    }
+}
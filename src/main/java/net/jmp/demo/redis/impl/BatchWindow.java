@@ -0,0 +1,161 @@
+package net.jmp.demo.redis.impl;
+
+/*
+ * (#)BatchWindow.java  0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Semaphore;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import java.util.function.Supplier;
+
+import org.slf4j.LoggerFactory;
+
+import org.slf4j.ext.XLogger;
+
+/**
+ * A window of asynchronously executing batches. A
+ * bounded number of permits limits how many batches
+ * may be in flight at once. A permit is taken before
+ * a batch is executed and returned when it completes,
+ * so producers block only when the window is full.
+ * The window is the one place that a failed batch is
+ * logged and counted.
+ */
+final class BatchWindow {
+    /** The logger. */
+    private final XLogger logger = new XLogger(LoggerFactory.getLogger(this.getClass().getName()));
+
+    /** The permits, one for each batch that may be in flight. */
+    private final Semaphore permits;
+
+    /** The window size. */
+    private final int size;
+
+    /** The number of batches that failed. */
+    private final AtomicLong failures = new AtomicLong();
+
+    /**
+     * The constructor.
+     *
+     * @param   size    int
+     */
+    BatchWindow(final int size) {
+        super();
+
+        assert size > 0;
+
+        this.size = size;
+        this.permits = new Semaphore(size);
+    }
+
+    /**
+     * Wait for a free slot in the window and then
+     * start the execution. The slot is released
+     * when the execution completes.
+     *
+     * @param   execution   java.util.function.Supplier&lt;? extends java.util.concurrent.CompletionStage&lt;?&gt;&gt;
+     * @throws              java.lang.InterruptedException
+     */
+    void submit(final Supplier<? extends CompletionStage<?>> execution) throws InterruptedException {
+        assert execution != null;
+
+        this.permits.acquire();
+
+        final CompletionStage<?> stage;
+
+        try {
+            stage = execution.get();
+        } catch (final RuntimeException re) {
+            this.permits.release();
+
+            throw re;
+        }
+
+        stage.whenComplete((result, exception) -> {
+            if (exception != null) {
+                this.failures.incrementAndGet();
+                this.logger.catching(exception);
+            }
+
+            this.permits.release();
+        });
+    }
+
+    /**
+     * Wait until every submitted execution has completed.
+     *
+     * @throws  java.lang.InterruptedException
+     */
+    void await() throws InterruptedException {
+        this.permits.acquire(this.size);
+        this.permits.release(this.size);
+    }
+
+    /**
+     * Wait until every submitted execution has
+     * completed, even if the thread is interrupted.
+     * The interrupt status is kept. Used before the
+     * resources that the executions report to are
+     * released.
+     */
+    void awaitUninterruptibly() {
+        this.permits.acquireUninterruptibly(this.size);
+        this.permits.release(this.size);
+    }
+
+    /**
+     * Return the number of batches currently in flight.
+     *
+     * @return  int
+     */
+    int getInFlight() {
+        return this.size - this.permits.availablePermits();
+    }
+
+    /**
+     * Return the number of batches that failed.
+     *
+     * @return  long
+     */
+    long getFailures() {
+        return this.failures.get();
+    }
+
+    /**
+     * Return the window size.
+     *
+     * @return  int
+     */
+    int getSize() {
+        return this.size;
+    }
+}
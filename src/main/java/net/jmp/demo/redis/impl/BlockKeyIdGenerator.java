@@ -0,0 +1,138 @@
+package net.jmp.demo.redis.impl;
+
+/*
+ * (#)BlockKeyIdGenerator.java  0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.redisson.api.RAtomicLong;
+
+import org.slf4j.LoggerFactory;
+
+import org.slf4j.ext.XLogger;
+
+/**
+ * The key identifier generator that leases blocks
+ * of identifiers from a counter in Redis and hands
+ * them out from a local counter. Only one round
+ * trip is made per block and the identifiers are
+ * unique across every client sharing the counter.
+ * A lock is used rather than synchronization so a
+ * virtual thread leasing a block does not pin its
+ * carrier thread.
+ */
+final class BlockKeyIdGenerator implements KeyIdGenerator {
+    /** The logger. */
+    private final XLogger logger = new XLogger(LoggerFactory.getLogger(this.getClass().getName()));
+
+    /** The counter that blocks are leased from. */
+    private final RAtomicLong counter;
+
+    /** The number of identifiers in a block. */
+    private final int blockSize;
+
+    /** The encoding. */
+    private final KeyIdEncoding encoding;
+
+    /** The prefix. */
+    private final String prefix;
+
+    /** The lock guarding the local counter. */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /** The next identifier to hand out. */
+    private long next;
+
+    /** The end of the current block, exclusive. */
+    private long limit;
+
+    /**
+     * The constructor.
+     *
+     * @param   counter     org.redisson.api.RAtomicLong
+     * @param   blockSize   int
+     * @param   encoding    net.jmp.demo.redis.impl.KeyIdEncoding
+     * @param   prefix      java.lang.String
+     */
+    BlockKeyIdGenerator(final RAtomicLong counter,
+                        final int blockSize,
+                        final KeyIdEncoding encoding,
+                        final String prefix) {
+        super();
+
+        assert counter != null;
+        assert blockSize > 0;
+        assert encoding != null;
+        assert prefix != null;
+
+        this.counter = counter;
+        this.blockSize = blockSize;
+        this.encoding = encoding;
+        this.prefix = prefix;
+    }
+
+    /**
+     * Return the next identifier.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String nextId() {
+        final long id;
+
+        this.lock.lock();
+
+        try {
+            if (this.next == this.limit) {
+                this.lease();
+            }
+
+            id = this.next++;
+        } finally {
+            this.lock.unlock();
+        }
+
+        return this.encoding.encode(this.prefix, id);
+    }
+
+    /**
+     * Lease the next block of identifiers.
+     */
+    private void lease() {
+        final long end = this.counter.addAndGet(this.blockSize);
+
+        this.next = end - this.blockSize + 1;
+        this.limit = end + 1;
+
+        if (this.logger.isDebugEnabled()) {
+            this.logger.debug("Leased identifiers {} to {} from '{}'", this.next, end, this.counter.getName());
+        }
+    }
+}
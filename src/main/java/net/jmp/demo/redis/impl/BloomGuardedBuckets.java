@@ -0,0 +1,348 @@
+package net.jmp.demo.redis.impl;
+
+/*
+ * (#)BloomGuardedBuckets.java  0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import net.jmp.demo.redis.config.BloomGuard;
+
+import org.redisson.api.RBloomFilter;
+import org.redisson.api.RBucket;
+import org.redisson.api.RedissonClient;
+
+import org.redisson.client.codec.Codec;
+import org.redisson.client.codec.StringCodec;
+
+import org.slf4j.LoggerFactory;
+
+import org.slf4j.ext.XLogger;
+
+/**
+ * Buckets guarded by a Bloom filter of the keys that
+ * exist. A key the filter has never seen is absent for
+ * certain, so its read is answered by the filter, a
+ * small fixed-size check, and no GET is sent or value
+ * decoded. A key the filter may contain is read as
+ * usual. The filter is sized from the expected
+ * insertions and false-positive rate, and every set
+ * adds its key. A filter that is created here is first
+ * filled from a SCAN of the guarded keys, so keys set
+ * before it existed are never reported absent.
+ * <p>
+ * A Bloom filter cannot forget a key, so a delete only
+ * leaves a false positive behind. Those are cleared by
+ * a rebuild: a new filter is filled from a SCAN of the
+ * guarded keys and then renamed over the old one. Keys
+ * set during the scan are added to both filters.
+ *
+ * @param   <V> The type of value
+ */
+final class BloomGuardedBuckets<V> implements AutoCloseable {
+    /** The number of keys added to the new filter at once during a rebuild. */
+    private static final int REBUILD_CHUNK = 1_000;
+
+    /** The logger. */
+    private final XLogger logger = new XLogger(LoggerFactory.getLogger(this.getClass().getName()));
+
+    /** The Redisson client. */
+    private final RedissonClient client;
+
+    /** The guard configuration. */
+    private final BloomGuard bloomGuard;
+
+    /** The codec of the buckets. */
+    private final Codec codec;
+
+    /** The rebuild timer, or null. */
+    private final ScheduledExecutorService rebuilder;
+
+    /** The Bloom filter. */
+    private volatile RBloomFilter<String> filter;
+
+    /** The filter being rebuilt, or null. */
+    private volatile RBloomFilter<String> rebuilding;
+
+    /** The number of reads the filter answered. */
+    private final LongAdder negatives = new LongAdder();
+
+    /** The number of reads the filter passed that found nothing. */
+    private final LongAdder falsePositives = new LongAdder();
+
+    /** The number of reads the filter passed. */
+    private final LongAdder reads = new LongAdder();
+
+    /**
+     * The constructor.
+     *
+     * @param   client      org.redisson.api.RedissonClient
+     * @param   bloomGuard  net.jmp.demo.redis.config.BloomGuard
+     * @param   codec       org.redisson.client.codec.Codec
+     */
+    BloomGuardedBuckets(final RedissonClient client, final BloomGuard bloomGuard, final Codec codec) {
+        super();
+
+        assert client != null;
+        assert bloomGuard != null;
+        assert bloomGuard.getExpectedInsertions() > 0;
+        assert bloomGuard.getFalseProbability() > 0 && bloomGuard.getFalseProbability() < 1;
+        assert codec != null;
+
+        this.client = client;
+        this.bloomGuard = bloomGuard;
+        this.codec = codec;
+        this.filter = this.client.getBloomFilter(bloomGuard.getName(), StringCodec.INSTANCE);
+
+        if (this.initFilter(this.filter)) {
+            this.fill(this.filter);     // A new filter knows none of the keys that already exist
+        }
+
+        if (bloomGuard.getRebuildInterval() > 0) {
+            this.rebuilder = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name(bloomGuard.getName() + "-rebuild").factory());
+            this.rebuilder.scheduleWithFixedDelay(
+                    this::rebuild,
+                    bloomGuard.getRebuildInterval(),
+                    bloomGuard.getRebuildInterval(),
+                    TimeUnit.MILLISECONDS
+            );
+        } else {
+            this.rebuilder = null;
+        }
+    }
+
+    /**
+     * Return the value of the key, or null if
+     * the filter says it is absent.
+     *
+     * @param   key java.lang.String
+     * @return      V
+     */
+    V get(final String key) {
+        if (!this.filter.contains(key)) {
+            this.negatives.increment();
+
+            return null;
+        }
+
+        this.reads.increment();
+
+        final V value = this.client.<V>getBucket(key, this.codec).get();
+
+        if (value == null) {
+            this.falsePositives.increment();
+        }
+
+        return value;
+    }
+
+    /**
+     * Set the value of the key and add the key to the filter.
+     *
+     * @param   key     java.lang.String
+     * @param   value   V
+     */
+    void set(final String key, final V value) {
+        this.client.getBucket(key, this.codec).set(value);
+        this.filter.add(key);
+
+        final RBloomFilter<String> next = this.rebuilding;
+
+        if (next != null) {
+            next.add(key);
+        }
+    }
+
+    /**
+     * Delete the key. It stays in the filter
+     * until the next rebuild.
+     *
+     * @param   key java.lang.String
+     * @return      boolean
+     */
+    boolean delete(final String key) {
+        return this.client.getBucket(key, this.codec).delete();
+    }
+
+    /**
+     * Rebuild the filter from a scan of the guarded keys,
+     * dropping the keys that have since been deleted.
+     */
+    synchronized void rebuild() {
+        this.logger.entry();
+
+        final String nextName = this.bloomGuard.getName() + ":rebuild";
+
+        this.client.getBloomFilter(nextName).delete();      // With its config, as the sizing may have changed
+
+        final RBloomFilter<String> next = this.createFilter(nextName);
+
+        this.rebuilding = next;
+
+        try {
+            final long keys = this.fill(next);
+
+            // An empty filter has no bitmap to rename over the old one, so write one of zero bits
+
+            if (keys == 0) {
+                this.client.getBitSet(nextName).clear(next.getSize() - 1);
+            }
+
+            next.rename(this.bloomGuard.getName());
+
+            this.filter = this.createFilter(this.bloomGuard.getName());
+
+            if (this.logger.isDebugEnabled()) {
+                this.logger.debug("Rebuilt Bloom filter '{}' with {} keys", this.bloomGuard.getName(), keys);
+            }
+        } finally {
+            this.rebuilding = null;
+        }
+
+        this.logger.exit();
+    }
+
+    /**
+     * Return the number of reads the filter answered.
+     *
+     * @return  long
+     */
+    long getNegatives() {
+        return this.negatives.sum();
+    }
+
+    /**
+     * Return the number of reads that
+     * the filter passed in error.
+     *
+     * @return  long
+     */
+    long getFalsePositives() {
+        return this.falsePositives.sum();
+    }
+
+    /**
+     * Return the number of reads the filter passed.
+     *
+     * @return  long
+     */
+    long getReads() {
+        return this.reads.sum();
+    }
+
+    /**
+     * Return the Bloom filter.
+     *
+     * @return  org.redisson.api.RBloomFilter&lt;java.lang.String&gt;
+     */
+    RBloomFilter<String> getFilter() {
+        return this.filter;
+    }
+
+    /**
+     * Stop any rebuilds.
+     */
+    @Override
+    public void close() {
+        if (this.rebuilder != null) {
+            this.rebuilder.shutdownNow();
+        }
+    }
+
+    /**
+     * Add the guarded keys, found by a
+     * SCAN, to the filter and return how
+     * many there were.
+     *
+     * @param   bloomFilter org.redisson.api.RBloomFilter&lt;java.lang.String&gt;
+     * @return              long
+     */
+    private long fill(final RBloomFilter<String> bloomFilter) {
+        final List<String> chunk = new ArrayList<>(REBUILD_CHUNK);
+
+        long keys = 0;
+
+        for (final String key : this.client.getKeys().getKeysByPattern(this.bloomGuard.getPattern(), REBUILD_CHUNK)) {
+            chunk.add(key);
+
+            if (chunk.size() == REBUILD_CHUNK) {
+                bloomFilter.add(chunk);
+                keys += chunk.size();
+                chunk.clear();
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            bloomFilter.add(chunk);
+            keys += chunk.size();
+        }
+
+        return keys;
+    }
+
+    /**
+     * Return the named filter, initializing
+     * it with the sizing if it is new.
+     *
+     * @param   name    java.lang.String
+     * @return          org.redisson.api.RBloomFilter&lt;java.lang.String&gt;
+     */
+    private RBloomFilter<String> createFilter(final String name) {
+        final RBloomFilter<String> bloomFilter = this.client.getBloomFilter(name, StringCodec.INSTANCE);
+
+        this.initFilter(bloomFilter);
+
+        return bloomFilter;
+    }
+
+    /**
+     * Initialize the filter with the sizing
+     * if it is new and return true if it was.
+     *
+     * @param   bloomFilter org.redisson.api.RBloomFilter&lt;java.lang.String&gt;
+     * @return              boolean
+     */
+    private boolean initFilter(final RBloomFilter<String> bloomFilter) {
+        final boolean created = bloomFilter.tryInit(this.bloomGuard.getExpectedInsertions(), this.bloomGuard.getFalseProbability());
+
+        if (created) {
+            this.logger.debug("Bloom filter '{}': {} bits, {} hash iterations",
+                    bloomFilter.getName(), bloomFilter.getSize(), bloomFilter.getHashIterations());
+        }
+
+        return created;
+    }
+}
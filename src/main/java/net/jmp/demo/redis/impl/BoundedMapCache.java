@@ -0,0 +1,193 @@
+package net.jmp.demo.redis.impl;
+
+/*
+ * (#)BoundedMapCache.java  0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.List;
+
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import net.jmp.demo.redis.config.BoundedCache;
+
+import org.redisson.api.EvictionMode;
+import org.redisson.api.RMapCache;
+import org.redisson.api.RedissonClient;
+
+import org.redisson.api.map.event.EntryExpiredListener;
+import org.redisson.api.map.event.EntryRemovedListener;
+
+import org.redisson.client.codec.Codec;
+
+import org.slf4j.LoggerFactory;
+
+import org.slf4j.ext.XLogger;
+
+/**
+ * A cache that bounds its own memory in Redis. It is
+ * a map cache with a maximum size: a put that would go
+ * over the size first evicts the least recently used
+ * or least frequently used entries, in the same script,
+ * so Redis never has to fall back on its global
+ * maxmemory policy. Each entry also carries a time to
+ * live and a maximum idle time, after which Redisson's
+ * eviction task removes it. Size evictions reach the
+ * removed listener and expirations the expired listener,
+ * and both are counted.
+ *
+ * @param   <K> The type of key
+ * @param   <V> The type of value
+ */
+final class BoundedMapCache<K, V> {
+    /** The logger. */
+    private final XLogger logger = new XLogger(LoggerFactory.getLogger(this.getClass().getName()));
+
+    /** The map cache. */
+    private final RMapCache<K, V> mapCache;
+
+    /** The time to live of an entry in milliseconds. */
+    private final long timeToLive;
+
+    /** The maximum idle time of an entry in milliseconds. */
+    private final long maxIdle;
+
+    /** The entry listener identifiers. */
+    private final List<Integer> listenerIds;
+
+    /** The number of entries evicted by size. */
+    private final LongAdder evictions = new LongAdder();
+
+    /** The number of entries that expired. */
+    private final LongAdder expirations = new LongAdder();
+
+    /**
+     * The constructor.
+     *
+     * @param   client          org.redisson.api.RedissonClient
+     * @param   boundedCache    net.jmp.demo.redis.config.BoundedCache
+     * @param   codec           org.redisson.client.codec.Codec
+     */
+    BoundedMapCache(final RedissonClient client, final BoundedCache boundedCache, final Codec codec) {
+        super();
+
+        assert client != null;
+        assert boundedCache != null;
+        assert boundedCache.getMaxSize() >= 0;
+        assert codec != null;
+
+        this.mapCache = client.getMapCache(boundedCache.getName(), codec);
+        this.timeToLive = boundedCache.getTimeToLive();
+        this.maxIdle = boundedCache.getMaxIdle();
+
+        if (boundedCache.getMaxSize() > 0) {
+            this.mapCache.setMaxSize(boundedCache.getMaxSize(), EvictionMode.valueOf(boundedCache.getEvictionMode().toUpperCase()));
+        }
+
+        this.listenerIds = List.of(
+                this.mapCache.addListener((EntryRemovedListener<K, V>) event -> this.evictions.increment()),
+                this.mapCache.addListener((EntryExpiredListener<K, V>) event -> this.expirations.increment())
+        );
+
+        this.logger.debug("Bounded cache '{}': {}", boundedCache.getName(), boundedCache);
+    }
+
+    /**
+     * Put the value of the key with the
+     * time to live and maximum idle time.
+     *
+     * @param   key     K
+     * @param   value   V
+     */
+    void put(final K key, final V value) {
+        this.mapCache.fastPut(key, value, this.timeToLive, TimeUnit.MILLISECONDS, this.maxIdle, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Return the value of the key. A read counts as
+     * a use of the entry for LRU or LFU eviction and
+     * restarts its idle time.
+     *
+     * @param   key K
+     * @return      V
+     */
+    V get(final K key) {
+        return this.mapCache.get(key);
+    }
+
+    /**
+     * Return the number of entries.
+     *
+     * @return  int
+     */
+    int size() {
+        return this.mapCache.size();
+    }
+
+    /**
+     * Return the number of entries evicted by size
+     * that have been reported so far. The reports
+     * arrive on a topic, so they may lag the puts.
+     *
+     * @return  long
+     */
+    long getEvictions() {
+        return this.evictions.sum();
+    }
+
+    /**
+     * Return the number of expirations
+     * that have been reported so far.
+     *
+     * @return  long
+     */
+    long getExpirations() {
+        return this.expirations.sum();
+    }
+
+    /**
+     * Return the map cache.
+     *
+     * @return  org.redisson.api.RMapCache&lt;K, V&gt;
+     */
+    RMapCache<K, V> getMapCache() {
+        return this.mapCache;
+    }
+
+    /**
+     * Remove the listeners and delete the map cache,
+     * with its expiry and eviction bookkeeping.
+     */
+    void destroy() {
+        this.listenerIds.forEach(this.mapCache::removeListener);
+        this.mapCache.delete();
+        this.mapCache.destroy();
+    }
+}
@@ -0,0 +1,318 @@
+package net.jmp.demo.redis.impl;
+
+/*
+ * (#)CacheAsideLoader.java 0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.time.Duration;
+
+import java.util.Map;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import java.util.function.Function;
+
+import net.jmp.demo.redis.config.CacheAside;
+
+import org.redisson.api.RBucket;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+
+import org.redisson.client.codec.Codec;
+
+import org.slf4j.LoggerFactory;
+
+import org.slf4j.ext.XLogger;
+
+/**
+ * A cache-aside loader over buckets. A read that finds
+ * the bucket empty calls the loader, stores its value
+ * with the time to live and returns it. Concurrent misses
+ * for one key in this process share a single load: the
+ * first caller loads and the others wait on its future.
+ * When distributed, the loading caller also takes a
+ * short-lived lock on the key, so that only one process
+ * at a time goes to the backing store; the others wait
+ * for the lock and then find the value in the bucket.
+ * A process that cannot get the lock in time loads the
+ * value itself rather than fail the read. The lease
+ * frees the lock should its holder die mid-load.
+ *
+ * @param   <V> The type of value
+ */
+final class CacheAsideLoader<V> {
+    /** The logger. */
+    private final XLogger logger = new XLogger(LoggerFactory.getLogger(this.getClass().getName()));
+
+    /** The Redisson client. */
+    private final RedissonClient client;
+
+    /** The cache-aside configuration. */
+    private final CacheAside cacheAside;
+
+    /** The codec of the buckets. */
+    private final Codec codec;
+
+    /** The loads in progress by key. */
+    private final Map<String, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /** The number of reads served by the bucket. */
+    private final LongAdder hits = new LongAdder();
+
+    /** The number of times the loader was called. */
+    private final LongAdder loads = new LongAdder();
+
+    /** The number of misses that joined a load in progress. */
+    private final LongAdder coalesced = new LongAdder();
+
+    /** The number of lock waits that ended with the value loaded elsewhere. */
+    private final LongAdder remoteLoads = new LongAdder();
+
+    /** The number of lock waits that timed out. */
+    private final LongAdder lockTimeouts = new LongAdder();
+
+    /**
+     * The constructor.
+     *
+     * @param   client      org.redisson.api.RedissonClient
+     * @param   cacheAside  net.jmp.demo.redis.config.CacheAside
+     * @param   codec       org.redisson.client.codec.Codec
+     */
+    CacheAsideLoader(final RedissonClient client, final CacheAside cacheAside, final Codec codec) {
+        super();
+
+        assert client != null;
+        assert cacheAside != null;
+        assert codec != null;
+
+        this.client = client;
+        this.cacheAside = cacheAside;
+        this.codec = codec;
+    }
+
+    /**
+     * Return the value of the key, loading and
+     * storing it if the bucket is empty. A null
+     * from the loader is returned but not stored.
+     * An exception or error from the loader is
+     * thrown to every caller that shared the load.
+     *
+     * @param   key     java.lang.String
+     * @param   loader  java.util.function.Function&lt;java.lang.String, V&gt;
+     * @return          V
+     */
+    V get(final String key, final Function<String, V> loader) {
+        assert key != null;
+        assert loader != null;
+
+        final RBucket<V> bucket = this.client.getBucket(key, this.codec);
+        final V cached = bucket.get();
+
+        if (cached != null) {
+            this.hits.increment();
+
+            return cached;
+        }
+
+        final CompletableFuture<V> future = new CompletableFuture<>();
+        final CompletableFuture<V> existing = this.inFlight.putIfAbsent(key, future);
+
+        if (existing != null) {
+            this.coalesced.increment();
+
+            return this.join(existing);
+        }
+
+        try {
+            future.complete(this.load(bucket, loader));
+        } catch (final Throwable t) {
+            future.completeExceptionally(t);    // Errors too, or the callers sharing the load would wait forever
+        } finally {
+            this.inFlight.remove(key, future);
+        }
+
+        return this.join(future);
+    }
+
+    /**
+     * Load the value, under the key's lock when distributed.
+     *
+     * @param   bucket  org.redisson.api.RBucket&lt;V&gt;
+     * @param   loader  java.util.function.Function&lt;java.lang.String, V&gt;
+     * @return          V
+     */
+    private V load(final RBucket<V> bucket, final Function<String, V> loader) {
+        if (!this.cacheAside.isDistributed()) {
+            // A load may have finished between the miss and this one starting
+
+            final V value = bucket.get();
+
+            if (value != null) {
+                this.hits.increment();
+
+                return value;
+            }
+
+            return this.loadAndStore(bucket, loader);
+        }
+
+        final RLock lock = this.client.getLock(this.cacheAside.getLockPrefix() + bucket.getName());
+
+        boolean locked = false;
+
+        try {
+            locked = lock.tryLock(this.cacheAside.getLockWait(), this.cacheAside.getLockLease(), TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException ie) {
+            this.logger.catching(ie);
+            Thread.currentThread().interrupt();
+        }
+
+        try {
+            // Another process may have loaded the value while this one waited
+
+            final V value = bucket.get();
+
+            if (value != null) {
+                this.remoteLoads.increment();
+
+                return value;
+            }
+
+            if (!locked) {
+                this.lockTimeouts.increment();
+                this.logger.warn("Loading key '{}' without its lock", bucket.getName());
+            }
+
+            return this.loadAndStore(bucket, loader);
+        } finally {
+            if (locked && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Call the loader and store the value.
+     *
+     * @param   bucket  org.redisson.api.RBucket&lt;V&gt;
+     * @param   loader  java.util.function.Function&lt;java.lang.String, V&gt;
+     * @return          V
+     */
+    private V loadAndStore(final RBucket<V> bucket, final Function<String, V> loader) {
+        this.loads.increment();
+
+        final V value = loader.apply(bucket.getName());
+
+        if (value != null) {
+            if (this.cacheAside.getTimeToLive() > 0) {
+                bucket.set(value, Duration.ofMillis(this.cacheAside.getTimeToLive()));
+            } else {
+                bucket.set(value);
+            }
+        }
+
+        return value;
+    }
+
+    /**
+     * Wait for a load and return its value,
+     * rethrowing the loader's own exception
+     * or error.
+     *
+     * @param   future  java.util.concurrent.CompletableFuture&lt;V&gt;
+     * @return          V
+     */
+    private V join(final CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException ce) {
+            if (ce.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+
+            if (ce.getCause() instanceof Error e) {
+                throw e;
+            }
+
+            throw ce;
+        }
+    }
+
+    /**
+     * Return the number of reads served by the bucket.
+     *
+     * @return  long
+     */
+    long getHits() {
+        return this.hits.sum();
+    }
+
+    /**
+     * Return the number of times the loader was called.
+     *
+     * @return  long
+     */
+    long getLoads() {
+        return this.loads.sum();
+    }
+
+    /**
+     * Return the number of misses that
+     * joined a load in this process.
+     *
+     * @return  long
+     */
+    long getCoalesced() {
+        return this.coalesced.sum();
+    }
+
+    /**
+     * Return the number of misses whose value
+     * was loaded while they waited for the lock.
+     *
+     * @return  long
+     */
+    long getRemoteLoads() {
+        return this.remoteLoads.sum();
+    }
+
+    /**
+     * Return the number of lock waits that timed out.
+     *
+     * @return  long
+     */
+    long getLockTimeouts() {
+        return this.lockTimeouts.sum();
+    }
+}
@@ -1,6 +1,7 @@
 package net.jmp.demo.redis.impl;
 
 /*
+ * (#)Caching.java  0.12.0  10/17/2026
  * (#)Caching.java  0.7.0   05/24/2024
  * (#)Caching.java  0.5.0   05/18/2024
  * (#)Caching.java  0.3.0   05/03/2024
@@ -8,7 +9,7 @@ package net.jmp.demo.redis.impl;
  * (#)Caching.java  0.1.0   05/01/2024
  *
  * @author   Jonathan Parker
- * @version  0.7.0
+ * @version  0.12.0
  * @since    0.1.0
  *
  * MIT License
@@ -34,12 +35,26 @@ package net.jmp.demo.redis.impl;
  * SOFTWARE.
  */
 
-import com.esotericsoftware.kryo.KryoException;
-
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import java.util.function.Function;
 
 import org.redisson.api.*;
 
+import org.redisson.client.RedisException;
+
 import org.redisson.client.codec.StringCodec;
 
 import org.redisson.codec.JacksonCodec;
@@ -48,9 +63,23 @@ import org.slf4j.LoggerFactory;
 
 import org.slf4j.ext.XLogger;
 
+import net.jmp.demo.redis.CompressingCodec;
+
 import net.jmp.demo.redis.api.Demo;
 
+import net.jmp.demo.redis.config.BloomGuard;
+import net.jmp.demo.redis.config.BoundedCache;
+import net.jmp.demo.redis.config.CacheAside;
+import net.jmp.demo.redis.config.ClientCache;
+import net.jmp.demo.redis.config.Compression;
 import net.jmp.demo.redis.config.Config;
+import net.jmp.demo.redis.config.EarlyRefresh;
+import net.jmp.demo.redis.config.FieldExpiry;
+import net.jmp.demo.redis.config.KeyListing;
+import net.jmp.demo.redis.config.NearCache;
+import net.jmp.demo.redis.config.StripedCounter;
+
+import net.jmp.demo.redis.objects.Recording;
 
 /*
  * The class that demonstrates using Redis for caching.
@@ -81,35 +110,52 @@ public final class Caching extends Demo {
         this.listBucketValues();
         this.setAndGetStrings();
         this.setAndGetObject();
+        this.compressValues();
+        this.guardBucketReads();
+        this.getOrLoadObject();
+        this.refreshEarly();
         this.setAndGetAtomicLong();
+        this.incrementStripedCounter();
+        this.readThroughNearCache();
+        this.readThroughClientCache();
+        this.fillBoundedCache();
+        this.expireFields();
 
         this.logger.exit();
     }
 
     /**
-     * List the string values in all the buckets.
+     * List the string values in all the buckets. Keys are
+     * streamed with SCAN and their values fetched a page at
+     * a time with MGET. Keys that do not hold strings are
+     * read as JSON when configured as such, else ignored.
      */
     private void listBucketValues() {
         this.logger.entry();
 
         if (this.logger.isInfoEnabled()) {
-            for (final var key : this.client.getKeys().getKeys()) {
-                RBucket<?> bucket;
+            final KeyListing keyListing = this.config.getCache() != null && this.config.getCache().getKeyListing() != null
+                    ? this.config.getCache().getKeyListing()
+                    : new KeyListing();
+            final KeyspaceReader reader = new KeyspaceReader(this.client, keyListing);
 
-                try {
-                    if (!key.startsWith("redisson_live_object")) {
-                        if (!key.equals("my-config"))
-                            bucket = this.client.getBucket(key, StringCodec.INSTANCE);
-                        else
-                            bucket = this.client.getJsonBucket(key, new JacksonCodec<>(Config.class));
+            try {
+                final List<String> others = reader.read((key, value) -> this.logger.info("Value of key '{}': {}", key, value));
+
+                for (final var key : others) {
+                    if (keyListing.getJsonKeys() != null && keyListing.getJsonKeys().contains(key)) {
+                        final RBucket<Config> bucket = this.client.getJsonBucket(key, new JacksonCodec<>(Config.class));
 
                         this.logger.info("Value of key '{}': {}", key, bucket.get());
                     } else {
                         this.logger.info("Ignoring key '{}'", key);
                     }
-                } catch (final KryoException ke) {
-                    this.logger.catching(ke);
                 }
+            } catch (final InterruptedException ie) {
+                this.logger.catching(ie);
+                Thread.currentThread().interrupt();
+            } catch (final RedisException re) {
+                this.logger.catching(re);
             }
         }
 
@@ -117,52 +163,365 @@ public final class Caching extends Demo {
     }
 
     /**
-     * Set some strings and then get them.
+     * Set some strings and then get them. When the
+     * Bloom guard is enabled the keys are guarded
+     * and read through it.
      */
     private void setAndGetStrings() {
         this.logger.entry();
 
-        final List<RBucket<String>> stringBuckets = List.of(
-            this.client.getBucket("one"),
-            this.client.getBucket("two"),
-            this.client.getBucket("three")
-        );
+        final BloomGuard bloomGuardConfig = this.getBloomGuard();
+
+        if (bloomGuardConfig != null) {
+            final String prefix = bloomGuardConfig.getPattern().replace("*", "");
+            final List<String> keys = List.of(prefix + "one", prefix + "two", prefix + "three");
 
-        stringBuckets.forEach(bucket -> bucket.set(bucket.getName().toUpperCase()));
-        stringBuckets.forEach(bucket -> this.logger.info("Key: {}; Value: {}", bucket.getName(), bucket.get()));
-        stringBuckets.forEach(RObject::delete);
+            try (final BloomGuardedBuckets<String> buckets = new BloomGuardedBuckets<>(this.client, bloomGuardConfig, this.client.getConfig().getCodec())) {
+                keys.forEach(key -> buckets.set(key, key.substring(prefix.length()).toUpperCase()));
+                keys.forEach(key -> this.logger.info("Key: {}; Value: {}", key, buckets.get(key)));
+                keys.forEach(buckets::delete);
 
-        final var one = this.client.getBucket("one");
+                if (buckets.get(prefix + "one") == null) {
+                    this.logger.info("Key '{}' was not found", prefix + "one");
+                }
+            }
+        } else {
+            final List<RBucket<String>> stringBuckets = List.of(
+                this.client.getBucket("one"),
+                this.client.getBucket("two"),
+                this.client.getBucket("three")
+            );
 
-        if (one.get() == null)
-            this.logger.info("Key 'one' was not found");
+            stringBuckets.forEach(bucket -> bucket.set(bucket.getName().toUpperCase()));
+            stringBuckets.forEach(bucket -> this.logger.info("Key: {}; Value: {}", bucket.getName(), bucket.get()));
+            stringBuckets.forEach(RObject::delete);
+
+            final var one = this.client.getBucket("one");
+
+            if (one.get() == null) {
+                this.logger.info("Key 'one' was not found");
+            }
+        }
 
         this.logger.exit();
     }
 
     /**
-     * Set a more complex object and then get it.
+     * Set a more complex object and then get it. When
+     * the Bloom guard is enabled the key is guarded and
+     * read through it.
      */
     private void setAndGetObject() {
         this.logger.entry();
 
-        final String bucketName = "config";
-        final RBucket<Config> bucket = this.client.getBucket(bucketName);
+        final BloomGuard bloomGuardConfig = this.getBloomGuard();
+
+        if (bloomGuardConfig != null) {
+            final String bucketName = bloomGuardConfig.getPattern().replace("*", "") + "config";
+
+            try (final BloomGuardedBuckets<Config> buckets = new BloomGuardedBuckets<>(this.client, bloomGuardConfig, this.client.getConfig().getCodec())) {
+                buckets.set(bucketName, this.config);
+
+                final var myConfig = buckets.get(bucketName);
+
+                if (this.logger.isInfoEnabled()) {
+                    this.logger.info("Bucket '{}': {}", bucketName, myConfig.toString());
+                }
+
+                if (buckets.delete(bucketName)) {
+                    this.logger.debug("Bucket '{}' deleted", bucketName);
+                }
+
+                if (buckets.get(bucketName) == null) {
+                    this.logger.info("Bucket '{}' was not found", bucketName);
+                }
+            }
+        } else {
+            final String bucketName = "config";
+            final RBucket<Config> bucket = this.client.getBucket(bucketName);
+
+            bucket.set(this.config);
+
+            final var myConfig = bucket.get();
+
+            if (this.logger.isInfoEnabled()) {
+                this.logger.info("Bucket '{}': {}", bucketName, myConfig.toString());
+            }
+
+            if (bucket.delete()) {
+                this.logger.debug("Bucket '{}' deleted", bucketName);
+            }
+
+            final var config = this.client.getBucket(bucketName);
+
+            if (config.get() == null) {
+                this.logger.info("Bucket '{}' was not found", bucketName);
+            }
+        }
+
+        this.logger.exit();
+    }
+
+    /**
+     * Set lists of recordings, the configuration and
+     * some short strings through the compressing codec,
+     * each under its own key prefix, read them back and
+     * log the compression ratio of each prefix. Runs
+     * only when compression is enabled.
+     */
+    private void compressValues() {
+        this.logger.entry();
+
+        final Compression compressionConfig = this.config.getCache() != null ? this.config.getCache().getCompression() : null;
+
+        if (compressionConfig != null && compressionConfig.isEnabled()) {
+            final CompressingCodec codec = this.client.getConfig().getCodec() instanceof CompressingCodec compressingCodec
+                    ? compressingCodec
+                    : new CompressingCodec(this.client.getConfig().getCodec(), compressionConfig);
+            final Map<String, Object> values = new LinkedHashMap<>();
+
+            for (int i = 0; i < 10; i++) {
+                final List<Recording> recordings = new ArrayList<>();
+
+                for (int j = 0; j < 100; j++) {
+                    final Recording recording = new Recording("recording-" + i + "-" + j);
+
+                    recording.setTitle("Title " + j);
+                    recording.setLabel("Label " + (j % 10));
+                    recording.setArtists(List.of("Artist " + j, "Artist " + (j + 1)));
+                    recording.setTimeInMinutes(40 + j % 20);
+                    recording.setWhenRecorded(new Date());
+
+                    recordings.add(recording);
+                }
+
+                values.put("compressed:recordings:" + i, recordings);
+                values.put("compressed:strings:" + i, "value " + i);
+            }
+
+            values.put("compressed:config:0", this.config);
+
+            int matched = 0;
+
+            for (final Map.Entry<String, Object> entry : values.entrySet()) {
+                final String key = entry.getKey();
+                final RBucket<Object> bucket = this.client.getBucket(key, codec.forPrefix(key.substring(0, key.lastIndexOf(':') + 1)));
+
+                bucket.set(entry.getValue());
+
+                if (Objects.equals(entry.getValue(), bucket.get())) {
+                    matched++;
+                }
+
+                bucket.delete();
+            }
+
+            if (this.logger.isInfoEnabled()) {
+                this.logger.info("Compression ({}, threshold {} bytes): {} of {} values read back",
+                        compressionConfig.getAlgorithm(),
+                        compressionConfig.getThreshold(),
+                        matched,
+                        values.size());
+
+                codec.getStatistics().forEach((prefix, statistics) -> {
+                    if (statistics.getValues() > 0) {
+                        this.logger.info("Compression of '{}*': {}", prefix, statistics);
+                    }
+                });
+            }
+        }
+
+        this.logger.exit();
+    }
+
+    /**
+     * Set some guarded buckets and then read ten times
+     * as many keys, so that most reads are misses that
+     * the Bloom filter answers. Runs only when the
+     * guard is enabled.
+     */
+    private void guardBucketReads() {
+        this.logger.entry();
+
+        final BloomGuard bloomGuardConfig = this.getBloomGuard();
+
+        if (bloomGuardConfig != null) {
+            final String prefix = bloomGuardConfig.getPattern().replace("*", "");
+            final int present = 100;
+
+            try (final BloomGuardedBuckets<String> buckets = new BloomGuardedBuckets<>(this.client, bloomGuardConfig, StringCodec.INSTANCE)) {
+                for (int i = 0; i < present; i++) {
+                    buckets.set(prefix + i, "value " + i);
+                }
+
+                buckets.delete(prefix + 0);     // A false positive until the rebuild
+                buckets.rebuild();
+
+                int found = 0;
+
+                for (int i = 0; i < present * 10; i++) {
+                    if (buckets.get(prefix + i) != null) {
+                        found++;
+                    }
+                }
+
+                if (this.logger.isInfoEnabled()) {
+                    this.logger.info("Bloom guard '{}': {} of {} keys found; {} reads answered by the filter, {} passed, {} false positives",
+                            bloomGuardConfig.getName(),
+                            found,
+                            present * 10,
+                            buckets.getNegatives(),
+                            buckets.getReads(),
+                            buckets.getFalsePositives());
+                }
+
+                for (int i = 0; i < present; i++) {
+                    buckets.delete(prefix + i);
+                }
+
+                buckets.getFilter().delete();
+            }
+        }
+
+        this.logger.exit();
+    }
+
+    /**
+     * Return the Bloom guard configuration
+     * if the guard is enabled, else null.
+     *
+     * @return  net.jmp.demo.redis.config.BloomGuard
+     */
+    private BloomGuard getBloomGuard() {
+        final BloomGuard bloomGuardConfig = this.config.getCache() != null ? this.config.getCache().getBloomGuard() : null;
+
+        return bloomGuardConfig != null && bloomGuardConfig.isEnabled() ? bloomGuardConfig : null;
+    }
+
+    /**
+     * Read a cold key from many threads at once through
+     * the cache-aside loader. The misses are coalesced,
+     * so the slow backing store is read only once.
+     */
+    private void getOrLoadObject() {
+        this.logger.entry();
+
+        final CacheAside cacheAsideConfig = this.config.getCache() != null ? this.config.getCache().getCacheAside() : null;
 
-        bucket.set(this.config);
+        if (cacheAsideConfig != null) {
+            final String key = "cache-aside:config";
+            final CacheAsideLoader<Config> loader = new CacheAsideLoader<>(this.client, cacheAsideConfig, this.client.getConfig().getCodec());
+            final AtomicInteger backingReads = new AtomicInteger();
+            final Function<String, Config> backingStore = name -> {
+                backingReads.incrementAndGet();
 
-        final var myConfig = bucket.get();
+                try {
+                    Thread.sleep(100);      // A slow backing store
+                } catch (final InterruptedException ie) {
+                    this.logger.catching(ie);
+                    Thread.currentThread().interrupt();
+                }
+
+                return this.config;
+            };
+
+            this.client.getBucket(key).delete();
+
+            final List<Future<Config>> reads = new ArrayList<>(32);
+
+            try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < 32; i++) {
+                    reads.add(executor.submit(() -> loader.get(key, backingStore)));
+                }
+            }
 
-        if (this.logger.isInfoEnabled())
-            this.logger.info("Bucket '{}': {}", bucketName, myConfig.toString());
+            int failures = 0;
 
-        if (bucket.delete())
-            this.logger.debug("Bucket '{}' deleted", bucketName);
+            for (final Future<Config> read : reads) {
+                try {
+                    read.get();
+                } catch (final ExecutionException ee) {
+                    failures++;
+                    this.logger.catching(ee.getCause());
+                } catch (final InterruptedException ie) {
+                    this.logger.catching(ie);
+                    Thread.currentThread().interrupt();
+
+                    break;
+                }
+            }
 
-        final var config = this.client.getBucket(bucketName);
+            if (this.logger.isInfoEnabled()) {
+                this.logger.info("Cache-aside: 32 cold reads of key '{}': {} failed, {} backing store reads, {} coalesced, {} loaded elsewhere, {} hits",
+                        key,
+                        failures,
+                        backingReads.get(),
+                        loader.getCoalesced(),
+                        loader.getRemoteLoads(),
+                        loader.getHits());
+            }
 
-        if (config.get() == null)
-            this.logger.info("Bucket '{}' was not found", bucketName);
+            this.client.getBucket(key).delete();
+        }
+
+        this.logger.exit();
+    }
+
+    /**
+     * Read a hot key with a slow loader for a while,
+     * through several lifetimes, and log how it was
+     * refreshed. Readers never wait on the loader
+     * after the first read. Runs only when early
+     * refresh is enabled.
+     */
+    private void refreshEarly() {
+        this.logger.entry();
+
+        final EarlyRefresh earlyRefreshConfig = this.config.getCache() != null ? this.config.getCache().getEarlyRefresh() : null;
+
+        if (earlyRefreshConfig != null && earlyRefreshConfig.isEnabled()) {
+            final String key = "early-refresh:rates";
+            final AtomicInteger loads = new AtomicInteger();
+            final Function<String, String> loader = name -> {
+                try {
+                    Thread.sleep(200);      // A slow computation
+                } catch (final InterruptedException ie) {
+                    this.logger.catching(ie);
+                    Thread.currentThread().interrupt();
+                }
+
+                return "rates computed " + loads.incrementAndGet() + " time(s)";
+            };
+
+            this.client.getBucket(key).delete();
+
+            try (final EarlyRefreshCache<String> cache = new EarlyRefreshCache<>(this.client, earlyRefreshConfig)) {
+                final long end = System.currentTimeMillis() + earlyRefreshConfig.getTimeToLive() * 3;
+
+                String value = null;
+
+                while (System.currentTimeMillis() < end) {
+                    value = cache.get(key, loader);
+
+                    Thread.sleep(10);
+                }
+
+                if (this.logger.isInfoEnabled()) {
+                    this.logger.info("Early refresh of key '{}': {} hits, {} misses, {} early and {} stale refreshes; last value: {}",
+                            key,
+                            cache.getHits(),
+                            cache.getMisses(),
+                            cache.getEarlyRefreshes(),
+                            cache.getStaleRefreshes(),
+                            value);
+                }
+            } catch (final InterruptedException ie) {
+                this.logger.catching(ie);
+                Thread.currentThread().interrupt();
+            } finally {
+                this.client.getBucket(key).delete();
+            }
+        }
 
         this.logger.exit();
     }
@@ -186,5 +545,224 @@ public final class Caching extends Demo {
 
         this.logger.exit();
     }
-}
 
+    /**
+     * Increment a striped counter from many threads
+     * and log the total and how few round trips it
+     * took. Runs only when the striped counter is
+     * enabled.
+     */
+    private void incrementStripedCounter() {
+        this.logger.entry();
+
+        final StripedCounter stripedCounterConfig = this.config.getCache() != null ? this.config.getCache().getStripedCounter() : null;
+
+        if (stripedCounterConfig != null && stripedCounterConfig.isEnabled()) {
+            final int threads = 8;
+            final int increments = 100_000;
+
+            try (final StripedAtomicLong counter = new StripedAtomicLong(this.client, stripedCounterConfig)) {
+                counter.delete();
+
+                final long start = System.nanoTime();
+
+                try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                    for (int i = 0; i < threads; i++) {
+                        executor.submit(() -> {
+                            for (int j = 0; j < increments; j++) {
+                                counter.increment();
+                            }
+                        });
+                    }
+                }
+
+                final long total = counter.getExact();
+                final long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+                if (this.logger.isInfoEnabled()) {
+                    this.logger.info("Striped counter {}: {} increments in {} ms with {} flushes; total {}",
+                            counter.getShardNames(),
+                            threads * increments,
+                            elapsed,
+                            counter.getFlushes(),
+                            total);
+                }
+
+                counter.delete();
+            }
+        }
+
+        this.logger.exit();
+    }
+
+    /**
+     * Read reference data through a near cache
+     * and log the hit ratio. Runs only when the
+     * near cache is enabled.
+     */
+    private void readThroughNearCache() {
+        this.logger.entry();
+
+        final NearCache nearCacheConfig = this.config.getCache() != null ? this.config.getCache().getNearCache() : null;
+
+        if (nearCacheConfig != null && nearCacheConfig.isEnabled()) {
+            final NearCachedMap<String, String> nearCache = new NearCachedMap<>(this.client, nearCacheConfig, StringCodec.INSTANCE);
+            final Map<String, String> currencies = Map.of(
+                    "EUR", "Euro",
+                    "GBP", "Pound sterling",
+                    "JPY", "Japanese yen",
+                    "USD", "United States dollar"
+            );
+
+            currencies.forEach(nearCache::put);
+
+            // Start cold so that the first read of each key goes to Redis
+
+            nearCache.getMap().clearLocalCache();
+
+            for (int i = 0; i < 10; i++) {
+                for (final var code : currencies.keySet()) {
+                    nearCache.get(code);
+                }
+            }
+
+            if (this.logger.isInfoEnabled()) {
+                this.logger.info("Near cache '{}': {} hits, {} misses, hit ratio {}",
+                        nearCacheConfig.getName(),
+                        nearCache.getHits(),
+                        nearCache.getMisses(),
+                        String.format("%.3f", nearCache.getHitRatio()));
+            }
+
+            nearCache.destroy();
+        }
+
+        this.logger.exit();
+    }
+
+    /**
+     * Read plain buckets through a client-side cache
+     * that the server keeps coherent, change one of
+     * them behind the cache's back and read it again.
+     * Runs only when the client cache is enabled, as
+     * the client must then be connected with RESP3.
+     */
+    private void readThroughClientCache() {
+        this.logger.entry();
+
+        final ClientCache clientCacheConfig = this.config.getCache() != null ? this.config.getCache().getClientCache() : null;
+
+        if (clientCacheConfig != null && clientCacheConfig.isEnabled()) {
+            final List<String> names = List.of("client-cache:one", "client-cache:two", "client-cache:three");
+
+            names.forEach(name -> this.client.getBucket(name, StringCodec.INSTANCE).set(name.toUpperCase()));
+
+            try (final ClientSideCache<String> clientCache = new ClientSideCache<>(this.client, clientCacheConfig, StringCodec.INSTANCE)) {
+                for (int i = 0; i < 10; i++) {
+                    for (final var name : names) {
+                        clientCache.get(name);
+                    }
+                }
+
+                // A plain write; the server pushes the invalidation
+
+                this.client.getBucket(names.get(1), StringCodec.INSTANCE).set("changed");
+
+                Thread.sleep(clientCacheConfig.getInvalidationWait());
+
+                this.logger.info("Value of key '{}' after the change: {}", names.get(1), clientCache.get(names.get(1)));
+
+                if (this.logger.isInfoEnabled()) {
+                    this.logger.info("Client-side cache: {} hits, {} misses, {} invalidations, hit ratio {}",
+                            clientCache.getHits(),
+                            clientCache.getMisses(),
+                            clientCache.getInvalidations(),
+                            String.format("%.3f", clientCache.getHitRatio()));
+                }
+            } catch (final InterruptedException ie) {
+                this.logger.catching(ie);
+                Thread.currentThread().interrupt();
+            } finally {
+                names.forEach(name -> this.client.getBucket(name).delete());
+            }
+        }
+
+        this.logger.exit();
+    }
+
+    /**
+     * Put twice as many entries as the bounded
+     * cache holds, keeping a few of them hot, and
+     * log what the cache kept and evicted. Runs
+     * only when the bounded cache is enabled.
+     */
+    private void fillBoundedCache() {
+        this.logger.entry();
+
+        final BoundedCache boundedCacheConfig = this.config.getCache() != null ? this.config.getCache().getBoundedCache() : null;
+
+        if (boundedCacheConfig != null && boundedCacheConfig.isEnabled() && boundedCacheConfig.getMaxSize() > 0) {
+            final BoundedMapCache<String, String> boundedCache = new BoundedMapCache<>(this.client, boundedCacheConfig, StringCodec.INSTANCE);
+            final int entries = boundedCacheConfig.getMaxSize() * 2;
+
+            for (int i = 0; i < entries; i++) {
+                boundedCache.put("entry:" + i, "value " + i);
+
+                if (i % 10 == 0) {
+                    boundedCache.get("entry:0");    // Keep one entry hot
+                }
+            }
+
+            if (this.logger.isInfoEnabled()) {
+                this.logger.info("Bounded cache '{}' ({} eviction): {} puts, {} entries kept, {} evictions reported, hot entry kept: {}",
+                        boundedCacheConfig.getName(),
+                        boundedCacheConfig.getEvictionMode(),
+                        entries,
+                        boundedCache.size(),
+                        boundedCache.getEvictions(),
+                        boundedCache.get("entry:0") != null);
+            }
+
+            boundedCache.destroy();
+        }
+
+        this.logger.exit();
+    }
+
+    /**
+     * Put fields that each expire on their own and log
+     * the mode chosen, the memory used and the time to
+     * live left on a field. Runs only when field expiry
+     * is enabled.
+     */
+    private void expireFields() {
+        this.logger.entry();
+
+        final FieldExpiry fieldExpiryConfig = this.config.getCache() != null ? this.config.getCache().getFieldExpiry() : null;
+
+        if (fieldExpiryConfig != null && fieldExpiryConfig.isEnabled()) {
+            final FieldExpiryMap<String> fieldExpiryMap = new FieldExpiryMap<>(this.client, fieldExpiryConfig, StringCodec.INSTANCE);
+            final int fields = 1_000;
+
+            for (int i = 0; i < fields; i++) {
+                fieldExpiryMap.put("field:" + i, "value " + i);
+            }
+
+            if (this.logger.isInfoEnabled()) {
+                final long bytes = fieldExpiryMap.sizeInMemory();
+
+                this.logger.info("Field expiry map '{}' ({} mode): {} fields in {} bytes ({} per field); 'field:0' expires in {} ms",
+                        fieldExpiryConfig.getName(),
+                        fieldExpiryMap.getMode(),
+                        fieldExpiryMap.size(),
+                        bytes,
+                        bytes / fields,
+                        fieldExpiryMap.remainingTimeToLive("field:0"));
+            }
+
+            fieldExpiryMap.delete();
+        }
+
+        this.logger.exit();
+    }
+}
@@ -0,0 +1,406 @@
+package net.jmp.demo.redis.impl;
+
+/*
+ * (#)ClientSideCache.java  0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import net.jmp.demo.redis.config.ClientCache;
+
+import org.redisson.api.RBucket;
+import org.redisson.api.RedissonClient;
+
+import org.redisson.api.listener.TrackingListener;
+
+import org.redisson.client.codec.Codec;
+
+import org.slf4j.LoggerFactory;
+
+import org.slf4j.ext.XLogger;
+
+/**
+ * A client-side cache of bucket values kept coherent
+ * by the server. The client must speak RESP3. The first
+ * read of a bucket registers a tracking listener, which
+ * turns on CLIENT TRACKING with invalidations redirected
+ * to the pub/sub connection; the server then remembers
+ * the keys this client has read and pushes a message on
+ * '__redis__:invalidate' when any client changes one of
+ * them. The message drops the local copy, so the next
+ * read goes to Redis again. Unlike a near-cache map this
+ * works for any bucket, string or object, with no change
+ * to the key layout.
+ * <p>
+ * The local store is bounded and least recently used
+ * buckets are evicted. A bucket has a listener only
+ * while it is in the store or being read: once the
+ * last read of a bucket that is not stored is done,
+ * or a stored bucket is evicted or invalidated with
+ * no read in progress, the listener is removed. Of
+ * concurrent misses on a bucket the first registers
+ * the listener, outside any lock, and the others
+ * share it. A read that races with an invalidation
+ * is not cached: an invalidation bumps the bucket's
+ * version, and a value is stored only if the version
+ * is the one its read started with and the listener
+ * was registered before the read.
+ *
+ * @param   <V> The type of value
+ */
+final class ClientSideCache<V> implements AutoCloseable {
+    /** The logger. */
+    private final XLogger logger = new XLogger(LoggerFactory.getLogger(this.getClass().getName()));
+
+    /** The Redisson client. */
+    private final RedissonClient client;
+
+    /** The codec of the buckets. */
+    private final Codec codec;
+
+    /** The local store in access order; guarded by itself. */
+    private final Map<String, V> store;
+
+    /** The tracking of the buckets stored or being read by bucket name; guarded by the store lock. */
+    private final Map<String, Tracking> trackings = new HashMap<>();
+
+    /** The number of reads served locally. */
+    private final LongAdder hits = new LongAdder();
+
+    /** The number of reads that went to Redis. */
+    private final LongAdder misses = new LongAdder();
+
+    /** The number of invalidations received. */
+    private final LongAdder invalidations = new LongAdder();
+
+    /** The number of buckets evicted from the local store. */
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * The constructor.
+     *
+     * @param   client      org.redisson.api.RedissonClient
+     * @param   clientCache net.jmp.demo.redis.config.ClientCache
+     * @param   codec       org.redisson.client.codec.Codec
+     */
+    ClientSideCache(final RedissonClient client, final ClientCache clientCache, final Codec codec) {
+        super();
+
+        assert client != null;
+        assert clientCache != null;
+        assert clientCache.getMaxSize() > 0;
+        assert codec != null;
+
+        final int maxSize = clientCache.getMaxSize();
+
+        this.client = client;
+        this.codec = codec;
+        this.store = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, V> eldest) {
+                if (this.size() > maxSize) {
+                    evicted(eldest.getKey());
+
+                    return true;
+                }
+
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Return the value of the bucket, from
+     * the local store if it holds the bucket.
+     *
+     * @param   name    java.lang.String
+     * @return          V
+     */
+    V get(final String name) {
+        assert name != null;
+
+        synchronized (this.store) {
+            final V value = this.store.get(name);
+
+            if (value != null) {
+                this.hits.increment();
+
+                return value;
+            }
+        }
+
+        this.misses.increment();
+
+        final RBucket<V> bucket = this.client.getBucket(name, this.codec);
+        final Tracking tracking;
+        final long version;
+        final boolean registers;
+
+        boolean listening;
+
+        synchronized (this.store) {
+            tracking = this.trackings.computeIfAbsent(name, key -> new Tracking());
+            tracking.readers++;
+            version = tracking.version;
+            listening = tracking.listenerId != null;
+            registers = !listening && !tracking.registering;
+
+            if (registers) {
+                tracking.registering = true;
+            }
+        }
+
+        V value = null;
+
+        try {
+            if (registers) {
+                final int listenerId = bucket.addListener((TrackingListener) this::invalidate);
+
+                synchronized (this.store) {
+                    tracking.listenerId = listenerId;
+                }
+
+                listening = true;
+            }
+
+            value = bucket.get();
+        } finally {
+            synchronized (this.store) {
+                tracking.readers--;
+
+                if (registers) {
+                    tracking.registering = false;
+                }
+
+                // Store the value only if the server was tracking the read and no invalidation arrived since
+
+                if (listening && value != null && tracking.version == version && this.trackings.get(name) == tracking) {
+                    this.store.put(name, value);
+                }
+
+                if (!this.store.containsKey(name)) {
+                    this.release(name);     // Nothing is cached to keep coherent
+                }
+            }
+        }
+
+        return value;
+    }
+
+    /**
+     * Set the value of the bucket. The local copy is
+     * dropped now rather than when the server's own
+     * invalidation arrives.
+     *
+     * @param   name    java.lang.String
+     * @param   value   V
+     */
+    void set(final String name, final V value) {
+        assert name != null;
+
+        this.client.<V>getBucket(name, this.codec).set(value);
+
+        this.drop(name);
+    }
+
+    /**
+     * Handle an invalidation from the server.
+     *
+     * @param   name    java.lang.String
+     */
+    private void invalidate(final String name) {
+        this.invalidations.increment();
+
+        if (this.logger.isDebugEnabled()) {
+            this.logger.debug("Invalidated bucket '{}'", name);
+        }
+
+        this.drop(name);
+    }
+
+    /**
+     * Drop the local copy of the bucket and its
+     * listener. A miss in progress for it does
+     * not store what it read.
+     *
+     * @param   name    java.lang.String
+     */
+    private void drop(final String name) {
+        synchronized (this.store) {
+            final Tracking tracking = this.trackings.get(name);
+
+            if (tracking != null) {
+                tracking.version++;
+            }
+
+            this.store.remove(name);
+            this.release(name);
+        }
+    }
+
+    /**
+     * Release the listener of an evicted bucket.
+     *
+     * @param   name    java.lang.String
+     */
+    private void evicted(final String name) {
+        this.evictions.increment();
+        this.release(name);
+    }
+
+    /**
+     * Remove the listener of a bucket unless a read
+     * of it is in progress, in which case the last
+     * read removes it. Called with the store lock
+     * held, so the listener is removed asynchronously.
+     *
+     * @param   name    java.lang.String
+     */
+    private void release(final String name) {
+        final Tracking tracking = this.trackings.get(name);
+
+        if (tracking != null && tracking.readers == 0) {
+            this.trackings.remove(name);
+
+            if (tracking.listenerId != null) {
+                this.client.getBucket(name, this.codec).removeListenerAsync(tracking.listenerId);
+            }
+        }
+    }
+
+    /**
+     * Return the number of buckets in the local store.
+     *
+     * @return  int
+     */
+    int size() {
+        synchronized (this.store) {
+            return this.store.size();
+        }
+    }
+
+    /**
+     * Return the number of local hits.
+     *
+     * @return  long
+     */
+    long getHits() {
+        return this.hits.sum();
+    }
+
+    /**
+     * Return the number of local misses.
+     *
+     * @return  long
+     */
+    long getMisses() {
+        return this.misses.sum();
+    }
+
+    /**
+     * Return the number of invalidations received.
+     *
+     * @return  long
+     */
+    long getInvalidations() {
+        return this.invalidations.sum();
+    }
+
+    /**
+     * Return the number of evicted buckets.
+     *
+     * @return  long
+     */
+    long getEvictions() {
+        return this.evictions.sum();
+    }
+
+    /**
+     * Return the fraction of reads served
+     * locally; zero before any read.
+     *
+     * @return  double
+     */
+    double getHitRatio() {
+        final long hitCount = this.hits.sum();
+        final long total = hitCount + this.misses.sum();
+
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    /**
+     * Remove every tracking listener
+     * and clear the local store.
+     */
+    @Override
+    public void close() {
+        final List<Map.Entry<String, Tracking>> registered;
+
+        synchronized (this.store) {
+            registered = new ArrayList<>(this.trackings.entrySet());
+
+            this.trackings.clear();
+            this.store.clear();
+        }
+
+        for (final Map.Entry<String, Tracking> entry : registered) {
+            if (entry.getValue().listenerId != null) {
+                this.client.getBucket(entry.getKey(), this.codec).removeListener(entry.getValue().listenerId);
+            }
+        }
+
+        if (this.logger.isDebugEnabled()) {
+            this.logger.debug("Closed client-side cache: {} hits, {} misses, {} invalidations, {} evictions",
+                    this.hits.sum(), this.misses.sum(), this.invalidations.sum(), this.evictions.sum());
+        }
+    }
+
+    /**
+     * The tracking of one bucket. Guarded by the store lock.
+     */
+    private static final class Tracking {
+        /** The tracking listener identifier, once registered. */
+        private Integer listenerId;
+
+        /** True while a read registers the listener. */
+        private boolean registering;
+
+        /** The number of reads in progress. */
+        private int readers;
+
+        /** The number of invalidations, so a read can tell if one arrived. */
+        private long version;
+    }
+}
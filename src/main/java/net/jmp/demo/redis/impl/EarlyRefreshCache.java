@@ -0,0 +1,362 @@
+package net.jmp.demo.redis.impl;
+
+/*
+ * (#)EarlyRefreshCache.java    0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.time.Duration;
+
+import java.util.Map;
+import java.util.Set;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import java.util.function.Function;
+
+import net.jmp.demo.redis.config.EarlyRefresh;
+
+import net.jmp.demo.redis.objects.RefreshableValue;
+
+import org.redisson.api.RBucket;
+import org.redisson.api.RedissonClient;
+
+import org.slf4j.LoggerFactory;
+
+import org.slf4j.ext.XLogger;
+
+/**
+ * A cache that refreshes hot values before they expire,
+ * using probabilistic early expiration (XFetch). Each
+ * value is stored with the time it took to compute, in
+ * microseconds so that fast loaders still refresh early,
+ * and its logical expiry. A reader refreshes early when
+ * <pre>
+ *     now - delta * beta * ln(random) &gt;= expiry
+ * </pre>
+ * where delta is the compute time and random is uniform
+ * on (0, 1]. The chance of a refresh grows as the expiry
+ * nears and is larger for values that are slow to compute,
+ * so one reader refreshes a popular value a little before
+ * it expires instead of every reader at once just after.
+ * <p>
+ * Refreshes run in the background while the current value
+ * is still served. The bucket outlives the logical expiry
+ * by the stale grace so that a value past its expiry can
+ * be served while it is refreshed. Only a cold key, one
+ * never read or gone past the stale grace, is computed
+ * in the reader's own thread, and concurrent readers of
+ * the same cold key share that one computation.
+ *
+ * @param   <V> The type of value
+ */
+final class EarlyRefreshCache<V> implements AutoCloseable {
+    /** The logger. */
+    private final XLogger logger = new XLogger(LoggerFactory.getLogger(this.getClass().getName()));
+
+    /** The Redisson client. */
+    private final RedissonClient client;
+
+    /** The logical time to live in milliseconds. */
+    private final long timeToLive;
+
+    /** The eagerness of early refreshes. */
+    private final double beta;
+
+    /** The time a value is kept past its expiry in milliseconds. */
+    private final long staleGrace;
+
+    /** The keys with a refresh in progress in this process. */
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    /** The cold loads in progress in this process by key. */
+    private final Map<String, CompletableFuture<RefreshableValue<V>>> loading = new ConcurrentHashMap<>();
+
+    /** The refresh threads. */
+    private final ExecutorService refresher;
+
+    /** The number of reads served from Redis. */
+    private final LongAdder hits = new LongAdder();
+
+    /** The number of reads that found no value. */
+    private final LongAdder misses = new LongAdder();
+
+    /** The number of background refreshes started before the expiry. */
+    private final LongAdder earlyRefreshes = new LongAdder();
+
+    /** The number of background refreshes started after the expiry. */
+    private final LongAdder staleRefreshes = new LongAdder();
+
+    /**
+     * The constructor.
+     *
+     * @param   client          org.redisson.api.RedissonClient
+     * @param   earlyRefresh    net.jmp.demo.redis.config.EarlyRefresh
+     */
+    EarlyRefreshCache(final RedissonClient client, final EarlyRefresh earlyRefresh) {
+        super();
+
+        assert client != null;
+        assert earlyRefresh != null;
+        assert earlyRefresh.getTimeToLive() > 0;
+        assert earlyRefresh.getBeta() > 0;
+        assert earlyRefresh.getStaleGrace() >= 0;
+
+        this.client = client;
+        this.timeToLive = earlyRefresh.getTimeToLive();
+        this.beta = earlyRefresh.getBeta();
+        this.staleGrace = earlyRefresh.getStaleGrace();
+        this.refresher = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("early-refresh-", 0).factory());
+    }
+
+    /**
+     * Return the value of the key. A cold key is
+     * computed now; a key near or past its expiry
+     * may start a background refresh, and its
+     * current value is returned either way.
+     *
+     * @param   key     java.lang.String
+     * @param   loader  java.util.function.Function&lt;java.lang.String, V&gt;
+     * @return          V
+     */
+    V get(final String key, final Function<String, V> loader) {
+        assert key != null;
+        assert loader != null;
+
+        final RBucket<RefreshableValue<V>> bucket = this.client.getBucket(key);
+        final RefreshableValue<V> entry = bucket.get();
+
+        if (entry == null) {
+            this.misses.increment();
+
+            return this.load(bucket, loader).value();
+        }
+
+        this.hits.increment();
+
+        final long now = System.currentTimeMillis();
+
+        if (now >= entry.expiry()) {
+            if (this.refreshInBackground(bucket, loader)) {
+                this.staleRefreshes.increment();
+            }
+        } else if (this.isEarly(now, entry)) {
+            if (this.refreshInBackground(bucket, loader)) {
+                this.earlyRefreshes.increment();
+            }
+        }
+
+        return entry.value();
+    }
+
+    /**
+     * Compute a cold key in this thread, unless
+     * another reader here is already computing
+     * it, in which case wait for its entry.
+     *
+     * @param   bucket  org.redisson.api.RBucket&lt;net.jmp.demo.redis.objects.RefreshableValue&lt;V&gt;&gt;
+     * @param   loader  java.util.function.Function&lt;java.lang.String, V&gt;
+     * @return          net.jmp.demo.redis.objects.RefreshableValue&lt;V&gt;
+     */
+    private RefreshableValue<V> load(final RBucket<RefreshableValue<V>> bucket, final Function<String, V> loader) {
+        final String key = bucket.getName();
+        final CompletableFuture<RefreshableValue<V>> future = new CompletableFuture<>();
+        final CompletableFuture<RefreshableValue<V>> existing = this.loading.putIfAbsent(key, future);
+
+        if (existing != null) {
+            return this.join(existing);
+        }
+
+        try {
+            // A load may have finished between the miss and this one starting
+
+            final RefreshableValue<V> entry = bucket.get();
+
+            future.complete(entry != null ? entry : this.compute(bucket, loader));
+        } catch (final Throwable t) {
+            future.completeExceptionally(t);    // Errors too, or the readers sharing the load would wait forever
+        } finally {
+            this.loading.remove(key, future);
+        }
+
+        return this.join(future);
+    }
+
+    /**
+     * Wait for a load and return its entry, rethrowing
+     * the cause of a failure if it is a runtime
+     * exception or error.
+     *
+     * @param   future  java.util.concurrent.CompletableFuture&lt;net.jmp.demo.redis.objects.RefreshableValue&lt;V&gt;&gt;
+     * @return          net.jmp.demo.redis.objects.RefreshableValue&lt;V&gt;
+     */
+    private RefreshableValue<V> join(final CompletableFuture<RefreshableValue<V>> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException ce) {
+            if (ce.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+
+            if (ce.getCause() instanceof Error e) {
+                throw e;
+            }
+
+            throw ce;
+        }
+    }
+
+    /**
+     * Return true if the XFetch test says
+     * to refresh the entry now.
+     *
+     * @param   now     long
+     * @param   entry   net.jmp.demo.redis.objects.RefreshableValue&lt;V&gt;
+     * @return          boolean
+     */
+    private boolean isEarly(final long now, final RefreshableValue<V> entry) {
+        final double random = 1.0 - ThreadLocalRandom.current().nextDouble();      // (0, 1]
+
+        final double deltaMillis = entry.delta() / 1_000.0;
+
+        return now - deltaMillis * this.beta * Math.log(random) >= entry.expiry();
+    }
+
+    /**
+     * Start a background refresh of the key unless one
+     * is in progress here. Return true if one started.
+     *
+     * @param   bucket  org.redisson.api.RBucket&lt;net.jmp.demo.redis.objects.RefreshableValue&lt;V&gt;&gt;
+     * @param   loader  java.util.function.Function&lt;java.lang.String, V&gt;
+     * @return          boolean
+     */
+    private boolean refreshInBackground(final RBucket<RefreshableValue<V>> bucket, final Function<String, V> loader) {
+        final String key = bucket.getName();
+
+        if (!this.refreshing.add(key)) {
+            return false;
+        }
+
+        this.refresher.execute(() -> {
+            try {
+                this.compute(bucket, loader);
+            } catch (final RuntimeException re) {
+                this.logger.warn("Refresh of key '{}' failed: {}", key, re.getMessage());
+            } finally {
+                this.refreshing.remove(key);
+            }
+        });
+
+        return true;
+    }
+
+    /**
+     * Compute the value, timing the loader, and
+     * store it with its delta and expiry.
+     *
+     * @param   bucket  org.redisson.api.RBucket&lt;net.jmp.demo.redis.objects.RefreshableValue&lt;V&gt;&gt;
+     * @param   loader  java.util.function.Function&lt;java.lang.String, V&gt;
+     * @return          net.jmp.demo.redis.objects.RefreshableValue&lt;V&gt;
+     */
+    private RefreshableValue<V> compute(final RBucket<RefreshableValue<V>> bucket, final Function<String, V> loader) {
+        final long start = System.nanoTime();
+        final V value = loader.apply(bucket.getName());
+        final long delta = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+        final RefreshableValue<V> entry = new RefreshableValue<>(value, delta, System.currentTimeMillis() + this.timeToLive);
+
+        bucket.set(entry, Duration.ofMillis(this.timeToLive + this.staleGrace));
+
+        if (this.logger.isDebugEnabled()) {
+            this.logger.debug("Computed key '{}' in {} us", bucket.getName(), delta);
+        }
+
+        return entry;
+    }
+
+    /**
+     * Return the number of reads that found a value.
+     *
+     * @return  long
+     */
+    long getHits() {
+        return this.hits.sum();
+    }
+
+    /**
+     * Return the number of reads that found no value.
+     *
+     * @return  long
+     */
+    long getMisses() {
+        return this.misses.sum();
+    }
+
+    /**
+     * Return the number of refreshes started early.
+     *
+     * @return  long
+     */
+    long getEarlyRefreshes() {
+        return this.earlyRefreshes.sum();
+    }
+
+    /**
+     * Return the number of refreshes started
+     * after the expiry, inside the stale grace.
+     *
+     * @return  long
+     */
+    long getStaleRefreshes() {
+        return this.staleRefreshes.sum();
+    }
+
+    /**
+     * Wait for any refresh in progress and stop.
+     */
+    @Override
+    public void close() {
+        this.refresher.shutdown();
+
+        try {
+            if (!this.refresher.awaitTermination(5, TimeUnit.SECONDS)) {
+                this.refresher.shutdownNow();
+            }
+        } catch (final InterruptedException ie) {
+            this.logger.catching(ie);
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,317 @@
+package net.jmp.demo.redis.impl;
+
+/*
+ * (#)FieldExpiryMap.java   0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.List;
+import java.util.Map;
+
+import java.util.concurrent.TimeUnit;
+
+import net.jmp.demo.redis.config.FieldExpiry;
+
+import org.redisson.api.RMap;
+import org.redisson.api.RMapCache;
+import org.redisson.api.RObject;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+
+import org.redisson.api.redisnode.RedisNode;
+import org.redisson.api.redisnode.RedisNodes;
+
+import org.redisson.client.codec.ByteArrayCodec;
+import org.redisson.client.codec.Codec;
+
+import org.redisson.client.protocol.Encoder;
+
+import org.slf4j.LoggerFactory;
+
+import org.slf4j.ext.XLogger;
+
+/**
+ * A map whose fields each expire on their own. On Redis
+ * 7.4 or later the fields of a plain hash are given a
+ * time to live with the native HPEXPIRE command, set in
+ * the same script as the HSET, and the server removes
+ * them itself. On older servers the map falls back to a
+ * map cache, which emulates field expiry with sorted sets
+ * of expiry times, Lua scripts and a client-side eviction
+ * task. The mode is chosen from the server version
+ * unless the configuration forces one.
+ *
+ * @param   <V> The type of value
+ */
+final class FieldExpiryMap<V> {
+    /** The first Redis version with hash field expiry. */
+    static final int[] NATIVE_VERSION = {7, 4};
+
+    /*
+     * KEYS[1] is the hash. ARGV[1] is the encoded field, ARGV[2]
+     * the encoded value and ARGV[3] the time to live in milliseconds.
+     */
+
+    /** The script that sets a field and its time to live. */
+    private static final String PUT_SCRIPT = """
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            return redis.call('HPEXPIRE', KEYS[1], ARGV[3], 'FIELDS', 1, ARGV[1])
+            """;
+
+    /** The script that returns the time to live of a field. */
+    private static final String TTL_SCRIPT = """
+            return redis.call('HPTTL', KEYS[1], 'FIELDS', 1, ARGV[1])
+            """;
+
+    /** The expiry mode. */
+    enum Mode {
+        /** Native hash field expiry. */
+        NATIVE,
+
+        /** Expiry emulated by a map cache. */
+        EMULATED
+    }
+
+    /** The logger. */
+    private final XLogger logger = new XLogger(LoggerFactory.getLogger(this.getClass().getName()));
+
+    /** The mode in use. */
+    private final Mode mode;
+
+    /** The time to live of a field in milliseconds. */
+    private final long timeToLive;
+
+    /** The codec of the fields and values. */
+    private final Codec codec;
+
+    /** The hash read in native mode. */
+    private final RMap<String, V> map;
+
+    /** The map cache used in emulated mode. */
+    private final RMapCache<String, V> mapCache;
+
+    /** The script service; arguments are encoded here, not by the service. */
+    private final RScript script;
+
+    /**
+     * The constructor.
+     *
+     * @param   client      org.redisson.api.RedissonClient
+     * @param   fieldExpiry net.jmp.demo.redis.config.FieldExpiry
+     * @param   codec       org.redisson.client.codec.Codec
+     */
+    FieldExpiryMap(final RedissonClient client, final FieldExpiry fieldExpiry, final Codec codec) {
+        super();
+
+        assert client != null;
+        assert fieldExpiry != null;
+        assert fieldExpiry.getTimeToLive() > 0;
+        assert codec != null;
+
+        this.mode = switch (fieldExpiry.getMode().toLowerCase()) {
+            case "native" -> Mode.NATIVE;
+            case "emulated" -> Mode.EMULATED;
+            case "auto" -> supportsNativeExpiry(client) ? Mode.NATIVE : Mode.EMULATED;
+            default -> throw new IllegalArgumentException("Unknown field expiry mode: " + fieldExpiry.getMode());
+        };
+
+        this.timeToLive = fieldExpiry.getTimeToLive();
+        this.codec = codec;
+
+        if (this.mode == Mode.NATIVE) {
+            this.map = client.getMap(fieldExpiry.getName(), codec);
+            this.mapCache = null;
+            this.script = client.getScript(ByteArrayCodec.INSTANCE);
+        } else {
+            this.map = null;
+            this.mapCache = client.getMapCache(fieldExpiry.getName(), codec);
+            this.script = null;
+        }
+
+        this.logger.debug("Field expiry map '{}' in {} mode", fieldExpiry.getName(), this.mode);
+    }
+
+    /**
+     * Return true if the server supports hash field
+     * expiry, judged by the version that it reports.
+     *
+     * @param   client  org.redisson.api.RedissonClient
+     * @return          boolean
+     */
+    static boolean supportsNativeExpiry(final RedissonClient client) {
+        final Map<String, String> server = client.getRedisNodes(RedisNodes.SINGLE)
+                .getInstance()
+                .info(RedisNode.InfoSection.SERVER);
+        final String[] version = server.getOrDefault("redis_version", "0").split("\\.");
+
+        for (int i = 0; i < NATIVE_VERSION.length; i++) {
+            final int part = i < version.length ? Integer.parseInt(version[i]) : 0;
+
+            if (part != NATIVE_VERSION[i]) {
+                return part > NATIVE_VERSION[i];
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Put the value of the field with the time to live.
+     *
+     * @param   field   java.lang.String
+     * @param   value   V
+     */
+    void put(final String field, final V value) {
+        assert field != null;
+        assert value != null;
+
+        if (this.mode == Mode.NATIVE) {
+            this.script.eval(RScript.Mode.READ_WRITE,
+                    PUT_SCRIPT,
+                    RScript.ReturnType.MULTI,
+                    List.of(this.map.getName()),
+                    this.encode(this.codec.getMapKeyEncoder(), field),
+                    this.encode(this.codec.getMapValueEncoder(), value),
+                    Long.toString(this.timeToLive).getBytes(StandardCharsets.US_ASCII));
+        } else {
+            this.mapCache.fastPut(field, value, this.timeToLive, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Return the value of the field,
+     * or null if it has expired.
+     *
+     * @param   field   java.lang.String
+     * @return          V
+     */
+    V get(final String field) {
+        return this.mode == Mode.NATIVE ? this.map.get(field) : this.mapCache.get(field);
+    }
+
+    /**
+     * Return the remaining time to live of the field in
+     * milliseconds; -1 if it has none and -2 if it is absent.
+     *
+     * @param   field   java.lang.String
+     * @return          long
+     */
+    long remainingTimeToLive(final String field) {
+        if (this.mode == Mode.EMULATED) {
+            return this.mapCache.remainTimeToLive(field);
+        }
+
+        final List<Object> result = this.script.eval(RScript.Mode.READ_ONLY,
+                TTL_SCRIPT,
+                RScript.ReturnType.MULTI,
+                List.of(this.map.getName()),
+                (Object) this.encode(this.codec.getMapKeyEncoder(), field));
+
+        return result.isEmpty() ? -2 : ((Number) result.getFirst()).longValue();
+    }
+
+    /**
+     * Return the number of fields.
+     *
+     * @return  int
+     */
+    int size() {
+        return this.mode == Mode.NATIVE ? this.map.size() : this.mapCache.size();
+    }
+
+    /**
+     * Return the memory used in Redis by the map and,
+     * when emulated, its expiry bookkeeping.
+     *
+     * @return  long
+     */
+    long sizeInMemory() {
+        return this.getObject().sizeInMemory();
+    }
+
+    /**
+     * Return the mode in use.
+     *
+     * @return  net.jmp.demo.redis.impl.FieldExpiryMap.Mode
+     */
+    Mode getMode() {
+        return this.mode;
+    }
+
+    /**
+     * Delete the map.
+     */
+    void delete() {
+        this.getObject().delete();
+
+        if (this.mapCache != null) {
+            this.mapCache.destroy();
+        }
+    }
+
+    /**
+     * Return the Redisson object of the mode in use.
+     *
+     * @return  org.redisson.api.RObject
+     */
+    private RObject getObject() {
+        return this.mode == Mode.NATIVE ? this.map : this.mapCache;
+    }
+
+    /**
+     * Encode an object with the encoder
+     * into an array of bytes.
+     *
+     * @param   encoder org.redisson.client.protocol.Encoder
+     * @param   object  java.lang.Object
+     * @return          byte[]
+     */
+    private byte[] encode(final Encoder encoder, final Object object) {
+        ByteBuf buffer = null;
+
+        try {
+            buffer = encoder.encode(object);
+
+            return ByteBufUtil.getBytes(buffer);
+        } catch (final IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        } finally {
+            if (buffer != null) {
+                buffer.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package net.jmp.demo.redis.impl;
+
+/*
+ * (#)FunctionBulkLoader.java   0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.redisson.api.FunctionMode;
+import org.redisson.api.FunctionResult;
+import org.redisson.api.RFunction;
+import org.redisson.api.RFuture;
+import org.redisson.api.RedissonClient;
+
+import org.slf4j.LoggerFactory;
+
+import org.slf4j.ext.XLogger;
+
+/**
+ * A bulk loader that does the work on the server. A
+ * Redis function library is registered once and each
+ * chunk of items is then loaded with a single function
+ * call that sets every bucket, adds every key to the
+ * key set and increments the batch counter. Requires
+ * Redis 7 or later.
+ */
+final class FunctionBulkLoader {
+    /** The name of the function library. */
+    static final String LIBRARY_NAME = "pipelining";
+
+    /** The name of the bulk load function. */
+    static final String FUNCTION_NAME = "bulk_load";
+
+    /*
+     * KEYS[1] is the batch counter, KEYS[2..n+1] the bucket names and KEYS[n+2..2n+1]
+     * the key set shard of each member. ARGV[1..n] are the encoded values and
+     * ARGV[n+1..2n] the encoded set members.
+     */
+
+    /** The function library source. */
+    private static final String LIBRARY = """
+            #!lua name=pipelining
+
+            redis.register_function('bulk_load', function(keys, args)
+                local count = (#keys - 1) / 2
+
+                for i = 1, count do
+                    redis.call('SET', keys[i + 1], args[i])
+                    redis.call('SADD', keys[count + i + 1], args[count + i])
+                end
+
+                return redis.call('INCR', keys[1])
+            end)
+            """;
+
+    /** The logger. */
+    private final XLogger logger = new XLogger(LoggerFactory.getLogger(this.getClass().getName()));
+
+    /** The function service; arguments are encoded with the client codec like the buckets are. */
+    private final RFunction function;
+
+    /**
+     * The constructor.
+     *
+     * @param   client  org.redisson.api.RedissonClient
+     */
+    FunctionBulkLoader(final RedissonClient client) {
+        super();
+
+        assert client != null;
+
+        this.function = client.getFunction();
+    }
+
+    /**
+     * Register the function library,
+     * replacing any earlier version.
+     */
+    void register() {
+        this.logger.entry();
+
+        this.function.loadAndReplace(LIBRARY_NAME, LIBRARY);
+
+        this.logger.debug("Registered function library '{}'", LIBRARY_NAME);
+
+        this.logger.exit();
+    }
+
+    /**
+     * Load one chunk of buckets with a single function call. The
+     * returned future completes with the new batch counter value.
+     *
+     * @param   keySet      net.jmp.demo.redis.impl.ShardedKeySet
+     * @param   counterName java.lang.String
+     * @param   ids         java.util.List&lt;java.lang.String&gt;
+     * @param   values      java.util.List&lt;java.lang.String&gt;
+     * @return              org.redisson.api.RFuture&lt;java.lang.Long&gt;
+     */
+    RFuture<Long> loadAsync(final ShardedKeySet keySet,
+                            final String counterName,
+                            final List<String> ids,
+                            final List<String> values) {
+        assert keySet != null;
+        assert counterName != null;
+        assert ids != null;
+        assert values != null;
+        assert ids.size() == values.size();
+
+        final List<Object> keys = new ArrayList<>(ids.size() * 2 + 1);
+        final Object[] arguments = new Object[ids.size() * 2];
+
+        keys.add(counterName);
+        keys.addAll(ids);
+
+        for (int i = 0; i < ids.size(); i++) {
+            keys.add(keySet.shardName(ids.get(i)));
+
+            arguments[i] = values.get(i);
+            arguments[ids.size() + i] = ids.get(i);
+        }
+
+        return this.function.callAsync(FunctionMode.WRITE, FUNCTION_NAME, FunctionResult.LONG, keys, arguments);
+    }
+}
@@ -0,0 +1,232 @@
+package net.jmp.demo.redis.impl;
+
+/*
+ * (#)HashBucketValueStore.java 0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.redisson.api.BatchOptions;
+import org.redisson.api.RBatch;
+import org.redisson.api.RBatchReactive;
+import org.redisson.api.RFuture;
+import org.redisson.api.RMap;
+import org.redisson.api.RedissonClient;
+
+import org.redisson.client.codec.StringCodec;
+
+/**
+ * The value store that hashes each key into one of a
+ * fixed number of small hashes instead of giving each
+ * value a top-level key. Small hashes are kept in the
+ * compact listpack encoding by the server, which saves
+ * the per-key overhead of millions of small values. A
+ * hash stays compact while it has no more entries than
+ * hash-max-listpack-entries (128 by default) and no
+ * value longer than hash-max-listpack-value (64 bytes
+ * by default), so the bucket count should be chosen to
+ * keep well under the entry limit.
+ */
+final class HashBucketValueStore implements ValueStore {
+    /** The Redisson client. */
+    private final RedissonClient client;
+
+    /** The name prefix of the hash buckets. */
+    private final String prefix;
+
+    /** The number of hash buckets. */
+    private final int buckets;
+
+    /**
+     * The constructor.
+     *
+     * @param   client  org.redisson.api.RedissonClient
+     * @param   prefix  java.lang.String
+     * @param   buckets int
+     */
+    HashBucketValueStore(final RedissonClient client, final String prefix, final int buckets) {
+        super();
+
+        assert client != null;
+        assert prefix != null;
+        assert buckets > 0;
+
+        this.client = client;
+        this.prefix = prefix;
+        this.buckets = buckets;
+    }
+
+    /**
+     * Return the value of the key or null if there is none.
+     *
+     * @param   key java.lang.String
+     * @return      java.lang.String
+     */
+    @Override
+    public String get(final String key) {
+        return this.getMap(key).get(key);
+    }
+
+    /**
+     * Return the values of the keys that have one.
+     * One HMGET per hash bucket is sent in a batch.
+     *
+     * @param   keys    java.util.Collection&lt;java.lang.String&gt;
+     * @return          java.util.Map&lt;java.lang.String, java.lang.String&gt;
+     */
+    @Override
+    public Map<String, String> getAll(final Collection<String> keys) {
+        final RBatch batch = this.client.createBatch(BatchOptions.defaults());
+        final List<RFuture<Map<String, String>>> futures = new ArrayList<>();
+
+        this.groupByBucket(keys).forEach((bucketName, bucketKeys) ->
+                futures.add(batch.<String, String>getMap(bucketName, StringCodec.INSTANCE).getAllAsync(bucketKeys)));
+
+        batch.execute();
+
+        final Map<String, String> values = new HashMap<>(keys.size());
+
+        futures.forEach(future -> values.putAll(future.toCompletableFuture().join()));
+
+        return values;
+    }
+
+    /**
+     * Set the value of the key.
+     *
+     * @param   key     java.lang.String
+     * @param   value   java.lang.String
+     */
+    @Override
+    public void set(final String key, final String value) {
+        this.getMap(key).fastPut(key, value);
+    }
+
+    /**
+     * Delete the key. Return true if it existed.
+     *
+     * @param   key java.lang.String
+     * @return      boolean
+     */
+    @Override
+    public boolean delete(final String key) {
+        return this.getMap(key).fastRemove(key) > 0;
+    }
+
+    /**
+     * Queue setting the value of the key on the batch.
+     *
+     * @param   batch   org.redisson.api.RBatch
+     * @param   key     java.lang.String
+     * @param   value   java.lang.String
+     */
+    @Override
+    public void set(final RBatch batch, final String key, final String value) {
+        batch.<String, String>getMap(this.bucketName(key), StringCodec.INSTANCE).fastPutAsync(key, value);
+    }
+
+    /**
+     * Queue deleting the keys on the batch. One
+     * HDEL per hash bucket is queued.
+     *
+     * @param   batch   org.redisson.api.RBatch
+     * @param   keys    java.util.Collection&lt;java.lang.String&gt;
+     */
+    @Override
+    public void delete(final RBatch batch, final Collection<String> keys) {
+        this.groupByBucket(keys).forEach((bucketName, bucketKeys) ->
+                batch.<String, String>getMap(bucketName, StringCodec.INSTANCE).fastRemoveAsync(bucketKeys.toArray(new String[0])));
+    }
+
+    /**
+     * Queue setting the value of the key on the reactive batch.
+     *
+     * @param   batch   org.redisson.api.RBatchReactive
+     * @param   key     java.lang.String
+     * @param   value   java.lang.String
+     */
+    @Override
+    public void set(final RBatchReactive batch, final String key, final String value) {
+        batch.<String, String>getMap(this.bucketName(key), StringCodec.INSTANCE).fastPut(key, value);
+    }
+
+    /**
+     * Queue deleting the keys on the reactive batch.
+     *
+     * @param   batch   org.redisson.api.RBatchReactive
+     * @param   keys    java.util.Collection&lt;java.lang.String&gt;
+     */
+    @Override
+    public void delete(final RBatchReactive batch, final Collection<String> keys) {
+        this.groupByBucket(keys).forEach((bucketName, bucketKeys) ->
+                batch.<String, String>getMap(bucketName, StringCodec.INSTANCE).fastRemove(bucketKeys.toArray(new String[0])));
+    }
+
+    /**
+     * Return the name of the hash bucket that holds the key.
+     *
+     * @param   key java.lang.String
+     * @return      java.lang.String
+     */
+    String bucketName(final String key) {
+        return this.prefix + ':' + KeyHashing.index(key, this.buckets);
+    }
+
+    /**
+     * Return the hash bucket that holds the key.
+     *
+     * @param   key java.lang.String
+     * @return      org.redisson.api.RMap&lt;java.lang.String, java.lang.String&gt;
+     */
+    private RMap<String, String> getMap(final String key) {
+        return this.client.getMap(this.bucketName(key), StringCodec.INSTANCE);
+    }
+
+    /**
+     * Group the keys by the name of their hash bucket.
+     *
+     * @param   keys    java.util.Collection&lt;java.lang.String&gt;
+     * @return          java.util.Map&lt;java.lang.String, java.util.Set&lt;java.lang.String&gt;&gt;
+     */
+    private Map<String, Set<String>> groupByBucket(final Collection<String> keys) {
+        final Map<String, Set<String>> groups = new HashMap<>();
+
+        for (final var key : keys) {
+            groups.computeIfAbsent(this.bucketName(key), name -> new HashSet<>()).add(key);
+        }
+
+        return groups;
+    }
+}
@@ -0,0 +1,79 @@
+package net.jmp.demo.redis.impl;
+
+/*
+ * (#)KeyHashing.java   0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/**
+ * The key hashing class. It only contains static methods.
+ * Keys are hashed into a fixed number of hash buckets
+ * or key set shards with the same spreading function.
+ */
+final class KeyHashing {
+    /**
+     * A hidden constructor.
+     */
+    private KeyHashing() {
+        throw new IllegalStateException("KeyHashing contains only static methods");
+    }
+
+    /**
+     * Return the index, from zero up to but not including
+     * the specified count, that the key hashes to.
+     *
+     * @param   key     java.lang.String
+     * @param   count   int
+     * @return          int
+     */
+    static int index(final String key, final int count) {
+        assert key != null;
+        assert count > 0;
+
+        return Math.floorMod(spread(key.hashCode()), count);
+    }
+
+    /**
+     * Spread the bits of a string hash code so that
+     * similar keys land at different indexes.
+     *
+     * @param   hash    int
+     * @return          int
+     */
+    private static int spread(final int hash) {
+        int h = hash;
+
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+
+        return h;
+    }
+}
@@ -0,0 +1,90 @@
+package net.jmp.demo.redis.impl;
+
+/*
+ * (#)KeyIdEncoding.java    0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/**
+ * The encodings of numeric key identifiers.
+ */
+enum KeyIdEncoding {
+    /** Base 10. */
+    DECIMAL(10),
+
+    /** Base 62 using the digits and both letter cases; at most 11 characters for a long. */
+    BASE62(62);
+
+    /** The digits in order of value. */
+    private static final char[] DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz".toCharArray();
+
+    /** The maximum number of digits in an encoded long. */
+    private static final int MAX_DIGITS = 19;
+
+    /** The radix. */
+    private final int radix;
+
+    /**
+     * The constructor.
+     *
+     * @param   radix   int
+     */
+    KeyIdEncoding(final int radix) {
+        this.radix = radix;
+    }
+
+    /**
+     * Encode the non-negative identifier after the prefix.
+     *
+     * @param   prefix  java.lang.String
+     * @param   id      long
+     * @return          java.lang.String
+     */
+    String encode(final String prefix, final long id) {
+        assert prefix != null;
+        assert id >= 0;
+
+        final int prefixLength = prefix.length();
+        final char[] chars = new char[prefixLength + MAX_DIGITS];
+
+        int position = chars.length;
+        long value = id;
+
+        do {
+            chars[--position] = DIGITS[(int) (value % this.radix)];
+            value /= this.radix;
+        } while (value > 0);
+
+        final int digits = chars.length - position;
+
+        prefix.getChars(0, prefixLength, chars, 0);
+        System.arraycopy(chars, position, chars, prefixLength, digits);
+
+        return new String(chars, 0, prefixLength + digits);
+    }
+}
@@ -0,0 +1,76 @@
+package net.jmp.demo.redis.impl;
+
+/*
+ * (#)KeyIdGenerator.java   0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import org.redisson.api.RedissonClient;
+
+import net.jmp.demo.redis.config.KeyIds;
+
+/**
+ * The strategy for creating the identifiers
+ * that key names are made from.
+ */
+interface KeyIdGenerator {
+    /**
+     * Return the next identifier.
+     *
+     * @return  java.lang.String
+     */
+    String nextId();
+
+    /**
+     * Create the generator named by the key identifiers
+     * configuration. A null configuration or the uuid
+     * strategy yields random UUIDs.
+     *
+     * @param   keyIds  net.jmp.demo.redis.config.KeyIds
+     * @param   client  org.redisson.api.RedissonClient
+     * @return          net.jmp.demo.redis.impl.KeyIdGenerator
+     */
+    static KeyIdGenerator create(final KeyIds keyIds, final RedissonClient client) {
+        assert client != null;
+
+        if (keyIds == null || keyIds.getStrategy() == null || "uuid".equalsIgnoreCase(keyIds.getStrategy())) {
+            return new UuidKeyIdGenerator();
+        }
+
+        if ("block".equalsIgnoreCase(keyIds.getStrategy())) {
+            return new BlockKeyIdGenerator(
+                    client.getAtomicLong(keyIds.getCounter()),
+                    keyIds.getBlockSize(),
+                    KeyIdEncoding.valueOf(keyIds.getEncoding().toUpperCase()),
+                    keyIds.getPrefix() != null ? keyIds.getPrefix() : ""
+            );
+        }
+
+        throw new IllegalArgumentException("Unsupported key identifier strategy: " + keyIds.getStrategy());
+    }
+}
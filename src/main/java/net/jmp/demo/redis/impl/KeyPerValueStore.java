@@ -0,0 +1,151 @@
+package net.jmp.demo.redis.impl;
+
+/*
+ * (#)KeyPerValueStore.java 0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Collection;
+import java.util.Map;
+
+import org.redisson.api.RBatch;
+import org.redisson.api.RBatchReactive;
+import org.redisson.api.RedissonClient;
+
+/**
+ * The value store that keeps each value in its own
+ * top-level bucket named by the key. Values are
+ * encoded with the client codec.
+ */
+final class KeyPerValueStore implements ValueStore {
+    /** The Redisson client. */
+    private final RedissonClient client;
+
+    /**
+     * The constructor.
+     *
+     * @param   client  org.redisson.api.RedissonClient
+     */
+    KeyPerValueStore(final RedissonClient client) {
+        super();
+
+        assert client != null;
+
+        this.client = client;
+    }
+
+    /**
+     * Return the value of the key or null if there is none.
+     *
+     * @param   key java.lang.String
+     * @return      java.lang.String
+     */
+    @Override
+    public String get(final String key) {
+        return this.client.<String>getBucket(key).get();
+    }
+
+    /**
+     * Return the values of the keys that have one.
+     *
+     * @param   keys    java.util.Collection&lt;java.lang.String&gt;
+     * @return          java.util.Map&lt;java.lang.String, java.lang.String&gt;
+     */
+    @Override
+    public Map<String, String> getAll(final Collection<String> keys) {
+        return this.client.getBuckets().get(keys.toArray(new String[0]));
+    }
+
+    /**
+     * Set the value of the key.
+     *
+     * @param   key     java.lang.String
+     * @param   value   java.lang.String
+     */
+    @Override
+    public void set(final String key, final String value) {
+        this.client.getBucket(key).set(value);
+    }
+
+    /**
+     * Delete the key. Return true if it existed.
+     *
+     * @param   key java.lang.String
+     * @return      boolean
+     */
+    @Override
+    public boolean delete(final String key) {
+        return this.client.getBucket(key).delete();
+    }
+
+    /**
+     * Queue setting the value of the key on the batch.
+     *
+     * @param   batch   org.redisson.api.RBatch
+     * @param   key     java.lang.String
+     * @param   value   java.lang.String
+     */
+    @Override
+    public void set(final RBatch batch, final String key, final String value) {
+        batch.getBucket(key).setAsync(value);
+    }
+
+    /**
+     * Queue deleting the keys on the batch.
+     *
+     * @param   batch   org.redisson.api.RBatch
+     * @param   keys    java.util.Collection&lt;java.lang.String&gt;
+     */
+    @Override
+    public void delete(final RBatch batch, final Collection<String> keys) {
+        batch.getKeys().deleteAsync(keys.toArray(new String[0]));
+    }
+
+    /**
+     * Queue setting the value of the key on the reactive batch.
+     *
+     * @param   batch   org.redisson.api.RBatchReactive
+     * @param   key     java.lang.String
+     * @param   value   java.lang.String
+     */
+    @Override
+    public void set(final RBatchReactive batch, final String key, final String value) {
+        batch.getBucket(key).set(value);
+    }
+
+    /**
+     * Queue deleting the keys on the reactive batch.
+     *
+     * @param   batch   org.redisson.api.RBatchReactive
+     * @param   keys    java.util.Collection&lt;java.lang.String&gt;
+     */
+    @Override
+    public void delete(final RBatchReactive batch, final Collection<String> keys) {
+        batch.getKeys().delete(keys.toArray(new String[0]));
+    }
+}
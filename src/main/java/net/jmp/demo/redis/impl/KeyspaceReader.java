@@ -0,0 +1,254 @@
+package net.jmp.demo.redis.impl;
+
+/*
+ * (#)KeyspaceReader.java   0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+import java.io.IOException;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import java.util.function.BiConsumer;
+
+import net.jmp.demo.redis.config.KeyListing;
+
+import org.redisson.api.RBuckets;
+import org.redisson.api.RedissonClient;
+
+import org.redisson.client.codec.ByteArrayCodec;
+import org.redisson.client.codec.Codec;
+
+import org.slf4j.LoggerFactory;
+
+import org.slf4j.ext.XLogger;
+
+/**
+ * A streaming reader of the string values in the keyspace.
+ * Keys are paged with SCAN using the match pattern and count
+ * hint, so the keyspace is never listed in full. Each page of
+ * keys is fetched with one MGET of raw bytes; up to the window
+ * size of MGET calls are in flight while the cursor moves on.
+ * Fetched pages are decoded in parallel on the decoder pool:
+ * the value of a key with one of the configured string
+ * prefixes is decoded as UTF-8, and any other value with the
+ * client codec, as a bucket would. MGET returns nothing for
+ * keys that do not hold strings, so those keys are collected
+ * for the caller instead.
+ */
+final class KeyspaceReader {
+    /** The logger. */
+    private final XLogger logger = new XLogger(LoggerFactory.getLogger(this.getClass().getName()));
+
+    /** The Redisson client. */
+    private final RedissonClient client;
+
+    /** The key listing configuration. */
+    private final KeyListing keyListing;
+
+    /** The pool that values are decoded on. */
+    private final Executor decoders;
+
+    /** The codec that values are decoded with. */
+    private final Codec codec;
+
+    /** The prefixes of keys whose values are plain strings. */
+    private final List<String> stringPrefixes;
+
+    /**
+     * The constructor.
+     *
+     * @param   client      org.redisson.api.RedissonClient
+     * @param   keyListing  net.jmp.demo.redis.config.KeyListing
+     */
+    KeyspaceReader(final RedissonClient client, final KeyListing keyListing) {
+        this(client, keyListing, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * A constructor that takes the decoder pool.
+     *
+     * @param   client      org.redisson.api.RedissonClient
+     * @param   keyListing  net.jmp.demo.redis.config.KeyListing
+     * @param   decoders    java.util.concurrent.Executor
+     */
+    KeyspaceReader(final RedissonClient client, final KeyListing keyListing, final Executor decoders) {
+        super();
+
+        assert client != null;
+        assert keyListing != null;
+        assert keyListing.getCount() > 0;
+        assert keyListing.getWindowSize() > 0;
+        assert decoders != null;
+
+        this.client = client;
+        this.keyListing = keyListing;
+        this.decoders = decoders;
+        this.codec = client.getConfig().getCodec();
+        this.stringPrefixes = keyListing.getStringPrefixes() != null ? List.copyOf(keyListing.getStringPrefixes()) : List.of();
+    }
+
+    /**
+     * Read the string values of the matching keys and pass
+     * each key and decoded value to the consumer, which may
+     * be called from several threads at once. Return the keys
+     * that matched but hold no string value.
+     *
+     * @param   consumer    java.util.function.BiConsumer&lt;java.lang.String, java.lang.Object&gt;
+     * @return              java.util.List&lt;java.lang.String&gt;
+     * @throws              java.lang.InterruptedException
+     */
+    List<String> read(final BiConsumer<String, Object> consumer) throws InterruptedException {
+        this.logger.entry(consumer);
+
+        assert consumer != null;
+
+        final int count = this.keyListing.getCount();
+        final String excludePrefix = this.keyListing.getExcludePrefix();
+        final RBuckets buckets = this.client.getBuckets(ByteArrayCodec.INSTANCE);
+        final BatchWindow window = new BatchWindow(this.keyListing.getWindowSize());
+        final Queue<String> others = new ConcurrentLinkedQueue<>();
+        final LongAdder values = new LongAdder();
+        final Iterator<String> keys = this.client.getKeys().getKeysByPattern(this.keyListing.getPattern(), count).iterator();
+
+        int pages = 0;
+
+        while (keys.hasNext()) {
+            final List<String> page = new ArrayList<>(count);
+
+            while (keys.hasNext() && page.size() < count) {
+                final String key = keys.next();
+
+                if (excludePrefix == null || excludePrefix.isEmpty() || !key.startsWith(excludePrefix)) {
+                    page.add(key);
+                } else {
+                    this.logger.debug("Ignoring key '{}'", key);
+                }
+            }
+
+            if (page.isEmpty()) {
+                continue;
+            }
+
+            final String[] names = page.toArray(new String[0]);
+
+            window.submit(() -> buckets.<byte[]>getAsync(names)
+                    .thenAcceptAsync(fetched -> {
+                        this.decode(names, fetched, consumer, others);
+                        values.add(fetched.size());
+                    }, this.decoders));
+
+            pages++;
+        }
+
+        window.await();
+
+        if (this.logger.isDebugEnabled()) {
+            this.logger.debug("Read {} string values in {} pages; {} other keys", values.sum(), pages, others.size());
+        }
+
+        if (window.getFailures() > 0) {
+            this.logger.warn("{} MGET page(s) failed", window.getFailures());
+        }
+
+        final List<String> result = new ArrayList<>(others);
+
+        this.logger.exit(result);
+
+        return result;
+    }
+
+    /**
+     * Decode one fetched page.
+     *
+     * @param   names       java.lang.String[]
+     * @param   fetched     java.util.Map&lt;java.lang.String, byte[]&gt;
+     * @param   consumer    java.util.function.BiConsumer&lt;java.lang.String, java.lang.Object&gt;
+     * @param   others      java.util.Queue&lt;java.lang.String&gt;
+     */
+    private void decode(final String[] names,
+                        final Map<String, byte[]> fetched,
+                        final BiConsumer<String, Object> consumer,
+                        final Queue<String> others) {
+        for (final String name : names) {
+            final byte[] raw = fetched.get(name);
+
+            if (raw == null) {
+                others.add(name);       // Not a string, or it expired since the scan
+            } else {
+                try {
+                    consumer.accept(name, this.decode(name, raw));
+                } catch (final IOException ioe) {
+                    this.logger.warn("Value of key '{}' could not be decoded: {}", name, ioe.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Decode a value: as a string if its key has
+     * a string prefix, else with the client codec.
+     *
+     * @param   name    java.lang.String
+     * @param   raw     byte[]
+     * @return          java.lang.Object
+     * @throws          java.io.IOException
+     */
+    private Object decode(final String name, final byte[] raw) throws IOException {
+        for (final String prefix : this.stringPrefixes) {
+            if (name.startsWith(prefix)) {
+                return new String(raw, StandardCharsets.UTF_8);
+            }
+        }
+
+        final ByteBuf buffer = Unpooled.wrappedBuffer(raw);
+
+        try {
+            return this.codec.getValueDecoder().decode(buffer, null);
+        } catch (final RuntimeException re) {
+            throw new IOException(re);
+        } finally {
+            buffer.release();
+        }
+    }
+}
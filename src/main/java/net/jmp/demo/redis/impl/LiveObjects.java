@@ -1,12 +1,13 @@
 package net.jmp.demo.redis.impl;
 
 /*
+ * (#)LiveObjects.java 0.12.0  10/17/2026
  * (#)LiveObjects.java 0.8.0   06/14/2024
  * (#)LiveObjects.java 0.7.0   05/24/2024
  * (#)LiveObjects.java 0.6.0   05/23/2024
  *
  * @author   Jonathan Parker
- * @version  0.8.0
+ * @version  0.12.0
  * @since    0.6.0
  *
  * MIT License
@@ -64,6 +65,9 @@ public class LiveObjects extends Demo  {
     /** The Redisson live object service. */
     private final RLiveObjectService service;
 
+    /** The generator of the live object identifiers. */
+    private final KeyIdGenerator idGenerator;
+
     /**
      * The constructor that takes
      * the application configuration.
@@ -75,6 +79,7 @@ public class LiveObjects extends Demo  {
         super(config, client);
 
         this.service = client.getLiveObjectService();
+        this.idGenerator = KeyIdGenerator.create(config.getKeyIds(), client);
     }
 
     /**
@@ -109,7 +114,7 @@ public class LiveObjects extends Demo  {
     private Recording persist() {
         this.logger.entry();
 
-        final String id = UUID.randomUUID().toString();
+        final String id = this.idGenerator.nextId();
         final Recording detachedRecording = new Recording();  // This is a detached object
 
         detachedRecording.setId(id);
@@ -172,7 +177,7 @@ public class LiveObjects extends Demo  {
     private Recording attach() {
         this.logger.entry();
 
-        final String id = UUID.randomUUID().toString();
+        final String id = this.idGenerator.nextId();
         final Recording detachedRecording = new Recording();  // This is a detached object
 
         detachedRecording.setId(id);
@@ -0,0 +1,845 @@
+package net.jmp.demo.redis.impl;
+
+/*
+ * (#)MappedRecordReader.java   0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.IOException;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import java.nio.channels.FileChannel;
+
+import java.nio.charset.StandardCharsets;
+
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.LoggerFactory;
+
+import org.slf4j.ext.XLogger;
+
+/**
+ * A reader of key and value records from a memory-mapped
+ * NDJSON, CSV or TSV file. The whole file is mapped as one
+ * memory segment, so files larger than 2 GB need no
+ * remapping, and the records are parsed straight from the
+ * mapped bytes. Only the key and the value of each record
+ * become strings; field names are matched as bytes and other
+ * fields are skipped without decoding. The offset after
+ * each record is available, so a reader can be positioned
+ * to resume after the last record that was imported.
+ * A record whose key is empty, or whose key or value is
+ * a JSON null, is skipped and counted with the malformed
+ * and incomplete ones. The reader is confined to the
+ * thread that created it.
+ */
+final class MappedRecordReader implements AutoCloseable {
+    /** The record formats. */
+    enum Format {
+        /** One JSON object per line. */
+        NDJSON,
+
+        /** Comma-separated values with RFC 4180 quoting. */
+        CSV,
+
+        /** Tab-separated values without quoting. */
+        TSV;
+
+        /**
+         * Return the format with the specified name.
+         *
+         * @param   name    java.lang.String
+         * @return          net.jmp.demo.redis.impl.MappedRecordReader.Format
+         */
+        static Format of(final String name) {
+            return valueOf(name.trim().toUpperCase());
+        }
+    }
+
+    /** The logger. */
+    private final XLogger logger = new XLogger(LoggerFactory.getLogger(this.getClass().getName()));
+
+    /** A malformed record. */
+    private static final long MALFORMED = -1;
+
+    /** The arena that owns the mapping. */
+    private final Arena arena;
+
+    /** The mapped file. */
+    private final MemorySegment segment;
+
+    /** The size of the file. */
+    private final long size;
+
+    /** The record format. */
+    private final Format format;
+
+    /** The JSON key field name as UTF-8. */
+    private final MemorySegment keyName;
+
+    /** The JSON value field name as UTF-8. */
+    private final MemorySegment valueName;
+
+    /** The key column of a delimited record. */
+    private int keyColumn;
+
+    /** The value column of a delimited record. */
+    private int valueColumn;
+
+    /** The offset where the data records start. */
+    private long dataStart;
+
+    /** The offset of the next record. */
+    private long position;
+
+    /** A scratch buffer for decoding. */
+    private byte[] scratch = new byte[256];
+
+    /** The number of bytes in the scratch buffer. */
+    private int scratchLength;
+
+    /** The key of the current record. */
+    private String key;
+
+    /** The value of the current record. */
+    private String value;
+
+    /** The number of records skipped as malformed, incomplete, null-valued or with an empty key. */
+    private long skipped;
+
+    /**
+     * The constructor. For CSV and TSV files with a header the
+     * key and value fields are column names; without a header
+     * they are zero-based column numbers. The two fields
+     * must differ.
+     *
+     * @param   file        java.nio.file.Path
+     * @param   format      net.jmp.demo.redis.impl.MappedRecordReader.Format
+     * @param   keyField    java.lang.String
+     * @param   valueField  java.lang.String
+     * @param   header      boolean
+     * @throws              java.io.IOException
+     */
+    MappedRecordReader(final Path file,
+                       final Format format,
+                       final String keyField,
+                       final String valueField,
+                       final boolean header) throws IOException {
+        super();
+
+        assert file != null;
+        assert format != null;
+        assert keyField != null;
+        assert valueField != null;
+
+        if (keyField.equals(valueField)) {
+            throw new IOException("The key and value fields are both '" + keyField + "'");
+        }
+
+        this.format = format;
+        this.keyName = MemorySegment.ofArray(keyField.getBytes(StandardCharsets.UTF_8));
+        this.valueName = MemorySegment.ofArray(valueField.getBytes(StandardCharsets.UTF_8));
+        this.arena = Arena.ofConfined();
+
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            this.size = channel.size();
+            this.segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, this.size, this.arena);
+        } catch (final IOException | RuntimeException e) {
+            this.arena.close();
+
+            throw e;
+        }
+
+        if (format != Format.NDJSON) {
+            try {
+                this.resolveColumns(keyField, valueField, header);
+            } catch (final IOException | RuntimeException e) {
+                this.arena.close();
+
+                throw e;
+            }
+        }
+
+        this.position = this.dataStart;
+    }
+
+    /**
+     * Resolve the key and value columns, from
+     * the header when there is one.
+     *
+     * @param   keyField    java.lang.String
+     * @param   valueField  java.lang.String
+     * @param   header      boolean
+     * @throws              java.io.IOException
+     */
+    private void resolveColumns(final String keyField, final String valueField, final boolean header) throws IOException {
+        if (header) {
+            final List<String> names = new ArrayList<>();
+
+            this.dataStart = this.parseDelimited(0, names);
+            this.keyColumn = names.indexOf(keyField);
+            this.valueColumn = names.indexOf(valueField);
+
+            if (this.keyColumn < 0 || this.valueColumn < 0) {
+                throw new IOException("The header " + names + " does not name both '" + keyField + "' and '" + valueField + "'");
+            }
+        } else {
+            try {
+                this.keyColumn = Integer.parseInt(keyField);
+                this.valueColumn = Integer.parseInt(valueField);
+            } catch (final NumberFormatException nfe) {
+                throw new IOException("Without a header the key and value fields must be column numbers", nfe);
+            }
+        }
+    }
+
+    /**
+     * Position the reader at the specified offset, which must
+     * be the start of a record. An offset before the first data
+     * record, such as zero for a file with a header, starts at
+     * the first data record.
+     *
+     * @param   offset  long
+     */
+    void position(final long offset) {
+        assert offset >= 0 && offset <= this.size;
+
+        this.position = Math.max(offset, this.dataStart);
+    }
+
+    /**
+     * Advance to the next complete record. Return
+     * false when the end of the file is reached.
+     *
+     * @return  boolean
+     */
+    boolean next() {
+        while (this.position < this.size) {
+            this.key = null;
+            this.value = null;
+
+            final long end = this.format == Format.NDJSON
+                    ? this.parseJsonLine(this.position)
+                    : this.parseDelimited(this.position, null);
+
+            if (end == MALFORMED) {
+                this.skipped++;
+                this.position = this.lineEnd(this.position);
+
+                if (this.logger.isTraceEnabled()) {
+                    this.logger.trace("Skipped a malformed or null-valued record ending at offset {}", this.position);
+                }
+
+                continue;
+            }
+
+            this.position = end;
+
+            if (this.key != null && this.value != null && !this.key.isEmpty()) {
+                return true;
+            }
+
+            if (this.key != null || this.value != null) {
+                this.skipped++;       // A record without both fields or with an empty key; blank lines are not counted
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Return the key of the current record.
+     *
+     * @return  java.lang.String
+     */
+    String getKey() {
+        return this.key;
+    }
+
+    /**
+     * Return the value of the current record.
+     *
+     * @return  java.lang.String
+     */
+    String getValue() {
+        return this.value;
+    }
+
+    /**
+     * Return the offset just past the current
+     * record, where the next record starts.
+     *
+     * @return  long
+     */
+    long getOffset() {
+        return this.position;
+    }
+
+    /**
+     * Return the size of the file.
+     *
+     * @return  long
+     */
+    long getSize() {
+        return this.size;
+    }
+
+    /**
+     * Return the number of records skipped as
+     * malformed, incomplete, null-valued or with
+     * an empty key.
+     *
+     * @return  long
+     */
+    long getSkipped() {
+        return this.skipped;
+    }
+
+    /**
+     * Unmap the file.
+     */
+    @Override
+    public void close() {
+        this.arena.close();
+    }
+
+    /**
+     * Parse one CSV or TSV record starting at the specified
+     * offset and return the offset of the next record. When
+     * names is not null every field is added to it, otherwise
+     * only the key and value columns are decoded.
+     *
+     * @param   start   long
+     * @param   names   java.util.List&lt;java.lang.String&gt;
+     * @return          long
+     */
+    private long parseDelimited(final long start, final List<String> names) {
+        final byte delimiter = this.format == Format.CSV ? (byte) ',' : (byte) '\t';
+
+        long pos = start;
+        int column = 0;
+
+        while (true) {
+            final boolean wanted = names != null || column == this.keyColumn || column == this.valueColumn;
+
+            String field = null;
+
+            if (this.format == Format.CSV && pos < this.size && this.byteAt(pos) == '"') {
+                pos = this.readQuoted(pos + 1, wanted);
+
+                if (wanted) {
+                    field = new String(this.scratch, 0, this.scratchLength, StandardCharsets.UTF_8);
+                }
+
+                while (pos < this.size && !this.isFieldEnd(this.byteAt(pos), delimiter)) {
+                    pos++;      // Tolerate stray characters after the closing quote
+                }
+            } else {
+                final long fieldStart = pos;
+
+                while (pos < this.size && !this.isFieldEnd(this.byteAt(pos), delimiter)) {
+                    pos++;
+                }
+
+                if (wanted) {
+                    field = this.decode(fieldStart, pos);
+                }
+            }
+
+            if (names != null) {
+                names.add(field);
+            } else if (column == this.keyColumn) {
+                this.key = field;
+            } else if (column == this.valueColumn) {
+                this.value = field;
+            }
+
+            if (pos >= this.size) {
+                return pos;
+            }
+
+            final byte b = this.byteAt(pos++);
+
+            if (b == delimiter) {
+                column++;
+            } else {
+                if (b == '\r' && pos < this.size && this.byteAt(pos) == '\n') {
+                    pos++;
+                }
+
+                if (column == 0 && names == null && this.isFieldEnd(this.byteAt(start), delimiter)) {
+                    this.key = null;    // A blank line is not a record
+                    this.value = null;
+                }
+
+                return pos;
+            }
+        }
+    }
+
+    /**
+     * Read a quoted CSV field into the scratch buffer,
+     * starting just past the opening quote, and return
+     * the offset just past the closing quote.
+     *
+     * @param   start   long
+     * @param   wanted  boolean
+     * @return          long
+     */
+    private long readQuoted(final long start, final boolean wanted) {
+        long pos = start;
+
+        this.scratchLength = 0;
+
+        while (pos < this.size) {
+            final byte b = this.byteAt(pos++);
+
+            if (b == '"') {
+                if (pos < this.size && this.byteAt(pos) == '"') {
+                    pos++;      // An escaped quote
+                } else {
+                    return pos;
+                }
+            }
+
+            if (wanted) {
+                this.append(b);
+            }
+        }
+
+        return pos;
+    }
+
+    /**
+     * Parse one NDJSON line starting at the specified offset
+     * and return the offset of the next line, or MALFORMED.
+     * Only top-level fields are matched. A string value is
+     * unescaped and any other value is kept as its JSON text.
+     *
+     * @param   start   long
+     * @return          long
+     */
+    private long parseJsonLine(final long start) {
+        final long end = this.lineEnd(start);
+
+        long pos = this.skipWhitespace(start, end);
+
+        if (pos == end) {
+            return end;         // A blank line
+        }
+
+        if (this.byteAt(pos) != '{') {
+            return MALFORMED;
+        }
+
+        pos = this.skipWhitespace(pos + 1, end);
+
+        if (pos < end && this.byteAt(pos) == '}') {
+            return end;
+        }
+
+        while (pos < end) {
+            if (this.byteAt(pos) != '"') {
+                return MALFORMED;
+            }
+
+            final long nameStart = pos + 1;
+            final long nameEnd = this.stringEnd(nameStart, end);
+
+            if (nameEnd == MALFORMED) {
+                return MALFORMED;
+            }
+
+            final boolean isKey = this.nameEquals(nameStart, nameEnd, this.keyName);
+            final boolean isValue = !isKey && this.nameEquals(nameStart, nameEnd, this.valueName);
+
+            pos = this.skipWhitespace(nameEnd + 1, end);
+
+            if (pos >= end || this.byteAt(pos) != ':') {
+                return MALFORMED;
+            }
+
+            pos = this.skipWhitespace(pos + 1, end);
+
+            if (pos >= end) {
+                return MALFORMED;
+            }
+
+            final long valueEnd;
+            String field = null;
+
+            if (this.byteAt(pos) == '"') {
+                valueEnd = this.stringEnd(pos + 1, end);
+
+                if (valueEnd == MALFORMED) {
+                    return MALFORMED;
+                }
+
+                if (isKey || isValue) {
+                    field = this.unescape(pos + 1, valueEnd);
+                }
+
+                pos = valueEnd + 1;
+            } else {
+                valueEnd = this.skipJsonValue(pos, end);
+
+                if (valueEnd == MALFORMED) {
+                    return MALFORMED;
+                }
+
+                if (isKey || isValue) {
+                    field = this.decode(pos, valueEnd).strip();
+
+                    if (field.equals("null")) {
+                        return MALFORMED;       // A null is no key or value, not the string "null"
+                    }
+                }
+
+                pos = valueEnd;
+            }
+
+            if (isKey) {
+                this.key = field;
+            } else if (isValue) {
+                this.value = field;
+            }
+
+            pos = this.skipWhitespace(pos, end);
+
+            if (pos >= end) {
+                return MALFORMED;
+            }
+
+            final byte b = this.byteAt(pos);
+
+            if (b == '}') {
+                return end;
+            }
+
+            if (b != ',') {
+                return MALFORMED;
+            }
+
+            pos = this.skipWhitespace(pos + 1, end);
+        }
+
+        return MALFORMED;
+    }
+
+    /**
+     * Return the offset of the closing quote of the JSON
+     * string that starts at the specified offset, or MALFORMED.
+     *
+     * @param   start   long
+     * @param   end     long
+     * @return          long
+     */
+    private long stringEnd(final long start, final long end) {
+        long pos = start;
+
+        while (pos < end) {
+            final byte b = this.byteAt(pos);
+
+            if (b == '"') {
+                return pos;
+            }
+
+            pos += b == '\\' ? 2 : 1;
+        }
+
+        return MALFORMED;
+    }
+
+    /**
+     * Return the offset just past the non-string JSON
+     * value that starts at the specified offset.
+     *
+     * @param   start   long
+     * @param   end     long
+     * @return          long
+     */
+    private long skipJsonValue(final long start, final long end) {
+        long pos = start;
+        int depth = 0;
+
+        while (pos < end) {
+            final byte b = this.byteAt(pos);
+
+            if (b == '"') {
+                pos = this.stringEnd(pos + 1, end);
+
+                if (pos == MALFORMED) {
+                    return MALFORMED;
+                }
+            } else if (b == '{' || b == '[') {
+                depth++;
+            } else if (b == '}' || b == ']') {
+                if (depth == 0) {
+                    return pos;
+                }
+
+                depth--;
+            } else if (b == ',' && depth == 0) {
+                return pos;
+            }
+
+            pos++;
+        }
+
+        return depth == 0 ? pos : MALFORMED;
+    }
+
+    /**
+     * Return true if the field name between the specified
+     * offsets is the specified name. Escaped names are
+     * compared after unescaping.
+     *
+     * @param   start   long
+     * @param   end     long
+     * @param   name    java.lang.foreign.MemorySegment
+     * @return          boolean
+     */
+    private boolean nameEquals(final long start, final long end, final MemorySegment name) {
+        if (this.indexOf((byte) '\\', start, end) >= 0) {
+            return this.unescape(start, end).equals(new String(name.toArray(ValueLayout.JAVA_BYTE), StandardCharsets.UTF_8));
+        }
+
+        return MemorySegment.mismatch(this.segment, start, end, name, 0, name.byteSize()) == -1;
+    }
+
+    /**
+     * Decode the JSON string between the specified offsets,
+     * resolving any escape sequences.
+     *
+     * @param   start   long
+     * @param   end     long
+     * @return          java.lang.String
+     */
+    private String unescape(final long start, final long end) {
+        long escape = this.indexOf((byte) '\\', start, end);
+
+        if (escape < 0) {
+            return this.decode(start, end);
+        }
+
+        final StringBuilder sb = new StringBuilder((int) (end - start));
+
+        long pos = start;
+
+        while (escape >= 0) {
+            sb.append(this.decode(pos, escape));
+
+            final byte b = this.byteAt(escape + 1);
+
+            pos = escape + 2;
+
+            switch (b) {
+                case 'b' -> sb.append('\b');
+                case 'f' -> sb.append('\f');
+                case 'n' -> sb.append('\n');
+                case 'r' -> sb.append('\r');
+                case 't' -> sb.append('\t');
+                case 'u' -> {
+                    final int code = this.hex(pos, end);
+
+                    if (code >= 0) {
+                        sb.append((char) code);
+                        pos += 4;
+                    } else {
+                        sb.append('u');
+                    }
+                }
+                default -> sb.append((char) b);
+            }
+
+            escape = this.indexOf((byte) '\\', pos, end);
+        }
+
+        sb.append(this.decode(pos, end));
+
+        return sb.toString();
+    }
+
+    /**
+     * Return the value of the four hexadecimal digits at
+     * the specified offset, or -1 if they are not valid.
+     *
+     * @param   start   long
+     * @param   end     long
+     * @return          int
+     */
+    private int hex(final long start, final long end) {
+        if (start + 4 > end) {
+            return -1;
+        }
+
+        int code = 0;
+
+        for (long pos = start; pos < start + 4; pos++) {
+            final int digit = Character.digit(this.byteAt(pos), 16);
+
+            if (digit < 0) {
+                return -1;
+            }
+
+            code = (code << 4) | digit;
+        }
+
+        return code;
+    }
+
+    /**
+     * Decode the UTF-8 bytes between the specified offsets.
+     *
+     * @param   start   long
+     * @param   end     long
+     * @return          java.lang.String
+     */
+    private String decode(final long start, final long end) {
+        final int length = (int) (end - start);
+
+        if (length <= 0) {
+            return "";
+        }
+
+        this.ensureScratch(length);
+
+        MemorySegment.copy(this.segment, ValueLayout.JAVA_BYTE, start, this.scratch, 0, length);
+
+        return new String(this.scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Append a byte to the scratch buffer.
+     *
+     * @param   b   byte
+     */
+    private void append(final byte b) {
+        this.ensureScratch(this.scratchLength + 1);
+        this.scratch[this.scratchLength++] = b;
+    }
+
+    /**
+     * Grow the scratch buffer to at least the specified capacity.
+     *
+     * @param   capacity    int
+     */
+    private void ensureScratch(final int capacity) {
+        if (capacity > this.scratch.length) {
+            final byte[] grown = new byte[Math.max(capacity, this.scratch.length * 2)];
+
+            System.arraycopy(this.scratch, 0, grown, 0, this.scratchLength);
+
+            this.scratch = grown;
+        }
+    }
+
+    /**
+     * Return the offset just past the end of the
+     * line that contains the specified offset.
+     *
+     * @param   start   long
+     * @return          long
+     */
+    private long lineEnd(final long start) {
+        final long newline = this.indexOf((byte) '\n', start, this.size);
+
+        return newline < 0 ? this.size : newline + 1;
+    }
+
+    /**
+     * Return the offset of the first whitespace-free
+     * byte at or after the specified offset.
+     *
+     * @param   start   long
+     * @param   end     long
+     * @return          long
+     */
+    private long skipWhitespace(final long start, final long end) {
+        long pos = start;
+
+        while (pos < end) {
+            final byte b = this.byteAt(pos);
+
+            if (b != ' ' && b != '\t' && b != '\r' && b != '\n') {
+                break;
+            }
+
+            pos++;
+        }
+
+        return pos;
+    }
+
+    /**
+     * Return the offset of the specified byte
+     * between the offsets, or -1 if it is absent.
+     *
+     * @param   target  byte
+     * @param   start   long
+     * @param   end     long
+     * @return          long
+     */
+    private long indexOf(final byte target, final long start, final long end) {
+        for (long pos = start; pos < end; pos++) {
+            if (this.byteAt(pos) == target) {
+                return pos;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Return true if the byte ends a delimited field.
+     *
+     * @param   b           byte
+     * @param   delimiter   byte
+     * @return              boolean
+     */
+    private boolean isFieldEnd(final byte b, final byte delimiter) {
+        return b == delimiter || b == '\n' || b == '\r';
+    }
+
+    /**
+     * Return the byte at the specified offset.
+     *
+     * @param   offset  long
+     * @return          byte
+     */
+    private byte byteAt(final long offset) {
+        return this.segment.get(ValueLayout.JAVA_BYTE, offset);
+    }
+}
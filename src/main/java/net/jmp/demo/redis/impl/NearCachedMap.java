@@ -0,0 +1,207 @@
+package net.jmp.demo.redis.impl;
+
+/*
+ * (#)NearCachedMap.java    0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.time.Duration;
+
+import java.util.Map;
+import java.util.Set;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import net.jmp.demo.redis.config.NearCache;
+
+import org.redisson.api.RLocalCachedMap;
+import org.redisson.api.RedissonClient;
+
+import org.redisson.api.options.LocalCachedMapOptions;
+import org.redisson.api.options.LocalCachedMapOptions.EvictionPolicy;
+import org.redisson.api.options.LocalCachedMapOptions.ReconnectionStrategy;
+import org.redisson.api.options.LocalCachedMapOptions.SyncStrategy;
+
+import org.redisson.client.codec.Codec;
+
+import org.slf4j.LoggerFactory;
+
+import org.slf4j.ext.XLogger;
+
+/**
+ * A map read through a near cache. Entries are kept in
+ * a local cache in front of the Redis hash, so repeated
+ * reads are served from the heap. Changes made by any
+ * client are published on a topic, and every near cache
+ * either drops or replaces its copy as the sync strategy
+ * directs. After a reconnect, when updates may have been
+ * missed, the reconnection strategy clears the local
+ * cache, reloads it or leaves it alone. Hits and misses
+ * of the local cache are counted on each read.
+ *
+ * @param   <K> The type of key
+ * @param   <V> The type of value
+ */
+final class NearCachedMap<K, V> {
+    /** The logger. */
+    private final XLogger logger = new XLogger(LoggerFactory.getLogger(this.getClass().getName()));
+
+    /** The locally cached map. */
+    private final RLocalCachedMap<K, V> map;
+
+    /** The number of reads served by the local cache. */
+    private final LongAdder hits = new LongAdder();
+
+    /** The number of reads that went to Redis. */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * The constructor.
+     *
+     * @param   client      org.redisson.api.RedissonClient
+     * @param   nearCache   net.jmp.demo.redis.config.NearCache
+     * @param   codec       org.redisson.client.codec.Codec
+     */
+    NearCachedMap(final RedissonClient client, final NearCache nearCache, final Codec codec) {
+        super();
+
+        assert client != null;
+        assert nearCache != null;
+        assert codec != null;
+
+        final LocalCachedMapOptions<K, V> options = LocalCachedMapOptions.<K, V>name(nearCache.getName())
+                .codec(codec)
+                .cacheSize(nearCache.getCacheSize())
+                .evictionPolicy(EvictionPolicy.valueOf(nearCache.getEvictionPolicy().toUpperCase()))
+                .timeToLive(Duration.ofMillis(nearCache.getTimeToLive()))
+                .maxIdle(Duration.ofMillis(nearCache.getMaxIdle()))
+                .syncStrategy(SyncStrategy.valueOf(nearCache.getSyncStrategy().toUpperCase()))
+                .reconnectionStrategy(ReconnectionStrategy.valueOf(nearCache.getReconnectionStrategy().toUpperCase()));
+
+        this.map = client.getLocalCachedMap(options);
+
+        this.logger.debug("Near cache '{}': {}", nearCache.getName(), nearCache);
+    }
+
+    /**
+     * Return the value of the key, from the
+     * local cache if it holds the key.
+     *
+     * @param   key K
+     * @return      V
+     */
+    V get(final K key) {
+        if (this.map.getCachedMap().containsKey(key)) {
+            this.hits.increment();
+        } else {
+            this.misses.increment();
+        }
+
+        return this.map.get(key);
+    }
+
+    /**
+     * Return the values of the keys. Keys missing
+     * from the local cache are fetched in one call.
+     *
+     * @param   keys    java.util.Set&lt;K&gt;
+     * @return          java.util.Map&lt;K, V&gt;
+     */
+    Map<K, V> getAll(final Set<K> keys) {
+        final Map<K, V> cached = this.map.getCachedMap();
+
+        for (final K key : keys) {
+            if (cached.containsKey(key)) {
+                this.hits.increment();
+            } else {
+                this.misses.increment();
+            }
+        }
+
+        return this.map.getAll(keys);
+    }
+
+    /**
+     * Put the value of the key, in Redis and locally.
+     *
+     * @param   key     K
+     * @param   value   V
+     */
+    void put(final K key, final V value) {
+        this.map.fastPut(key, value);
+    }
+
+    /**
+     * Return the number of local cache hits.
+     *
+     * @return  long
+     */
+    long getHits() {
+        return this.hits.sum();
+    }
+
+    /**
+     * Return the number of local cache misses.
+     *
+     * @return  long
+     */
+    long getMisses() {
+        return this.misses.sum();
+    }
+
+    /**
+     * Return the fraction of reads served by
+     * the local cache; zero before any read.
+     *
+     * @return  double
+     */
+    double getHitRatio() {
+        final long hitCount = this.hits.sum();
+        final long total = hitCount + this.misses.sum();
+
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    /**
+     * Return the locally cached map.
+     *
+     * @return  org.redisson.api.RLocalCachedMap&lt;K, V&gt;
+     */
+    RLocalCachedMap<K, V> getMap() {
+        return this.map;
+    }
+
+    /**
+     * Delete the map in Redis and release the local
+     * cache and its invalidation listener.
+     */
+    void destroy() {
+        this.map.delete();
+        this.map.destroy();
+    }
+}
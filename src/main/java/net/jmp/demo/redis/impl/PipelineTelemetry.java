@@ -0,0 +1,416 @@
+package net.jmp.demo.redis.impl;
+
+/*
+ * (#)PipelineTelemetry.java    0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import org.slf4j.LoggerFactory;
+
+import org.slf4j.ext.XLogger;
+
+/**
+ * Latency and throughput telemetry for one pipelined
+ * operation. Batch latencies are recorded in nanoseconds
+ * into HdrHistogram recorders, which are wait-free for the
+ * Netty threads that complete the batches.
+ *
+ * <p>Each batch has three times: when it was ready to be
+ * sent, when it was sent and when it completed. The
+ * response time runs from when it was ready, so that time
+ * spent waiting for a slot in the window is not omitted
+ * (coordinated omission); the service time runs from when
+ * it was sent. A large gap between the two points at the
+ * client, while a large service time points at the network
+ * or the server. The command time is the service time
+ * amortized over the commands in the batch.
+ *
+ * <p>A snapshot can be taken at any time while the
+ * operation runs, and the totals are dumped on close.
+ */
+final class PipelineTelemetry implements AutoCloseable {
+    /** The logger. */
+    private final XLogger logger = new XLogger(LoggerFactory.getLogger(this.getClass().getName()));
+
+    /** The number of significant value digits. */
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    /** The name of the operation. */
+    private final String operation;
+
+    /** The start time in nanoseconds. */
+    private final long startTime = System.nanoTime();
+
+    /** The response time recorder. */
+    private final Recorder responseRecorder = new Recorder(SIGNIFICANT_DIGITS);
+
+    /** The service time recorder. */
+    private final Recorder serviceRecorder = new Recorder(SIGNIFICANT_DIGITS);
+
+    /** The per-command time recorder. */
+    private final Recorder commandRecorder = new Recorder(SIGNIFICANT_DIGITS);
+
+    /** The in-flight depth recorder, sampled as each batch is sent. */
+    private final Recorder depthRecorder = new Recorder(SIGNIFICANT_DIGITS);
+
+    /** The accumulated response times. */
+    private final Histogram responseTotal = new Histogram(SIGNIFICANT_DIGITS);
+
+    /** The accumulated service times. */
+    private final Histogram serviceTotal = new Histogram(SIGNIFICANT_DIGITS);
+
+    /** The accumulated command times. */
+    private final Histogram commandTotal = new Histogram(SIGNIFICANT_DIGITS);
+
+    /** The accumulated in-flight depths. */
+    private final Histogram depthTotal = new Histogram(SIGNIFICANT_DIGITS);
+
+    /** The number of batches in flight. */
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /** The number of completed batches. */
+    private final LongAdder batches = new LongAdder();
+
+    /** The number of failed batches. */
+    private final LongAdder failures = new LongAdder();
+
+    /** The number of items in completed batches. */
+    private final LongAdder items = new LongAdder();
+
+    /** The number of UTF-8 encoded payload bytes in completed batches. */
+    private final LongAdder bytes = new LongAdder();
+
+    /** The periodic reporter; null when not reporting. */
+    private ScheduledExecutorService reporter;
+
+    /**
+     * The constructor.
+     *
+     * @param   operation   java.lang.String
+     */
+    PipelineTelemetry(final String operation) {
+        super();
+
+        assert operation != null;
+
+        this.operation = operation;
+    }
+
+    /**
+     * Log a snapshot at the specified interval
+     * until the telemetry is closed.
+     *
+     * @param   intervalMillis  long
+     */
+    void startReporting(final long intervalMillis) {
+        assert intervalMillis > 0;
+        assert this.reporter == null;
+
+        this.reporter = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name(this.operation + "-telemetry").factory());
+        this.reporter.scheduleAtFixedRate(
+                () -> this.logger.info("{}", this.snapshot()),
+                intervalMillis,
+                intervalMillis,
+                TimeUnit.MILLISECONDS
+        );
+    }
+
+    /**
+     * Mark a batch as sent and return the send
+     * time. Call this as the batch is executed.
+     *
+     * @return  long
+     */
+    long sent() {
+        this.depthRecorder.recordValue(this.inFlight.incrementAndGet());
+
+        return System.nanoTime();
+    }
+
+    /**
+     * Record a completed batch. The times are from
+     * System.nanoTime; the ready time is taken before
+     * waiting for a slot in the window.
+     *
+     * @param   readyTime   long
+     * @param   sentTime    long
+     * @param   items       int
+     * @param   commands    int
+     * @param   bytes       long
+     * @param   exception   java.lang.Throwable
+     */
+    void completed(final long readyTime,
+                   final long sentTime,
+                   final int items,
+                   final int commands,
+                   final long bytes,
+                   final Throwable exception) {
+        final long now = System.nanoTime();
+        final long service = Math.max(now - sentTime, 1);
+
+        this.inFlight.decrementAndGet();
+        this.responseRecorder.recordValue(Math.max(now - readyTime, 1));
+        this.serviceRecorder.recordValue(service);
+
+        if (commands > 0) {
+            this.commandRecorder.recordValueWithCount(Math.max(service / commands, 1), commands);
+        }
+
+        this.batches.increment();
+
+        if (exception != null) {
+            this.failures.increment();
+        } else {
+            this.items.add(items);
+            this.bytes.add(bytes);
+        }
+    }
+
+    /**
+     * Return a snapshot of the telemetry so far.
+     *
+     * @return  net.jmp.demo.redis.impl.PipelineTelemetry.Snapshot
+     */
+    synchronized Snapshot snapshot() {
+        this.responseTotal.add(this.responseRecorder.getIntervalHistogram());
+        this.serviceTotal.add(this.serviceRecorder.getIntervalHistogram());
+        this.commandTotal.add(this.commandRecorder.getIntervalHistogram());
+        this.depthTotal.add(this.depthRecorder.getIntervalHistogram());
+
+        final long elapsed = Math.max(System.nanoTime() - this.startTime, 1);
+        final double seconds = elapsed / 1_000_000_000.0;
+
+        return new Snapshot(
+                this.operation,
+                TimeUnit.NANOSECONDS.toMillis(elapsed),
+                this.batches.sum(),
+                this.failures.sum(),
+                this.items.sum(),
+                this.bytes.sum(),
+                this.items.sum() / seconds,
+                this.bytes.sum() / seconds,
+                this.inFlight.get(),
+                this.depthTotal.getMaxValue(),
+                Percentiles.of(this.responseTotal),
+                Percentiles.of(this.serviceTotal),
+                Percentiles.of(this.commandTotal)
+        );
+    }
+
+    /**
+     * Stop reporting and dump the totals: a summary
+     * at info and the response and service time
+     * distributions, in milliseconds, at debug.
+     */
+    @Override
+    public void close() {
+        if (this.reporter != null) {
+            this.reporter.shutdownNow();
+            this.reporter = null;
+        }
+
+        final Snapshot snapshot = this.snapshot();
+
+        if (this.logger.isInfoEnabled()) {
+            this.logger.info("{}", snapshot);
+        }
+
+        if (this.logger.isDebugEnabled()) {
+            synchronized (this) {
+                this.logger.debug("{} response time distribution (ms):\n{}", this.operation, toDistribution(this.responseTotal));
+                this.logger.debug("{} service time distribution (ms):\n{}", this.operation, toDistribution(this.serviceTotal));
+            }
+        }
+    }
+
+    /**
+     * Return the length of the string encoded as UTF-8,
+     * the payload bytes that it adds to a batch,
+     * without encoding it.
+     *
+     * @param   string  java.lang.String
+     * @return          int
+     */
+    static int utf8Length(final String string) {
+        final int length = string.length();
+
+        int bytes = length;
+
+        for (int i = 0; i < length; i++) {
+            final char c = string.charAt(i);
+
+            if (c >= 0x80 && c < 0x800) {
+                bytes++;
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(string.charAt(i + 1))) {
+                    bytes += 2;     // Four bytes for the two chars of the pair
+                    i++;
+                }                   // A lone surrogate is encoded as '?'
+            } else if (c >= 0x800) {
+                bytes += 2;
+            }
+        }
+
+        return bytes;
+    }
+
+    /**
+     * Return the percentile distribution of the
+     * histogram, scaled from nanoseconds to milliseconds.
+     *
+     * @param   histogram   org.HdrHistogram.Histogram
+     * @return              java.lang.String
+     */
+    private static String toDistribution(final Histogram histogram) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (final PrintStream printStream = new PrintStream(out, true, StandardCharsets.UTF_8)) {
+            histogram.outputPercentileDistribution(printStream, 5, 1_000_000.0);
+        }
+
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A point-in-time view of the telemetry. Rates
+     * are per second since the operation started.
+     *
+     * @param   operation       java.lang.String
+     * @param   elapsedMillis   long
+     * @param   batches         long
+     * @param   failures        long
+     * @param   items           long
+     * @param   bytes           long
+     * @param   itemsPerSecond  double
+     * @param   bytesPerSecond  double
+     * @param   inFlight        int
+     * @param   maxInFlight     long
+     * @param   response        net.jmp.demo.redis.impl.PipelineTelemetry.Percentiles
+     * @param   service         net.jmp.demo.redis.impl.PipelineTelemetry.Percentiles
+     * @param   command         net.jmp.demo.redis.impl.PipelineTelemetry.Percentiles
+     */
+    record Snapshot(String operation,
+                    long elapsedMillis,
+                    long batches,
+                    long failures,
+                    long items,
+                    long bytes,
+                    double itemsPerSecond,
+                    double bytesPerSecond,
+                    int inFlight,
+                    long maxInFlight,
+                    Percentiles response,
+                    Percentiles service,
+                    Percentiles command) {
+        /**
+         * The to-string method.
+         *
+         * @return  java.lang.String
+         */
+        @Override
+        public String toString() {
+            return String.format("%s: %d ms, %d batches (%d failed), %d items, %d bytes, %.0f items/s, %.0f bytes/s, in flight %d (max %d); response %s; service %s; command %s",
+                    this.operation,
+                    this.elapsedMillis,
+                    this.batches,
+                    this.failures,
+                    this.items,
+                    this.bytes,
+                    this.itemsPerSecond,
+                    this.bytesPerSecond,
+                    this.inFlight,
+                    this.maxInFlight,
+                    this.response,
+                    this.service,
+                    this.command);
+        }
+    }
+
+    /**
+     * Latency percentiles in nanoseconds.
+     *
+     * @param   count   long
+     * @param   mean    double
+     * @param   p50     long
+     * @param   p90     long
+     * @param   p99     long
+     * @param   p999    long
+     * @param   max     long
+     */
+    record Percentiles(long count, double mean, long p50, long p90, long p99, long p999, long max) {
+        /**
+         * Return the percentiles of the histogram.
+         *
+         * @param   histogram   org.HdrHistogram.Histogram
+         * @return              net.jmp.demo.redis.impl.PipelineTelemetry.Percentiles
+         */
+        static Percentiles of(final Histogram histogram) {
+            return new Percentiles(
+                    histogram.getTotalCount(),
+                    histogram.getMean(),
+                    histogram.getValueAtPercentile(50.0),
+                    histogram.getValueAtPercentile(90.0),
+                    histogram.getValueAtPercentile(99.0),
+                    histogram.getValueAtPercentile(99.9),
+                    histogram.getMaxValue()
+            );
+        }
+
+        /**
+         * The to-string method.
+         *
+         * @return  java.lang.String
+         */
+        @Override
+        public String toString() {
+            return String.format("n=%d mean=%.1fus p50=%.1fus p90=%.1fus p99=%.1fus p99.9=%.1fus max=%.1fus",
+                    this.count,
+                    this.mean / 1_000.0,
+                    this.p50 / 1_000.0,
+                    this.p90 / 1_000.0,
+                    this.p99 / 1_000.0,
+                    this.p999 / 1_000.0,
+                    this.max / 1_000.0);
+        }
+    }
+}
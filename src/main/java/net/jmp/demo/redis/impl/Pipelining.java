@@ -1,10 +1,11 @@
 package net.jmp.demo.redis.impl;
 
 /*
+ * (#)Pipelining.java   0.12.0  10/17/2026
  * (#)Pipelining.java   0.10.0  07/26/2024
  *
  * @author   Jonathan Parker
- * @version  0.10.0
+ * @version  0.12.0
  * @since    0.10.0
  *
  * MIT License
@@ -30,21 +31,46 @@ package net.jmp.demo.redis.impl;
  * SOFTWARE.
  */
 
+import java.io.IOException;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import java.util.function.Supplier;
 
 import net.jmp.demo.redis.api.Demo;
 
+import net.jmp.demo.redis.config.Adaptive;
 import net.jmp.demo.redis.config.Config;
+import net.jmp.demo.redis.config.Import;
+import net.jmp.demo.redis.config.Pipeline;
 
 import org.redisson.api.*;
 
+import org.redisson.client.codec.StringCodec;
+
 import org.slf4j.LoggerFactory;
 
 import org.slf4j.ext.XLogger;
 
+import reactor.core.publisher.Flux;
+
+import reactor.core.scheduler.Schedulers;
+
 /*
  * The class that demonstrates using Redis pipelining.
  */
@@ -52,11 +78,29 @@ public final class Pipelining extends Demo {
     /** The logger. */
     private final XLogger logger = new XLogger(LoggerFactory.getLogger(this.getClass().getName()));
 
+    /** The name of the map of key sets. */
+    private static final String KEY_SET_MAP_NAME = "key-set-map";
+
     /** The map of key sets. */
     private RMap<String, RSet<String>> keySetMap;
 
-    /** The batch size for load and remove operations. */
-    private static final int BATCH_SIZE = 5_000;
+    /** The pipelining configuration. */
+    private final Pipeline pipeline;
+
+    /** The options for every batch. */
+    private final BatchOptions batchOptions;
+
+    /** The generator of the bucket key identifiers. */
+    private final KeyIdGenerator idGenerator;
+
+    /** The store that the loaded values are kept in. */
+    private final ValueStore valueStore;
+
+    /** The server-side loader; null unless the load mode is 'function'. */
+    private final FunctionBulkLoader functionLoader;
+
+    /** The telemetry of the running or last operation. */
+    private volatile PipelineTelemetry telemetry;
 
     /**
      * The constructor that takes
@@ -67,7 +111,43 @@ public final class Pipelining extends Demo {
      *
      */
     public Pipelining(final Config config, final RedissonClient client) {
+        this(config, client, config.getPipeline() != null ? config.getPipeline() : new Pipeline());
+    }
+
+    /**
+     * A constructor that takes the application
+     * configuration and the pipelining configuration
+     * to use in place of the configured one. Used
+     * by the benchmarks.
+     *
+     * @param   config      net.jmp.demo.redis.Config
+     * @param   client      org.redisson.api.RedissonClient
+     * @param   pipeline    net.jmp.demo.redis.config.Pipeline
+     */
+    Pipelining(final Config config, final RedissonClient client, final Pipeline pipeline) {
         super(config, client);
+
+        assert pipeline != null;
+        assert pipeline.getBatchSize() > 0;
+        assert pipeline.getValueSize() >= 0;
+        assert pipeline.getWindowSize() > 0;
+        assert pipeline.getProducers() > 0;
+
+        this.pipeline = pipeline;
+        this.batchOptions = BatchOptionsFactory.create(pipeline.getBatchOptions());
+        this.idGenerator = KeyIdGenerator.create(config.getKeyIds(), client);
+        this.valueStore = ValueStore.create(pipeline.getStorage(), client);
+
+        if ("function".equalsIgnoreCase(pipeline.getLoadMode())) {
+            if (this.valueStore instanceof KeyPerValueStore) {
+                this.functionLoader = new FunctionBulkLoader(client);
+            } else {
+                this.logger.warn("The 'function' load mode requires the 'keys' storage mode; loading with batches");
+                this.functionLoader = null;
+            }
+        } else {
+            this.functionLoader = null;
+        }
     }
 
     /**
@@ -77,24 +157,72 @@ public final class Pipelining extends Demo {
     public void go() {
         this.logger.entry();
 
-        final String mapName = "key-set-map";
+        this.registerFunctions();
+
+        final String setName = this.createKeySet();
+
+        this.loadData(setName);
+        this.removeData(setName);
+        this.deleteKeySet(setName);
+
+        this.logger.exit();
+    }
+
+    /**
+     * Register the server-side functions
+     * when the load mode is 'function'.
+     */
+    void registerFunctions() {
+        this.logger.entry();
+
+        if (this.functionLoader != null) {
+            this.functionLoader.register();
+        }
+
+        this.logger.exit();
+    }
+
+    /**
+     * Create the key set and register each of its
+     * shards in the map of key sets. Return the
+     * name of the new key set.
+     *
+     * @return  java.lang.String
+     */
+    String createKeySet() {
+        this.logger.entry();
 
-        this.keySetMap = this.client.getMap(mapName);
+        this.keySetMap = this.client.getMap(KEY_SET_MAP_NAME);
 
         final String setName = UUID.randomUUID() + "-key-set";
-        final RSet<String> keySet = this.client.getSet(setName);
+        final ShardedKeySet keySet = this.getKeySet(setName);
 
-        this.keySetMap.put(setName, keySet);
+        for (final RSet<String> shard : keySet.getShards()) {
+            this.keySetMap.fastPut(shard.getName(), shard);
+        }
 
-        this.loadData(setName);
-        this.removeData(setName);
+        this.logger.exit(setName);
+
+        return setName;
+    }
+
+    /**
+     * Delete the key set and the map of key sets.
+     *
+     * @param   setName java.lang.String
+     */
+    void deleteKeySet(final String setName) {
+        this.logger.entry(setName);
+
+        assert setName != null;
+
+        final String mapName = KEY_SET_MAP_NAME;
+        final ShardedKeySet keySet = this.getKeySet(setName);
 
         // Sets are deleted if they no longer have items in them
 
-        if (keySet.isExists()) {
-            if (keySet.delete()) {
-                this.logger.debug("Set '{}' deleted", setName);
-            }
+        if (keySet.delete()) {
+            this.logger.debug("Set '{}' deleted", setName);
         } else {
             this.logger.debug("Set '{}' no longer exists", setName);
         }
@@ -113,7 +241,8 @@ public final class Pipelining extends Demo {
     }
 
     /**
-     * Load the data.
+     * Load the data, either from the import
+     * file or as generated items.
      *
      * @param   setName java.lang.String
      */
@@ -122,21 +251,30 @@ public final class Pipelining extends Demo {
 
         assert setName != null;
 
-        final int numItems = 100_789;
+        final Import dataImport = this.pipeline.getImport();
+        final long numItems;
 
-        this.logger.debug("Creating buckets and loading the key set");
+        if (dataImport != null && dataImport.getFile() != null && !dataImport.getFile().isBlank()) {
+            this.logger.debug("Importing '{}' into buckets and the key set", dataImport.getFile());
 
-        this.runBatchLoad(setName, numItems);
+            numItems = this.runBatchImport(setName, dataImport);
+        } else {
+            numItems = 100_789;
 
-        final RSet<String> keySet = this.keySetMap.get(setName);
+            this.logger.debug("Creating buckets and loading the key set");
 
-        if (keySet.size() == numItems) {
+            this.runBatchLoad(setName, (int) numItems);
+        }
+
+        final long size = this.getKeySet(setName).size();
+
+        if (size == numItems) {
             if (this.logger.isDebugEnabled()) {
-                this.logger.debug("There are {} keys", keySet.size());
+                this.logger.debug("There are {} keys", size);
             }
         } else {
             if (this.logger.isDebugEnabled()) {
-                this.logger.debug("There should be {} keys, not {}", numItems, keySet.size());
+                this.logger.debug("There should be {} keys, not {}", numItems, size);
             }
         }
 
@@ -144,67 +282,440 @@ public final class Pipelining extends Demo {
     }
 
     /**
-     * Run the data load in batches.
+     * Run the data load in batches. Up to the window
+     * size of batches are in flight at once and the
+     * items are shared out among the producers, each
+     * of which runs on its own virtual thread. Each
+     * batch is sent on whichever pooled connection
+     * is free, so concurrent batches also spread
+     * across connections. The producers share one
+     * batch sizer, which adapts the batch size when
+     * adaptive sizing is enabled.
      *
      * @param   setName     java.lang.String
      * @param   numItems    int
      */
-    private void runBatchLoad(final String setName, final int numItems) {
+    void runBatchLoad(final String setName, final int numItems) {
         this.logger.entry(setName, numItems);
 
         assert setName != null;
 
-        int itemsLeft = numItems;
+        if (this.pipeline.isReactive()) {
+            this.runReactiveLoad(setName, numItems);
+            this.logger.exit();
+
+            return;
+        }
 
         final String batchNumber = "loadBatchNumber";
+        final BatchWindow window = new BatchWindow(this.pipeline.getWindowSize());
+        final AdaptiveBatchSizer sizer = this.createBatchSizer("load");
+        final PipelineTelemetry telemetry = this.createTelemetry("load");
+        final int producers = Math.min(this.pipeline.getProducers(), Math.max(numItems, 1));
         final long startTime = System.currentTimeMillis();
 
-        while (itemsLeft > 0) {
-            final RBatch batch = this.client.createBatch(BatchOptions.defaults());
-            final int limit = Math.min(BATCH_SIZE, itemsLeft);
+        try {
+            if (producers == 1) {
+                this.loadItems(setName, numItems, window, sizer, telemetry, batchNumber);
+            } else {
+                try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                    final List<Future<?>> futures = new ArrayList<>(producers);
+
+                    for (int i = 0; i < producers; i++) {
+                        final int producerItems = numItems / producers + (i < numItems % producers ? 1 : 0);
+
+                        futures.add(executor.submit(() -> {
+                            this.loadItems(setName, producerItems, window, sizer, telemetry, batchNumber);
+
+                            return null;
+                        }));
+                    }
+
+                    for (final var future : futures) {
+                        future.get();
+                    }
+                }
+            }
+        } catch (final InterruptedException ie) {
+            this.logger.catching(ie);
+            Thread.currentThread().interrupt();
+        } catch (final ExecutionException ee) {
+            this.logger.catching(ee);
+        } finally {
+            window.awaitUninterruptibly();      // No batch may report to the telemetry once it is closed
+        }
+
+        if (this.logger.isInfoEnabled()) {
+            this.logger.info("Loading data took {} ms", System.currentTimeMillis() - startTime);
+        }
 
-            for (int i = 0; i < limit; i++) {
-                final String id = UUID.randomUUID().toString();
+        if (sizer.isEnabled() && this.logger.isInfoEnabled()) {
+            this.logger.info("The final load batch size was {}", sizer.nextBatchSize());
+        }
+
+        telemetry.close();
+
+        if (window.getFailures() > 0) {
+            this.logger.warn("{} load batch(es) failed", window.getFailures());
+        }
+
+        this.deleteCounter(this.client.getAtomicLong(batchNumber), batchNumber);
+
+        this.logger.exit();
+    }
+
+    /**
+     * Run the data load with the reactive client. The
+     * items are generated on demand as batches complete.
+     *
+     * @param   setName     java.lang.String
+     * @param   numItems    int
+     */
+    private void runReactiveLoad(final String setName, final int numItems) {
+        this.logger.entry(setName, numItems);
+
+        assert setName != null;
 
-                batch.getBucket(id).setAsync("Value: " + id);
-                batch.getSet(setName).addAsync(id);
+        final Flux<Map.Entry<String, String>> items = Flux.range(0, numItems)
+                .map(i -> {
+                    final String id = this.idGenerator.nextId();
 
-                itemsLeft--;
+                    return Map.entry(id, this.createValue(id));
+                })
+                .subscribeOn(Schedulers.boundedElastic());    // Leasing identifier blocks must not block a Netty thread
+
+        final PipelineTelemetry telemetry = this.createTelemetry("reactive-load");
+        final ReactiveBulkLoader loader = this.createReactiveLoader(telemetry);
+        final long startTime = System.currentTimeMillis();
+
+        try {
+            final Long loaded = loader.load(items, this.getKeySet(setName)).block();
+
+            if (this.logger.isInfoEnabled()) {
+                this.logger.info("Loading {} items reactively took {} ms", loaded, System.currentTimeMillis() - startTime);
             }
+        } catch (final RuntimeException re) {
+            this.logger.catching(re);   // The items could not be produced
+        }
+
+        if (loader.getFailures() > 0) {
+            this.logger.warn("{} reactive load batch(es) failed", loader.getFailures());
+        }
+
+        telemetry.close();
+
+        this.logger.exit();
+    }
+
+    /**
+     * Import the records of a memory-mapped file in batches
+     * and return the number of records imported. The records
+     * are parsed on this thread and each batch is pipelined
+     * through the window while parsing moves on. After every
+     * progress interval the window is drained, so that every
+     * record before the current offset has been written, and
+     * that offset is checkpointed in a Redis map keyed by the
+     * file path. A resumed import starts from the checkpoint,
+     * which is removed once the import completes cleanly.
+     *
+     * @param   setName     java.lang.String
+     * @param   dataImport  net.jmp.demo.redis.config.Import
+     * @return              long
+     */
+    long runBatchImport(final String setName, final Import dataImport) {
+        this.logger.entry(setName, dataImport);
+
+        assert setName != null;
+        assert dataImport != null;
+        assert dataImport.getProgressInterval() > 0;
+
+        final Path file = Paths.get(dataImport.getFile()).toAbsolutePath();
+        final String checkpointKey = file.toString();
+        final RMap<String, String> checkpoints = this.client.getMap(dataImport.getCheckpointMap(), StringCodec.INSTANCE);
+        final BatchWindow window = new BatchWindow(this.pipeline.getWindowSize());
+        final AdaptiveBatchSizer sizer = this.createBatchSizer("import");
+        final PipelineTelemetry telemetry = this.createTelemetry("import");
+        final ShardedKeySet keySet = this.getKeySet(setName);
+
+        long imported = 0;
+
+        try (final MappedRecordReader reader = new MappedRecordReader(
+                file,
+                MappedRecordReader.Format.of(dataImport.getFormat()),
+                dataImport.getKeyField(),
+                dataImport.getValueField(),
+                dataImport.isHeader())) {
+            final String checkpoint = dataImport.isResume() ? checkpoints.get(checkpointKey) : null;
+
+            if (checkpoint != null) {
+                reader.position(Long.parseLong(checkpoint));
+
+                this.logger.info("Resuming the import of '{}' at offset {}", file, reader.getOffset());
+            }
+
+            final long startTime = System.nanoTime();
+            final long startOffset = reader.getOffset();
+
+            RBatch batch = null;
+            int batchItems = 0;
+            long batchBytes = 0;
+            int limit = 0;
+            long sinceCheckpoint = 0;
 
-            final RFuture<Long> future = batch.getAtomicLong(batchNumber).incrementAndGetAsync();
+            while (reader.next()) {
+                if (batch == null) {
+                    batch = this.client.createBatch(this.batchOptions);
+                    limit = sizer.nextBatchSize();
+                }
+
+                this.valueStore.set(batch, reader.getKey(), reader.getValue());
+                keySet.add(batch, reader.getKey());
+
+                batchItems++;
+                batchBytes += PipelineTelemetry.utf8Length(reader.getKey()) + PipelineTelemetry.utf8Length(reader.getValue());
+                imported++;
+
+                if (batchItems == limit) {
+                    window.submit(this.observe(sizer, telemetry, batchItems, batchItems * 2, batchBytes, batch::executeAsync));
+
+                    batch = null;
+                    sinceCheckpoint += batchItems;
+                    batchItems = 0;
+                    batchBytes = 0;
 
-            future.whenComplete((result, exception) -> {
-                if (exception != null) {
-                    this.logger.error(exception.getMessage());
-                } else {
-                    if (this.logger.isDebugEnabled()) {
-                        this.logger.debug("Done loading batch {}", String.valueOf(result));
+                    if (sinceCheckpoint >= dataImport.getProgressInterval()) {
+                        window.await();
+
+                        this.checkpointImport(checkpoints, checkpointKey, reader.getOffset(), window);
+                        this.logImportProgress(imported, reader, startTime, startOffset);
+
+                        sinceCheckpoint = 0;
                     }
                 }
-            });
+            }
+
+            if (batch != null) {
+                window.submit(this.observe(sizer, telemetry, batchItems, batchItems * 2, batchBytes, batch::executeAsync));
+            }
 
-            batch.execute();
+            window.await();
 
-            try {
-                future.get();
-            } catch (final InterruptedException ie) {
-                this.logger.catching(ie);
-                Thread.currentThread().interrupt();
-            } catch (final ExecutionException ee) {
-                this.logger.catching(ee);
+            this.logImportProgress(imported, reader, startTime, startOffset);
+
+            if (window.getFailures() == 0) {
+                checkpoints.fastRemove(checkpointKey);
+            } else {
+                this.logger.warn("{} import batch(es) failed; the checkpoint was kept", window.getFailures());
+            }
+
+            if (reader.getSkipped() > 0) {
+                this.logger.warn("{} record(s) were skipped as malformed, incomplete, null-valued or with an empty key", reader.getSkipped());
             }
+        } catch (final IOException ioe) {
+            this.logger.catching(ioe);
+        } catch (final InterruptedException ie) {
+            this.logger.catching(ie);
+            Thread.currentThread().interrupt();
+        } finally {
+            window.awaitUninterruptibly();      // No batch may report to the telemetry once it is closed
         }
 
+        telemetry.close();
+
+        this.logger.exit(imported);
+
+        return imported;
+    }
+
+    /**
+     * Checkpoint the import offset, unless a
+     * batch has failed since the import started.
+     *
+     * @param   checkpoints     org.redisson.api.RMap&lt;java.lang.String, java.lang.String&gt;
+     * @param   checkpointKey   java.lang.String
+     * @param   offset          long
+     * @param   window          net.jmp.demo.redis.impl.BatchWindow
+     */
+    private void checkpointImport(final RMap<String, String> checkpoints,
+                                  final String checkpointKey,
+                                  final long offset,
+                                  final BatchWindow window) {
+        if (window.getFailures() == 0) {
+            checkpoints.fastPut(checkpointKey, String.valueOf(offset));
+        } else {
+            this.logger.warn("Not checkpointing offset {} after {} failed batch(es)", offset, window.getFailures());
+        }
+    }
+
+    /**
+     * Log the import progress and throughput.
+     *
+     * @param   imported    long
+     * @param   reader      net.jmp.demo.redis.impl.MappedRecordReader
+     * @param   startTime   long
+     * @param   startOffset long
+     */
+    private void logImportProgress(final long imported,
+                                   final MappedRecordReader reader,
+                                   final long startTime,
+                                   final long startOffset) {
         if (this.logger.isInfoEnabled()) {
-            this.logger.info("Loading data took {} ms", System.currentTimeMillis() - startTime);
+            final double seconds = Math.max(System.nanoTime() - startTime, 1) / 1_000_000_000.0;
+            final long bytes = reader.getOffset() - startOffset;
+
+            this.logger.info("Imported {} records; offset {} of {} ({}%); {} records/s; {} MB/s",
+                    imported,
+                    reader.getOffset(),
+                    reader.getSize(),
+                    reader.getSize() > 0 ? reader.getOffset() * 100 / reader.getSize() : 100,
+                    String.format("%.0f", imported / seconds),
+                    String.format("%.1f", bytes / seconds / (1024 * 1024)));
         }
+    }
 
-        this.deleteCounter(this.client.getAtomicLong(batchNumber), batchNumber);
+    /**
+     * Load the specified number of items in batches,
+     * submitting each batch to the window. Each batch
+     * takes its size from the sizer.
+     *
+     * @param   setName     java.lang.String
+     * @param   numItems    int
+     * @param   window      net.jmp.demo.redis.impl.BatchWindow
+     * @param   sizer       net.jmp.demo.redis.impl.AdaptiveBatchSizer
+     * @param   telemetry   net.jmp.demo.redis.impl.PipelineTelemetry
+     * @param   batchNumber java.lang.String
+     * @throws              java.lang.InterruptedException
+     */
+    private void loadItems(final String setName,
+                           final int numItems,
+                           final BatchWindow window,
+                           final AdaptiveBatchSizer sizer,
+                           final PipelineTelemetry telemetry,
+                           final String batchNumber) throws InterruptedException {
+        this.logger.entry(setName, numItems, window, sizer, telemetry, batchNumber);
+
+        assert setName != null;
+        assert window != null;
+        assert sizer != null;
+        assert telemetry != null;
+        assert batchNumber != null;
+
+        int itemsLeft = numItems;
+
+        while (itemsLeft > 0) {
+            final int limit = Math.min(sizer.nextBatchSize(), itemsLeft);
+
+            if (this.functionLoader != null) {
+                this.submitFunctionLoad(setName, limit, window, sizer, telemetry, batchNumber);
+            } else {
+                this.submitBatchLoad(setName, limit, window, sizer, telemetry, batchNumber);
+            }
+
+            itemsLeft -= limit;
+        }
 
         this.logger.exit();
     }
 
+    /**
+     * Build a batch that loads the specified number
+     * of items and submit it to the window.
+     *
+     * @param   setName     java.lang.String
+     * @param   numItems    int
+     * @param   window      net.jmp.demo.redis.impl.BatchWindow
+     * @param   sizer       net.jmp.demo.redis.impl.AdaptiveBatchSizer
+     * @param   telemetry   net.jmp.demo.redis.impl.PipelineTelemetry
+     * @param   batchNumber java.lang.String
+     * @throws              java.lang.InterruptedException
+     */
+    private void submitBatchLoad(final String setName,
+                                 final int numItems,
+                                 final BatchWindow window,
+                                 final AdaptiveBatchSizer sizer,
+                                 final PipelineTelemetry telemetry,
+                                 final String batchNumber) throws InterruptedException {
+        final RBatch batch = this.client.createBatch(this.batchOptions);
+        final ShardedKeySet keySet = this.getKeySet(setName);
+
+        long bytes = 0;
+
+        for (int i = 0; i < numItems; i++) {
+            final String id = this.idGenerator.nextId();
+            final String value = this.createValue(id);
+
+            this.valueStore.set(batch, id, value);
+            keySet.add(batch, id);
+
+            bytes += PipelineTelemetry.utf8Length(id) + PipelineTelemetry.utf8Length(value);
+        }
+
+        final RFuture<Long> future = batch.getAtomicLong(batchNumber).incrementAndGetAsync();
+
+        future.whenComplete((result, exception) -> this.logLoadedBatch(result, exception));
+
+        // A value and a set member for each item, then the counter
+
+        window.submit(this.observe(sizer, telemetry, numItems, numItems * 2 + 1, bytes, batch::executeAsync));
+    }
+
+    /**
+     * Load the specified number of items with a single
+     * call of the server-side function, submitting the
+     * call to the window.
+     *
+     * @param   setName     java.lang.String
+     * @param   numItems    int
+     * @param   window      net.jmp.demo.redis.impl.BatchWindow
+     * @param   sizer       net.jmp.demo.redis.impl.AdaptiveBatchSizer
+     * @param   telemetry   net.jmp.demo.redis.impl.PipelineTelemetry
+     * @param   batchNumber java.lang.String
+     * @throws              java.lang.InterruptedException
+     */
+    private void submitFunctionLoad(final String setName,
+                                    final int numItems,
+                                    final BatchWindow window,
+                                    final AdaptiveBatchSizer sizer,
+                                    final PipelineTelemetry telemetry,
+                                    final String batchNumber) throws InterruptedException {
+        final List<String> ids = new ArrayList<>(numItems);
+        final List<String> values = new ArrayList<>(numItems);
+        final ShardedKeySet keySet = this.getKeySet(setName);
+
+        long bytes = 0;
+
+        for (int i = 0; i < numItems; i++) {
+            final String id = this.idGenerator.nextId();
+            final String value = this.createValue(id);
+
+            ids.add(id);
+            values.add(value);
+
+            bytes += PipelineTelemetry.utf8Length(id) + PipelineTelemetry.utf8Length(value);
+        }
+
+        window.submit(this.observe(sizer, telemetry, numItems, 1, bytes, () -> {
+            final RFuture<Long> future = this.functionLoader.loadAsync(keySet, batchNumber, ids, values);
+
+            future.whenComplete((result, exception) -> this.logLoadedBatch(result, exception));
+
+            return future;
+        }));
+    }
+
+    /**
+     * Log the completion of a load batch. A
+     * failure is logged by the batch window.
+     *
+     * @param   result      java.lang.Long
+     * @param   exception   java.lang.Throwable
+     */
+    private void logLoadedBatch(final Long result, final Throwable exception) {
+        if (exception == null && this.logger.isDebugEnabled()) {
+            this.logger.debug("Done loading batch {}", this.toBatchNumber(result));
+        }
+    }
+
     /**
      * Remove the data.
      *
@@ -219,7 +730,7 @@ public final class Pipelining extends Demo {
 
         this.runBatchRemove(setName);
 
-        final RSet<String> keySet = this.keySetMap.get(setName);
+        final ShardedKeySet keySet = this.getKeySet(setName);
 
         if (keySet.isEmpty()) {
             this.logger.debug("Key set '{}' is empty", setName);
@@ -233,61 +744,318 @@ public final class Pipelining extends Demo {
     }
 
     /**
-     * Run the data removal in batches.
+     * Run the data removal in batches. The key set is
+     * drained in one SSCAN cursor pass over each shard
+     * and each page of keys becomes a delete batch that is pipelined
+     * through the window while the cursor moves on.
+     * The configured batch size is the SSCAN count
+     * hint; the size of each delete batch comes from
+     * the batch sizer.
      *
      * @param   setName java.lang.String
      */
-    private void runBatchRemove(final String setName) {
+    void runBatchRemove(final String setName) {
         this.logger.entry(setName);
 
         assert setName != null;
 
+        if (this.pipeline.isReactive()) {
+            this.runReactiveRemove(setName);
+            this.logger.exit();
+
+            return;
+        }
+
         final String batchNumber = "removeBatchNumber";
-        final RSet<String> keySet = this.keySetMap.get(setName);
+        final ShardedKeySet keySet = this.getKeySet(setName);
+        final BatchWindow window = new BatchWindow(this.pipeline.getWindowSize());
+        final AdaptiveBatchSizer sizer = this.createBatchSizer("remove");
+        final PipelineTelemetry telemetry = this.createTelemetry("remove");
+        final int batchSize = this.pipeline.getBatchSize();
         final long startTime = System.currentTimeMillis();
 
-        while (!keySet.isEmpty()) {
-            final Set<String> subset = keySet.random(BATCH_SIZE);
-            final RBatch batch = this.client.createBatch(BatchOptions.defaults());
+        // A single cursor pass per shard; members deleted behind the cursor are not revisited
 
-            subset.forEach(item -> {
-                batch.getBucket(item).getAndDeleteAsync();
-                batch.getSet(setName).removeAsync(item);
-            });
+        final Iterator<String> cursor = keySet.iterator(batchSize);
 
-            final RFuture<Long> future = batch.getAtomicLong(batchNumber).incrementAndGetAsync();
+        try {
+            while (cursor.hasNext()) {
+                final int limit = sizer.nextBatchSize();
+                final Set<String> subset = HashSet.newHashSet(limit);
 
-            future.whenComplete((result, exception) -> {
-                if (exception != null) {
-                    this.logger.catching(exception);
-                } else {
-                    if (this.logger.isDebugEnabled()) {
-                        this.logger.debug("Done removing batch {}", String.valueOf(result));
-                    }
+                while (cursor.hasNext() && subset.size() < limit) {
+                    subset.add(cursor.next());
                 }
-            });
 
-            batch.execute();
-
-            try {
-                future.get();
-            } catch (final InterruptedException ie) {
-                this.logger.catching(ie);
-                Thread.currentThread().interrupt();
-            } catch (final ExecutionException ee) {
-                this.logger.catching(ee);
+                this.removeItems(setName, subset, window, sizer, telemetry, batchNumber);
             }
+        } catch (final InterruptedException ie) {
+            this.logger.catching(ie);
+            Thread.currentThread().interrupt();
+        } finally {
+            window.awaitUninterruptibly();      // No batch may report to the telemetry once it is closed
+        }
+
+        if (window.getFailures() > 0) {
+            this.logger.warn("{} remove batch(es) failed", window.getFailures());
         }
 
         if (this.logger.isInfoEnabled()) {
             this.logger.info("Removing data took {} ms", System.currentTimeMillis() - startTime);
         }
 
+        if (sizer.isEnabled() && this.logger.isInfoEnabled()) {
+            this.logger.info("The final remove batch size was {}", sizer.nextBatchSize());
+        }
+
+        telemetry.close();
+
         this.deleteCounter(this.client.getAtomicLong(batchNumber), batchNumber);
 
         this.logger.exit();
     }
 
+    /**
+     * Remove the values and their keys in one batch
+     * of a multi-key delete and a multi-member remove,
+     * submitting the batch to the window.
+     *
+     * @param   setName     java.lang.String
+     * @param   subset      java.util.Set&lt;java.lang.String&gt;
+     * @param   window      net.jmp.demo.redis.impl.BatchWindow
+     * @param   sizer       net.jmp.demo.redis.impl.AdaptiveBatchSizer
+     * @param   telemetry   net.jmp.demo.redis.impl.PipelineTelemetry
+     * @param   batchNumber java.lang.String
+     * @throws              java.lang.InterruptedException
+     */
+    private void removeItems(final String setName,
+                             final Set<String> subset,
+                             final BatchWindow window,
+                             final AdaptiveBatchSizer sizer,
+                             final PipelineTelemetry telemetry,
+                             final String batchNumber) throws InterruptedException {
+        this.logger.entry(setName, subset.size(), window, sizer, telemetry, batchNumber);
+
+        assert setName != null;
+        assert window != null;
+        assert sizer != null;
+        assert telemetry != null;
+        assert batchNumber != null;
+
+        final RBatch batch = this.client.createBatch(this.batchOptions);
+
+        this.valueStore.delete(batch, subset);
+        this.getKeySet(setName).removeAll(batch, subset);
+
+        final RFuture<Long> future = batch.getAtomicLong(batchNumber).incrementAndGetAsync();
+
+        future.whenComplete((result, exception) -> {
+            if (exception == null && this.logger.isDebugEnabled()) {     // A failure is logged by the batch window
+                this.logger.debug("Done removing batch {}", this.toBatchNumber(result));
+            }
+        });
+
+        // The number of value deletes depends on the storage mode
+
+        long bytes = 0;
+
+        for (final String key : subset) {
+            bytes += PipelineTelemetry.utf8Length(key);
+        }
+
+        window.submit(this.observe(sizer, telemetry, subset.size(), 0, bytes, batch::executeAsync));
+
+        this.logger.exit();
+    }
+
+    /**
+     * Run the data removal with the reactive client.
+     *
+     * @param   setName java.lang.String
+     */
+    private void runReactiveRemove(final String setName) {
+        this.logger.entry(setName);
+
+        assert setName != null;
+
+        final PipelineTelemetry telemetry = this.createTelemetry("reactive-remove");
+        final ReactiveBulkLoader loader = this.createReactiveLoader(telemetry);
+        final long startTime = System.currentTimeMillis();
+
+        try {
+            final Long removed = loader.remove(this.getKeySet(setName)).block();
+
+            if (this.logger.isInfoEnabled()) {
+                this.logger.info("Removing {} items reactively took {} ms", removed, System.currentTimeMillis() - startTime);
+            }
+        } catch (final RuntimeException re) {
+            this.logger.catching(re);   // The key set could not be read
+        }
+
+        if (loader.getFailures() > 0) {
+            this.logger.warn("{} reactive remove batch(es) failed", loader.getFailures());
+        }
+
+        telemetry.close();
+
+        this.logger.exit();
+    }
+
+    /**
+     * Return the key set of the specified name,
+     * sharded as the configuration specifies.
+     *
+     * @param   setName java.lang.String
+     * @return          net.jmp.demo.redis.impl.ShardedKeySet
+     */
+    private ShardedKeySet getKeySet(final String setName) {
+        return new ShardedKeySet(this.client, setName, Math.max(this.pipeline.getKeySetShards(), 1));
+    }
+
+    /**
+     * Create a batch sizer for the named operation.
+     *
+     * @param   operation   java.lang.String
+     * @return              net.jmp.demo.redis.impl.AdaptiveBatchSizer
+     */
+    private AdaptiveBatchSizer createBatchSizer(final String operation) {
+        final Adaptive adaptive = this.pipeline.getAdaptive() != null ? this.pipeline.getAdaptive() : new Adaptive();
+
+        return new AdaptiveBatchSizer(operation, this.pipeline.getBatchSize(), adaptive);
+    }
+
+    /**
+     * Wrap an execution so that its outcome is reported
+     * to the batch sizer and the telemetry. The batch is
+     * ready when this method is called, which is before
+     * the window is waited on, and is sent when the
+     * execution starts. The number of commands is how many
+     * replies are expected, or 0 if unknown.
+     *
+     * @param   sizer       net.jmp.demo.redis.impl.AdaptiveBatchSizer
+     * @param   telemetry   net.jmp.demo.redis.impl.PipelineTelemetry
+     * @param   items       int
+     * @param   commands    int
+     * @param   bytes       long
+     * @param   execution   java.util.function.Supplier&lt;? extends java.util.concurrent.CompletionStage&lt;?&gt;&gt;
+     * @return              java.util.function.Supplier&lt;java.util.concurrent.CompletionStage&lt;?&gt;&gt;
+     */
+    private Supplier<CompletionStage<?>> observe(final AdaptiveBatchSizer sizer,
+                                                 final PipelineTelemetry telemetry,
+                                                 final int items,
+                                                 final int commands,
+                                                 final long bytes,
+                                                 final Supplier<? extends CompletionStage<?>> execution) {
+        final long readyTime = System.nanoTime();
+
+        return () -> {
+            final long sentTime = telemetry.sent();
+            final CompletionStage<?> stage;
+
+            try {
+                stage = execution.get();
+            } catch (final RuntimeException re) {
+                telemetry.completed(readyTime, sentTime, items, commands, bytes, re);
+
+                throw re;
+            }
+
+            stage.whenComplete((result, exception) -> {
+                final int replies = result instanceof BatchResult<?> batchResult && !batchResult.getResponses().isEmpty()
+                        ? batchResult.getResponses().size()
+                        : -1;
+
+                sizer.record(items, commands, sentTime, System.nanoTime() - sentTime, replies, exception);
+                telemetry.completed(readyTime, sentTime, items, commands, bytes, exception);
+            });
+
+            return stage;
+        };
+    }
+
+    /**
+     * Create the telemetry for the named operation
+     * and make it the current telemetry.
+     *
+     * @param   operation   java.lang.String
+     * @return              net.jmp.demo.redis.impl.PipelineTelemetry
+     */
+    private PipelineTelemetry createTelemetry(final String operation) {
+        final PipelineTelemetry created = new PipelineTelemetry(operation);
+
+        if (this.pipeline.getTelemetryInterval() > 0) {
+            created.startReporting(this.pipeline.getTelemetryInterval());
+        }
+
+        this.telemetry = created;
+
+        return created;
+    }
+
+    /**
+     * Return the telemetry of the running, or
+     * else the last, operation; null if none has
+     * run. A snapshot may be taken while it runs.
+     *
+     * @return  net.jmp.demo.redis.impl.PipelineTelemetry
+     */
+    PipelineTelemetry getTelemetry() {
+        return this.telemetry;
+    }
+
+    /**
+     * Create a reactive bulk loader.
+     *
+     * @param   telemetry   net.jmp.demo.redis.impl.PipelineTelemetry
+     * @return              net.jmp.demo.redis.impl.ReactiveBulkLoader
+     */
+    private ReactiveBulkLoader createReactiveLoader(final PipelineTelemetry telemetry) {
+        return new ReactiveBulkLoader(
+                this.client.reactive(),
+                this.pipeline.getBatchSize(),
+                this.pipeline.getWindowSize(),
+                this.batchOptions,
+                this.valueStore,
+                telemetry
+        );
+    }
+
+    /**
+     * Create the value for the specified identifier. The
+     * value is padded out to the minimum value size.
+     *
+     * @param   id  java.lang.String
+     * @return      java.lang.String
+     */
+    private String createValue(final String id) {
+        final String value = "Value: " + id;
+
+        final int valueSize = this.pipeline.getValueSize();
+
+        if (value.length() >= valueSize) {
+            return value;
+        }
+
+        final StringBuilder sb = new StringBuilder(valueSize).append(value);
+
+        while (sb.length() < valueSize) {
+            sb.append('.');
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * Return the batch number for logging. The
+     * number is null when results are skipped.
+     *
+     * @param   result  java.lang.Long
+     * @return          java.lang.String
+     */
+    private String toBatchNumber(final Long result) {
+        return result != null ? String.valueOf(result) : "(result skipped)";
+    }
+
     /**
      * Delete the specified counter.
      *
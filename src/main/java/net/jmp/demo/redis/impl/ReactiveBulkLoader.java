@@ -0,0 +1,248 @@
+package net.jmp.demo.redis.impl;
+
+/*
+ * (#)ReactiveBulkLoader.java   0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.List;
+import java.util.Map;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.redisson.api.BatchOptions;
+import org.redisson.api.BatchResult;
+import org.redisson.api.RBatchReactive;
+import org.redisson.api.RedissonReactiveClient;
+
+import org.slf4j.LoggerFactory;
+
+import org.slf4j.ext.XLogger;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * A bulk loader built on the reactive client. Items
+ * are consumed from a flux and grouped into batches.
+ * At most the window size of batches are in flight,
+ * and more items are only requested from upstream as
+ * batches complete, so a slow server throttles the
+ * producer instead of the items piling up in memory.
+ * A batch that fails is logged and counted and the
+ * rest carry on, as they do on the blocking path.
+ */
+final class ReactiveBulkLoader {
+    /** The logger. */
+    private final XLogger logger = new XLogger(LoggerFactory.getLogger(this.getClass().getName()));
+
+    /** The reactive Redisson client. */
+    private final RedissonReactiveClient client;
+
+    /** The batch size. */
+    private final int batchSize;
+
+    /** The number of batches allowed in flight at once. */
+    private final int windowSize;
+
+    /** The options for every batch. */
+    private final BatchOptions batchOptions;
+
+    /** The store that the values are kept in. */
+    private final ValueStore valueStore;
+
+    /** The telemetry that each batch is recorded in. */
+    private final PipelineTelemetry telemetry;
+
+    /** The number of batches that failed. */
+    private final AtomicLong failures = new AtomicLong();
+
+    /**
+     * The constructor.
+     *
+     * @param   client          org.redisson.api.RedissonReactiveClient
+     * @param   batchSize       int
+     * @param   windowSize      int
+     * @param   batchOptions    org.redisson.api.BatchOptions
+     * @param   valueStore      net.jmp.demo.redis.impl.ValueStore
+     * @param   telemetry       net.jmp.demo.redis.impl.PipelineTelemetry
+     */
+    ReactiveBulkLoader(final RedissonReactiveClient client,
+                       final int batchSize,
+                       final int windowSize,
+                       final BatchOptions batchOptions,
+                       final ValueStore valueStore,
+                       final PipelineTelemetry telemetry) {
+        super();
+
+        assert client != null;
+        assert batchSize > 0;
+        assert windowSize > 0;
+        assert batchOptions != null;
+        assert valueStore != null;
+        assert telemetry != null;
+
+        this.client = client;
+        this.batchSize = batchSize;
+        this.windowSize = windowSize;
+        this.batchOptions = batchOptions;
+        this.valueStore = valueStore;
+        this.telemetry = telemetry;
+    }
+
+    /**
+     * Load the items, a key and value pair each, into
+     * the value store and add each key to the key set. The
+     * returned mono emits the number of items loaded, which
+     * leaves out those of any failed batch.
+     *
+     * @param   items   reactor.core.publisher.Flux&lt;java.util.Map.Entry&lt;java.lang.String, java.lang.String&gt;&gt;
+     * @param   keySet  net.jmp.demo.redis.impl.ShardedKeySet
+     * @return          reactor.core.publisher.Mono&lt;java.lang.Long&gt;
+     */
+    Mono<Long> load(final Flux<Map.Entry<String, String>> items, final ShardedKeySet keySet) {
+        assert items != null;
+        assert keySet != null;
+
+        return items
+                .buffer(this.batchSize)
+                .flatMap(chunk -> Mono.defer(() -> this.loadBatch(chunk, keySet)).onErrorResume(this::failed), this.windowSize, 1)
+                .reduce(0L, Long::sum);
+    }
+
+    /**
+     * Remove every value named in the key set along
+     * with its key. The key set is read with a cursor
+     * over each shard so it is never held in memory in
+     * full. The returned mono emits the number of items
+     * removed, which leaves out those of any failed batch.
+     *
+     * @param   keySet  net.jmp.demo.redis.impl.ShardedKeySet
+     * @return          reactor.core.publisher.Mono&lt;java.lang.Long&gt;
+     */
+    Mono<Long> remove(final ShardedKeySet keySet) {
+        assert keySet != null;
+
+        return keySet.iterator(this.client, this.batchSize)
+                .buffer(this.batchSize)
+                .flatMap(chunk -> Mono.defer(() -> this.removeBatch(chunk, keySet)).onErrorResume(this::failed), this.windowSize, 1)
+                .reduce(0L, Long::sum);
+    }
+
+    /**
+     * Return the number of batches that failed.
+     *
+     * @return  long
+     */
+    long getFailures() {
+        return this.failures.get();
+    }
+
+    /**
+     * Log and count a failed batch, which
+     * then contributes no items.
+     *
+     * @param   exception   java.lang.Throwable
+     * @return              reactor.core.publisher.Mono&lt;java.lang.Long&gt;
+     */
+    private Mono<Long> failed(final Throwable exception) {
+        this.failures.incrementAndGet();
+        this.logger.catching(exception);
+
+        return Mono.empty();
+    }
+
+    /**
+     * Load one batch of items.
+     *
+     * @param   chunk   java.util.List&lt;java.util.Map.Entry&lt;java.lang.String, java.lang.String&gt;&gt;
+     * @param   keySet  net.jmp.demo.redis.impl.ShardedKeySet
+     * @return          reactor.core.publisher.Mono&lt;java.lang.Long&gt;
+     */
+    private Mono<Long> loadBatch(final List<Map.Entry<String, String>> chunk, final ShardedKeySet keySet) {
+        final RBatchReactive batch = this.client.createBatch(this.batchOptions);
+
+        long bytes = 0;
+
+        for (final var item : chunk) {
+            this.valueStore.set(batch, item.getKey(), item.getValue());
+            keySet.add(batch, item.getKey());
+
+            bytes += PipelineTelemetry.utf8Length(item.getKey()) + PipelineTelemetry.utf8Length(item.getValue());
+        }
+
+        return this.execute(batch, chunk.size(), chunk.size() * 2, bytes)
+                .doOnSuccess(result -> this.logger.debug("Done loading a batch of {}", chunk.size()))
+                .thenReturn((long) chunk.size());
+    }
+
+    /**
+     * Remove one batch of items.
+     *
+     * @param   chunk   java.util.List&lt;java.lang.String&gt;
+     * @param   keySet  net.jmp.demo.redis.impl.ShardedKeySet
+     * @return          reactor.core.publisher.Mono&lt;java.lang.Long&gt;
+     */
+    private Mono<Long> removeBatch(final List<String> chunk, final ShardedKeySet keySet) {
+        final RBatchReactive batch = this.client.createBatch(this.batchOptions);
+
+        this.valueStore.delete(batch, chunk);
+        keySet.removeAll(batch, chunk);
+
+        long bytes = 0;
+
+        for (final String key : chunk) {
+            bytes += PipelineTelemetry.utf8Length(key);
+        }
+
+        return this.execute(batch, chunk.size(), 0, bytes)
+                .doOnSuccess(result -> this.logger.debug("Done removing a batch of {}", chunk.size()))
+                .thenReturn((long) chunk.size());
+    }
+
+    /**
+     * Execute the batch, recording it in the telemetry. The
+     * flat map only maps a chunk when it has a free slot, so
+     * the batch is ready and sent at the same moment.
+     *
+     * @param   batch       org.redisson.api.RBatchReactive
+     * @param   items       int
+     * @param   commands    int
+     * @param   bytes       long
+     * @return              reactor.core.publisher.Mono&lt;org.redisson.api.BatchResult&lt;?&gt;&gt;
+     */
+    private Mono<BatchResult<?>> execute(final RBatchReactive batch, final int items, final int commands, final long bytes) {
+        return Mono.defer(() -> {
+            final long sentTime = this.telemetry.sent();
+
+            return batch.execute()
+                    .doOnSuccess(result -> this.telemetry.completed(sentTime, sentTime, items, commands, bytes, null))
+                    .doOnError(exception -> this.telemetry.completed(sentTime, sentTime, items, commands, bytes, exception));
+        });
+    }
+}
@@ -0,0 +1,305 @@
+package net.jmp.demo.redis.impl;
+
+/*
+ * (#)ShardedKeySet.java    0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.redisson.api.RBatch;
+import org.redisson.api.RBatchReactive;
+import org.redisson.api.RFuture;
+import org.redisson.api.RSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.RedissonReactiveClient;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * A key set spread across a fixed number of Redis
+ * sets, the shards. Each member is kept in the shard
+ * its hash selects, so writes to the index spread
+ * across keys and, in a cluster, across nodes, and no
+ * single set grows large. A key set of one shard is
+ * the plain set of that name. The size, iteration and
+ * removal operations are aggregated across the shards.
+ */
+final class ShardedKeySet {
+    /** The Redisson client. */
+    private final RedissonClient client;
+
+    /** The name of the key set. */
+    private final String name;
+
+    /** The names of the shards. */
+    private final List<String> shardNames;
+
+    /**
+     * The constructor.
+     *
+     * @param   client  org.redisson.api.RedissonClient
+     * @param   name    java.lang.String
+     * @param   shards  int
+     */
+    ShardedKeySet(final RedissonClient client, final String name, final int shards) {
+        super();
+
+        assert client != null;
+        assert name != null;
+        assert shards > 0;
+
+        this.client = client;
+        this.name = name;
+
+        if (shards == 1) {
+            this.shardNames = List.of(name);
+        } else {
+            final List<String> names = new ArrayList<>(shards);
+
+            for (int i = 0; i < shards; i++) {
+                names.add(name + ':' + i);
+            }
+
+            this.shardNames = Collections.unmodifiableList(names);
+        }
+    }
+
+    /**
+     * Return the name of the key set.
+     *
+     * @return  java.lang.String
+     */
+    String getName() {
+        return this.name;
+    }
+
+    /**
+     * Return the names of the shards.
+     *
+     * @return  java.util.List&lt;java.lang.String&gt;
+     */
+    List<String> getShardNames() {
+        return this.shardNames;
+    }
+
+    /**
+     * Return the name of the shard that holds the member.
+     *
+     * @param   member  java.lang.String
+     * @return          java.lang.String
+     */
+    String shardName(final String member) {
+        return this.shardNames.size() == 1
+                ? this.name
+                : this.shardNames.get(KeyHashing.index(member, this.shardNames.size()));
+    }
+
+    /**
+     * Return the shards.
+     *
+     * @return  java.util.List&lt;org.redisson.api.RSet&lt;java.lang.String&gt;&gt;
+     */
+    List<RSet<String>> getShards() {
+        final List<RSet<String>> shards = new ArrayList<>(this.shardNames.size());
+
+        for (final String shardName : this.shardNames) {
+            shards.add(this.client.getSet(shardName));
+        }
+
+        return shards;
+    }
+
+    /**
+     * Add the member in a batch.
+     *
+     * @param   batch   org.redisson.api.RBatch
+     * @param   member  java.lang.String
+     */
+    void add(final RBatch batch, final String member) {
+        batch.getSet(this.shardName(member)).addAsync(member);
+    }
+
+    /**
+     * Add the member in a reactive batch.
+     *
+     * @param   batch   org.redisson.api.RBatchReactive
+     * @param   member  java.lang.String
+     */
+    void add(final RBatchReactive batch, final String member) {
+        batch.getSet(this.shardName(member)).add(member);
+    }
+
+    /**
+     * Remove the members in a batch, with
+     * one command for each shard involved.
+     *
+     * @param   batch   org.redisson.api.RBatch
+     * @param   members java.util.Collection&lt;java.lang.String&gt;
+     */
+    void removeAll(final RBatch batch, final Collection<String> members) {
+        this.groupByShard(members).forEach((shardName, shardMembers) -> batch.getSet(shardName).removeAllAsync(shardMembers));
+    }
+
+    /**
+     * Remove the members in a reactive batch, with
+     * one command for each shard involved.
+     *
+     * @param   batch   org.redisson.api.RBatchReactive
+     * @param   members java.util.Collection&lt;java.lang.String&gt;
+     */
+    void removeAll(final RBatchReactive batch, final Collection<String> members) {
+        this.groupByShard(members).forEach((shardName, shardMembers) -> batch.getSet(shardName).removeAll(shardMembers));
+    }
+
+    /**
+     * Return the number of members in all the shards,
+     * counted with one batch of SCARD commands.
+     *
+     * @return  long
+     */
+    long size() {
+        if (this.shardNames.size() == 1) {
+            return this.client.getSet(this.name).size();
+        }
+
+        final RBatch batch = this.client.createBatch();
+        final List<RFuture<Integer>> sizes = new ArrayList<>(this.shardNames.size());
+
+        for (final String shardName : this.shardNames) {
+            sizes.add(batch.getSet(shardName).sizeAsync());
+        }
+
+        batch.execute();
+
+        long size = 0;
+
+        for (final var future : sizes) {
+            size += future.toCompletableFuture().join();
+        }
+
+        return size;
+    }
+
+    /**
+     * Return true if no shard has a member.
+     *
+     * @return  boolean
+     */
+    boolean isEmpty() {
+        return this.client.getKeys().countExists(this.shardNames.toArray(new String[0])) == 0;
+    }
+
+    /**
+     * Delete every shard and return true if any existed.
+     *
+     * @return  boolean
+     */
+    boolean delete() {
+        return this.client.getKeys().delete(this.shardNames.toArray(new String[0])) > 0;
+    }
+
+    /**
+     * Return an iterator over the members of every shard.
+     * Each shard is read in turn with an SSCAN cursor that
+     * fetches the specified number of members at a time.
+     *
+     * @param   count   int
+     * @return          java.util.Iterator&lt;java.lang.String&gt;
+     */
+    Iterator<String> iterator(final int count) {
+        assert count > 0;
+
+        return new Iterator<>() {
+            private int shard;
+            private Iterator<String> current = ShardedKeySet.this.client.<String>getSet(ShardedKeySet.this.shardNames.getFirst()).iterator(count);
+
+            @Override
+            public boolean hasNext() {
+                while (!this.current.hasNext() && this.shard + 1 < ShardedKeySet.this.shardNames.size()) {
+                    this.shard++;
+                    this.current = ShardedKeySet.this.client.<String>getSet(ShardedKeySet.this.shardNames.get(this.shard)).iterator(count);
+                }
+
+                return this.current.hasNext();
+            }
+
+            @Override
+            public String next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                return this.current.next();
+            }
+        };
+    }
+
+    /**
+     * Return a flux of the members of every shard, read
+     * in turn with SSCAN cursors through the reactive client.
+     *
+     * @param   reactiveClient  org.redisson.api.RedissonReactiveClient
+     * @param   count           int
+     * @return                  reactor.core.publisher.Flux&lt;java.lang.String&gt;
+     */
+    Flux<String> iterator(final RedissonReactiveClient reactiveClient, final int count) {
+        assert reactiveClient != null;
+        assert count > 0;
+
+        return Flux.fromIterable(this.shardNames)
+                .concatMap(shardName -> reactiveClient.<String>getSet(shardName).iterator(count));
+    }
+
+    /**
+     * Group the members by the name of their shard.
+     *
+     * @param   members java.util.Collection&lt;java.lang.String&gt;
+     * @return          java.util.Map&lt;java.lang.String, java.util.List&lt;java.lang.String&gt;&gt;
+     */
+    Map<String, List<String>> groupByShard(final Collection<String> members) {
+        if (this.shardNames.size() == 1) {
+            return Map.of(this.name, members instanceof List<String> list ? list : new ArrayList<>(members));
+        }
+
+        final Map<String, List<String>> groups = new HashMap<>();
+
+        for (final var member : members) {
+            groups.computeIfAbsent(this.shardName(member), shardName -> new ArrayList<>()).add(member);
+        }
+
+        return groups;
+    }
+}
@@ -0,0 +1,510 @@
+package net.jmp.demo.redis.impl;
+
+/*
+ * (#)StripedAtomicLong.java    0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import net.jmp.demo.redis.config.StripedCounter;
+
+import org.redisson.api.BatchResult;
+import org.redisson.api.RBatch;
+import org.redisson.api.RedissonClient;
+
+import org.slf4j.LoggerFactory;
+
+import org.slf4j.ext.XLogger;
+
+/**
+ * A counter for keys that take too many increments for
+ * one INCR each. Increments are added to striped local
+ * cells, one per thread hash, padded apart so that busy
+ * threads do not share a cache line. A timer, or a local
+ * total over the threshold, flushes the cells to Redis
+ * with one INCRBY. Each cell is emptied with a get and
+ * set, so no increment is lost to a flush, and a failed
+ * INCRBY puts its delta back into the cells.
+ * <p>
+ * With more than one shard, each flush goes to a random
+ * shard ('name:i') and a read sums them all with one
+ * batch, so no single key takes every process's flushes.
+ * A read reuses the Redis total for the maximum staleness
+ * and adds this process's unflushed increments, those in
+ * flight and those flushed since the total was read, so a
+ * process never sees its own increments go missing. A read
+ * of Redis holds back new flushes and waits out those in
+ * flight, as an INCRBY that lands during the read would
+ * otherwise be counted both in the total and in flight.
+ * Another process's increments show up within its flush
+ * interval plus the maximum staleness.
+ */
+final class StripedAtomicLong implements AutoCloseable {
+    /** The distance between cells, in longs, to keep them on separate cache lines. */
+    private static final int PADDING = 8;
+
+    /** The logger. */
+    private final XLogger logger = new XLogger(LoggerFactory.getLogger(this.getClass().getName()));
+
+    /** The Redisson client. */
+    private final RedissonClient client;
+
+    /** The names of the atomic longs. */
+    private final List<String> shardNames;
+
+    /** The size of one cell that triggers an early flush. */
+    private final long cellThreshold;
+
+    /** The nanoseconds a read of the Redis total may be reused. */
+    private final long maxStalenessNanos;
+
+    /** The number of cells; a power of two. */
+    private final int stripes;
+
+    /** The padded local cells. */
+    private final AtomicLongArray cells;
+
+    /** True while an early flush is pending. */
+    private final AtomicBoolean flushing = new AtomicBoolean();
+
+    /** The flush timer. */
+    private final ScheduledExecutorService flusher;
+
+    /** The number of flushes that succeeded. */
+    private final LongAdder flushes = new LongAdder();
+
+    /** Guards the totals below and the cells as they are drained. */
+    private final Object lock = new Object();
+
+    /** The increments drained from the cells and not yet acknowledged by Redis. */
+    private long pending;
+
+    /** The Redis total as last read, plus this process's flushes since. */
+    private long remoteTotal;
+
+    /** The number of flushes sent and not yet acknowledged. */
+    private int inFlight;
+
+    /** True while the Redis total is being read. */
+    private boolean refreshing;
+
+    /** The time of the last read of the Redis total. */
+    private volatile long remoteReadTime;
+
+    /** True once the Redis total has been read. */
+    private volatile boolean remoteRead;
+
+    /**
+     * The constructor.
+     *
+     * @param   client          org.redisson.api.RedissonClient
+     * @param   stripedCounter  net.jmp.demo.redis.config.StripedCounter
+     */
+    StripedAtomicLong(final RedissonClient client, final StripedCounter stripedCounter) {
+        super();
+
+        assert client != null;
+        assert stripedCounter != null;
+        assert stripedCounter.getShards() > 0;
+        assert stripedCounter.getFlushInterval() > 0;
+        assert stripedCounter.getFlushThreshold() > 0;
+
+        this.client = client;
+        this.maxStalenessNanos = TimeUnit.MILLISECONDS.toNanos(stripedCounter.getMaxStaleness());
+        this.stripes = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1)) << 1;
+        this.cellThreshold = Math.max(1, stripedCounter.getFlushThreshold() / this.stripes);
+        this.cells = new AtomicLongArray(this.stripes * PADDING);
+
+        final String name = stripedCounter.getName();
+
+        if (stripedCounter.getShards() == 1) {
+            this.shardNames = List.of(name);
+        } else {
+            final List<String> names = new ArrayList<>(stripedCounter.getShards());
+
+            for (int i = 0; i < stripedCounter.getShards(); i++) {
+                names.add(name + ":" + i);
+            }
+
+            this.shardNames = List.copyOf(names);
+        }
+
+        this.flusher = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name(name + "-flush").factory());
+        this.flusher.scheduleAtFixedRate(
+                this::flush,
+                stripedCounter.getFlushInterval(),
+                stripedCounter.getFlushInterval(),
+                TimeUnit.MILLISECONDS
+        );
+    }
+
+    /**
+     * Add to the counter.
+     *
+     * @param   delta   long
+     */
+    void add(final long delta) {
+        final int cell = (int) (Thread.currentThread().threadId() * 0x9E3779B97F4A7C15L >>> 32) & (this.stripes - 1);
+        final long local = this.cells.addAndGet(cell * PADDING, delta);
+
+        // A cell over its share of the threshold asks for an early flush
+
+        if (Math.abs(local) >= this.cellThreshold && this.flushing.compareAndSet(false, true)) {
+            try {
+                this.flusher.execute(() -> {
+                    this.flushing.set(false);
+                    this.flush();
+                });
+            } catch (final RejectedExecutionException ree) {
+                this.flushing.set(false);     // Closed; a later getExact still flushes
+            }
+        }
+    }
+
+    /**
+     * Add one to the counter.
+     */
+    void increment() {
+        this.add(1);
+    }
+
+    /**
+     * Return the counter: the Redis total, read at
+     * most the maximum staleness ago and advanced by
+     * this process's flushes since, plus the local
+     * increments not yet flushed or acknowledged.
+     *
+     * @return  long
+     */
+    long get() {
+        if (!this.remoteRead || System.nanoTime() - this.remoteReadTime > this.maxStalenessNanos) {
+            this.refresh(false);
+        }
+
+        synchronized (this.lock) {
+            return this.remoteTotal + this.pending + this.localTotal();
+        }
+    }
+
+    /**
+     * Flush the local increments and return the
+     * Redis total, read fresh.
+     *
+     * @return  long
+     */
+    long getExact() {
+        this.flushNow();
+        this.refresh(true);
+
+        synchronized (this.lock) {
+            return this.remoteTotal;
+        }
+    }
+
+    /**
+     * Return the number of flushes that succeeded.
+     *
+     * @return  long
+     */
+    long getFlushes() {
+        return this.flushes.sum();
+    }
+
+    /**
+     * Return the names of the atomic longs.
+     *
+     * @return  java.util.List&lt;java.lang.String&gt;
+     */
+    List<String> getShardNames() {
+        return this.shardNames;
+    }
+
+    /**
+     * Stop the timer and flush what is left.
+     */
+    @Override
+    public void close() {
+        this.flusher.shutdown();
+
+        try {
+            if (!this.flusher.awaitTermination(5, TimeUnit.SECONDS)) {
+                this.flusher.shutdownNow();
+            }
+        } catch (final InterruptedException ie) {
+            this.logger.catching(ie);
+            Thread.currentThread().interrupt();
+        }
+
+        this.flushNow();
+
+        if (this.logger.isDebugEnabled()) {
+            this.logger.debug("Closed striped counter {} after {} flushes", this.shardNames, this.flushes.sum());
+        }
+    }
+
+    /**
+     * Delete the atomic longs.
+     */
+    void delete() {
+        this.client.getKeys().delete(this.shardNames.toArray(new String[0]));
+    }
+
+    /**
+     * Read the Redis total, unless another thread
+     * already has since it went stale. New flushes
+     * wait and those in flight are waited out, so
+     * the total read and the increments pending are
+     * disjoint.
+     *
+     * @param   force   boolean
+     */
+    private void refresh(final boolean force) {
+        final long now = System.nanoTime();
+
+        synchronized (this.lock) {
+            try {
+                while (this.refreshing) {
+                    this.lock.wait();
+                }
+
+                if (!force && this.remoteRead && this.remoteReadTime - now >= 0) {
+                    return;     // Another thread read it while this one waited
+                }
+
+                this.refreshing = true;
+
+                while (this.inFlight > 0) {
+                    this.lock.wait();
+                }
+            } catch (final InterruptedException ie) {
+                this.logger.catching(ie);
+                Thread.currentThread().interrupt();
+                this.endRefresh();
+
+                return;
+            }
+        }
+
+        try {
+            final long total = this.readRemote();
+
+            synchronized (this.lock) {
+                this.remoteTotal = total;
+                this.remoteReadTime = System.nanoTime();
+                this.remoteRead = true;
+            }
+        } finally {
+            synchronized (this.lock) {
+                this.endRefresh();
+            }
+        }
+    }
+
+    /**
+     * End a refresh and wake the threads waiting
+     * on it. The caller holds the lock.
+     */
+    private void endRefresh() {
+        if (this.refreshing) {
+            this.refreshing = false;
+            this.lock.notifyAll();
+        }
+    }
+
+    /**
+     * Flush the local increments without waiting.
+     */
+    private void flush() {
+        try {
+            final long delta = this.drain();
+
+            if (delta != 0) {
+                this.send(delta).whenComplete((total, throwable) -> {
+                    if (throwable != null) {
+                        this.logger.warn("Flush of {} failed; it will be retried: {}", delta, throwable.getMessage());
+                    }
+                });
+            }
+        } catch (final InterruptedException ie) {
+            this.logger.catching(ie);     // Closing; close flushes what is left
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Flush the local increments and wait for Redis.
+     */
+    private void flushNow() {
+        try {
+            final long delta = this.drain();
+
+            if (delta != 0) {
+                this.send(delta).toCompletableFuture().get();
+            }
+        } catch (final InterruptedException ie) {
+            this.logger.catching(ie);     // The delta is still accounted for when the INCRBY completes
+            Thread.currentThread().interrupt();
+        } catch (final ExecutionException ee) {
+            this.logger.catching(ee);     // The delta is already back in the cells
+        }
+    }
+
+    /**
+     * Send a drained delta to a random shard. Once
+     * it succeeds the delta is added to the Redis
+     * total that reads reuse; should it fail, the
+     * delta goes back into the cells. The returned
+     * stage completes after either.
+     *
+     * @param   delta   long
+     * @return          java.util.concurrent.CompletionStage&lt;java.lang.Long&gt;
+     */
+    private CompletionStage<Long> send(final long delta) {
+        final String shardName = this.shardNames.get(ThreadLocalRandom.current().nextInt(this.shardNames.size()));
+
+        try {
+            return this.client.getAtomicLong(shardName)
+                    .addAndGetAsync(delta)
+                    .whenComplete((total, throwable) -> this.acknowledge(delta, throwable));
+        } catch (final RuntimeException re) {
+            this.acknowledge(delta, re);
+
+            return CompletableFuture.failedStage(re);
+        }
+    }
+
+    /**
+     * Account for a completed send: add the delta
+     * to the Redis total or put it back into the
+     * cells, and take it out of flight.
+     *
+     * @param   delta       long
+     * @param   throwable   java.lang.Throwable
+     */
+    private void acknowledge(final long delta, final Throwable throwable) {
+        synchronized (this.lock) {
+            if (throwable == null) {
+                this.remoteTotal += delta;
+                this.flushes.increment();
+            } else {
+                this.add(delta);
+            }
+
+            this.pending -= delta;
+
+            if (--this.inFlight == 0) {
+                this.lock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Empty the local cells into the pending total
+     * and return what was emptied. A non-zero delta
+     * counts as in flight until its send completes.
+     * While the Redis total is being read this waits.
+     *
+     * @return  long
+     * @throws  java.lang.InterruptedException
+     */
+    private long drain() throws InterruptedException {
+        synchronized (this.lock) {
+            while (this.refreshing) {
+                this.lock.wait();
+            }
+
+            long delta = 0;
+
+            for (int i = 0; i < this.stripes; i++) {
+                delta += this.cells.getAndSet(i * PADDING, 0);
+            }
+
+            if (delta != 0) {
+                this.pending += delta;
+                this.inFlight++;
+            }
+
+            return delta;
+        }
+    }
+
+    /**
+     * Return the local total without emptying the cells.
+     *
+     * @return  long
+     */
+    private long localTotal() {
+        long total = 0;
+
+        for (int i = 0; i < this.stripes; i++) {
+            total += this.cells.get(i * PADDING);
+        }
+
+        return total;
+    }
+
+    /**
+     * Read and sum the atomic longs.
+     *
+     * @return  long
+     */
+    private long readRemote() {
+        if (this.shardNames.size() == 1) {
+            return this.client.getAtomicLong(this.shardNames.getFirst()).get();
+        }
+
+        final RBatch batch = this.client.createBatch();
+
+        this.shardNames.forEach(shardName -> batch.getAtomicLong(shardName).getAsync());
+
+        final BatchResult<?> result = batch.execute();
+
+        long total = 0;
+
+        for (final Object value : result.getResponses()) {
+            total += ((Number) value).longValue();
+        }
+
+        return total;
+    }
+}
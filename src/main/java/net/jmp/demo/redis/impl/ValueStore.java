@@ -0,0 +1,135 @@
+package net.jmp.demo.redis.impl;
+
+/*
+ * (#)ValueStore.java   0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Collection;
+import java.util.Map;
+
+import org.redisson.api.RBatch;
+import org.redisson.api.RBatchReactive;
+import org.redisson.api.RedissonClient;
+
+import net.jmp.demo.redis.config.Storage;
+
+/**
+ * A small key-value API over the way string values
+ * are laid out in Redis. Values can be read and
+ * written directly or queued on a batch.
+ */
+interface ValueStore {
+    /**
+     * Return the value of the key or null if there is none.
+     *
+     * @param   key java.lang.String
+     * @return      java.lang.String
+     */
+    String get(String key);
+
+    /**
+     * Return the values of the keys that have one.
+     *
+     * @param   keys    java.util.Collection&lt;java.lang.String&gt;
+     * @return          java.util.Map&lt;java.lang.String, java.lang.String&gt;
+     */
+    Map<String, String> getAll(Collection<String> keys);
+
+    /**
+     * Set the value of the key.
+     *
+     * @param   key     java.lang.String
+     * @param   value   java.lang.String
+     */
+    void set(String key, String value);
+
+    /**
+     * Delete the key. Return true if it existed.
+     *
+     * @param   key java.lang.String
+     * @return      boolean
+     */
+    boolean delete(String key);
+
+    /**
+     * Queue setting the value of the key on the batch.
+     *
+     * @param   batch   org.redisson.api.RBatch
+     * @param   key     java.lang.String
+     * @param   value   java.lang.String
+     */
+    void set(RBatch batch, String key, String value);
+
+    /**
+     * Queue deleting the keys on the batch.
+     *
+     * @param   batch   org.redisson.api.RBatch
+     * @param   keys    java.util.Collection&lt;java.lang.String&gt;
+     */
+    void delete(RBatch batch, Collection<String> keys);
+
+    /**
+     * Queue setting the value of the key on the reactive batch.
+     *
+     * @param   batch   org.redisson.api.RBatchReactive
+     * @param   key     java.lang.String
+     * @param   value   java.lang.String
+     */
+    void set(RBatchReactive batch, String key, String value);
+
+    /**
+     * Queue deleting the keys on the reactive batch.
+     *
+     * @param   batch   org.redisson.api.RBatchReactive
+     * @param   keys    java.util.Collection&lt;java.lang.String&gt;
+     */
+    void delete(RBatchReactive batch, Collection<String> keys);
+
+    /**
+     * Create the store named by the storage configuration. A
+     * null configuration or the keys mode yields one key per value.
+     *
+     * @param   storage net.jmp.demo.redis.config.Storage
+     * @param   client  org.redisson.api.RedissonClient
+     * @return          net.jmp.demo.redis.impl.ValueStore
+     */
+    static ValueStore create(final Storage storage, final RedissonClient client) {
+        assert client != null;
+
+        if (storage == null || storage.getMode() == null || "keys".equalsIgnoreCase(storage.getMode())) {
+            return new KeyPerValueStore(client);
+        }
+
+        if ("hash-buckets".equalsIgnoreCase(storage.getMode())) {
+            return new HashBucketValueStore(client, storage.getPrefix(), storage.getBuckets());
+        }
+
+        throw new IllegalArgumentException("Unsupported storage mode: " + storage.getMode());
+    }
+}
@@ -0,0 +1,132 @@
+package net.jmp.demo.redis;
+
+/*
+ * (#)CustomKryo5CodecTest.java 0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import com.sun.management.ThreadMXBean;
+
+import io.netty.buffer.ByteBuf;
+
+import java.io.IOException;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import org.redisson.client.handler.State;
+
+import org.redisson.client.protocol.Decoder;
+import org.redisson.client.protocol.Encoder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that the pooled encode and decode
+ * paths of the custom Kryo 5 codec do not
+ * allocate once they have warmed up.
+ */
+public final class CustomKryo5CodecTest {
+    /** The number of loops to warm up with. */
+    private static final int WARMUP_LOOPS = 200_000;
+
+    /** The number of loops measured. */
+    private static final int MEASURED_LOOPS = 100_000;
+
+    /** A long that the decode boxes to a cached instance. */
+    private static final Long VALUE = 42L;
+
+    /**
+     * Turn off Netty's leak detection before
+     * Netty loads, as its sampling allocates
+     * for a fraction of the buffers.
+     */
+    @BeforeClass
+    public static void disableLeakDetection() {
+        System.setProperty("io.netty.leakDetection.level", "disabled");
+    }
+
+    /**
+     * Encode and decode a long many times and
+     * check that the thread's allocated bytes
+     * do not grow over the measured loops.
+     *
+     * @throws  java.io.IOException When a value cannot be encoded or decoded
+     */
+    @Test
+    public void testPooledEncodeDecodeDoesNotAllocate() throws IOException {
+        final CustomKryo5Codec codec = new CustomKryo5Codec();
+        final Encoder encoder = codec.getValueEncoder();
+        final Decoder<Object> decoder = codec.getValueDecoder();
+        final State state = new State();
+        final ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long threadId = Thread.currentThread().threadId();
+
+        assertTrue(threadMXBean.isThreadAllocatedMemorySupported());
+
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        this.loop(encoder, decoder, state, WARMUP_LOOPS);
+
+        final long before = threadMXBean.getThreadAllocatedBytes(threadId);
+
+        this.loop(encoder, decoder, state, MEASURED_LOOPS);
+
+        final long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - before;
+
+        assertTrue("Allocated " + allocated + " bytes over " + MEASURED_LOOPS + " loops", allocated < MEASURED_LOOPS);
+    }
+
+    /**
+     * Encode, decode and release the value
+     * the given number of times.
+     *
+     * @param   encoder org.redisson.client.protocol.Encoder
+     * @param   decoder org.redisson.client.protocol.Decoder&lt;java.lang.Object&gt;
+     * @param   state   org.redisson.client.handler.State
+     * @param   loops   int
+     * @throws          java.io.IOException When a value cannot be encoded or decoded
+     */
+    private void loop(final Encoder encoder,
+                      final Decoder<Object> decoder,
+                      final State state,
+                      final int loops) throws IOException {
+        for (int i = 0; i < loops; i++) {
+            final ByteBuf buffer = encoder.encode(VALUE);
+
+            try {
+                assertEquals(VALUE, decoder.decode(buffer, state));
+            } finally {
+                buffer.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package net.jmp.demo.redis.impl;
+
+/*
+ * (#)StripedAtomicLongTest.java    0.12.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.12.0
+ * @since    0.12.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.reflect.Proxy;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import net.jmp.demo.redis.config.StripedCounter;
+
+import org.junit.Test;
+
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RedissonClient;
+
+import org.redisson.misc.CompletableFutureWrapper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+
+/**
+ * Tests that a read of the striped counter does
+ * not count a flush twice when its INCRBY has
+ * reached Redis but has not been acknowledged.
+ */
+public final class StripedAtomicLongTest {
+    /** The counter as Redis holds it. */
+    private final AtomicLong server = new AtomicLong();
+
+    /** The acknowledgements of the INCRBYs that reached Redis. */
+    private final BlockingQueue<CompletableFuture<Long>> acks = new LinkedBlockingQueue<>();
+
+    /**
+     * Read the counter while each flush is in
+     * flight and check that the read waits for
+     * the flush and counts it once.
+     *
+     * @throws  java.lang.Exception
+     */
+    @Test
+    public void testGetDuringInFlightFlush() throws Exception {
+        try (final StripedAtomicLong counter = new StripedAtomicLong(this.client(), this.stripedCounter())) {
+            long expected = 0;
+
+            for (int i = 1; i <= 20; i++) {
+                counter.add(i);     // Over the threshold, so it flushes early
+
+                expected += i;
+
+                final CompletableFuture<Long> ack = this.acks.poll(5, TimeUnit.SECONDS);
+
+                assertNotNull("The flush was not sent", ack);
+
+                final CompletableFuture<Long> read = CompletableFuture.supplyAsync(counter::get);
+
+                assertFalse("The read did not wait for the flush", this.completesWithin(read, 50));
+
+                ack.complete(this.server.get());
+
+                assertEquals(expected, (long) read.get(5, TimeUnit.SECONDS));
+                assertEquals(expected, counter.get());
+            }
+
+            assertEquals(expected, this.server.get());
+        }
+    }
+
+    /**
+     * Return true if the future completes within the milliseconds.
+     *
+     * @param   future  java.util.concurrent.CompletableFuture&lt;java.lang.Long&gt;
+     * @param   millis  long
+     * @return          boolean
+     * @throws          java.lang.InterruptedException
+     */
+    private boolean completesWithin(final CompletableFuture<Long> future, final long millis) throws InterruptedException {
+        Thread.sleep(millis);
+
+        return future.isDone();
+    }
+
+    /**
+     * Return a striped counter configuration that
+     * flushes on every add, never on the timer, and
+     * reads Redis on every get.
+     *
+     * @return  net.jmp.demo.redis.config.StripedCounter
+     */
+    private StripedCounter stripedCounter() {
+        final StripedCounter stripedCounter = new StripedCounter();
+
+        stripedCounter.setName("striped-counter-test");
+        stripedCounter.setShards(1);
+        stripedCounter.setFlushInterval(TimeUnit.HOURS.toMillis(1));
+        stripedCounter.setFlushThreshold(1);
+        stripedCounter.setMaxStaleness(0);
+
+        return stripedCounter;
+    }
+
+    /**
+     * Return a client whose atomic long applies an
+     * INCRBY to the server at once and leaves its
+     * acknowledgement to the test.
+     *
+     * @return  org.redisson.api.RedissonClient
+     */
+    private RedissonClient client() {
+        final RAtomicLong atomicLong = (RAtomicLong) Proxy.newProxyInstance(
+                RAtomicLong.class.getClassLoader(),
+                new Class<?>[] {RAtomicLong.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "get" -> this.server.get();
+                    case "addAndGetAsync" -> {
+                        final CompletableFuture<Long> ack = new CompletableFuture<>();
+
+                        this.server.addAndGet((Long) args[0]);
+                        this.acks.add(ack);
+
+                        yield new CompletableFutureWrapper<>(ack);
+                    }
+                    default -> throw new UnsupportedOperationException(method.getName());
+                }
+        );
+
+        return (RedissonClient) Proxy.newProxyInstance(
+                RedissonClient.class.getClassLoader(),
+                new Class<?>[] {RedissonClient.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getAtomicLong" -> atomicLong;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                }
+        );
+    }
+}